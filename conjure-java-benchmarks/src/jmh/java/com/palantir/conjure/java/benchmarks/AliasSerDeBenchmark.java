@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.palantir.conjure.java.serialization.ObjectMappers;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares binding a list of a million aliased longs through the delegating creators and {@code @JsonValue} accessor
+ * with the primitive serializers generated by {@code useGeneratedJacksonSerializers}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings({"checkstyle:VisibilityModifier", "DesignForExtension"})
+public class AliasSerDeBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"REFLECTIVE", "GENERATED"})
+    public Binding binding;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private List<?> aliases;
+    private byte[] json;
+
+    @Setup
+    public void before() throws Exception {
+        ObjectMapper mapper = ObjectMappers.newServerObjectMapper();
+        JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, binding.aliasClass);
+        reader = mapper.readerFor(listType);
+        writer = mapper.writerFor(listType);
+        // Values beyond the int range, so that every element is read as a long
+        json = mapper.writeValueAsBytes(LongStream.range(0, SIZE)
+                .map(value -> value + Integer.MAX_VALUE)
+                .boxed()
+                .collect(Collectors.toList()));
+        aliases = reader.readValue(json);
+    }
+
+    @Benchmark
+    public Object deserialize() throws Exception {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(aliases);
+    }
+
+    public enum Binding {
+        REFLECTIVE(com.palantir.product.ExternalLongAliasExample.class),
+        GENERATED(com.palantir.serde.ExternalLongAliasExample.class);
+
+        private final Class<?> aliasClass;
+
+        Binding(Class<?> aliasClass) {
+            this.aliasClass = aliasClass;
+        }
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(AliasSerDeBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.google.common.io.ByteStreams;
+import com.palantir.conjure.java.undertow.lib.BinaryResponseBody;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import com.palantir.product.UndertowEteBinaryService;
+import com.palantir.tokens.auth.AuthHeader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/** {@link UndertowEteBinaryService} implementation which echoes request bodies. */
+final class BenchmarkBinaryResource implements UndertowEteBinaryService {
+
+    private static final byte[] PRESENT = "Hello World!".getBytes(StandardCharsets.UTF_8);
+
+    @Override
+    public BinaryResponseBody postBinary(AuthHeader _authHeader, InputStream body) {
+        return output -> ByteStreams.copy(body, output);
+    }
+
+    @Override
+    public BinaryResponseBody postBinaryThrows(AuthHeader _authHeader, int _bytesToRead, InputStream _body) {
+        throw new SafeRuntimeException("Not used by benchmarks");
+    }
+
+    @Override
+    public Optional<BinaryResponseBody> getOptionalBinaryPresent(AuthHeader _authHeader) {
+        return Optional.of(output -> output.write(PRESENT));
+    }
+
+    @Override
+    public Optional<BinaryResponseBody> getOptionalBinaryEmpty(AuthHeader _authHeader) {
+        return Optional.empty();
+    }
+
+    @Override
+    public BinaryResponseBody getBinaryFailure(AuthHeader _authHeader, int _numBytes) {
+        return _output -> {
+            throw new IOException("Not used by benchmarks");
+        };
+    }
+
+    @Override
+    public Optional<BinaryResponseBody> getAliased(AuthHeader _authHeader) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.palantir.conjure.java.serialization.ObjectMappers;
+
+/** Wire formats supported by the default {@code ConjureUndertowRuntime}. */
+public enum BenchmarkEncoding {
+    JSON("application/json", ObjectMappers.newClientObjectMapper()),
+    SMILE("application/x-jackson-smile", ObjectMappers.newSmileClientObjectMapper()),
+    CBOR("application/cbor", ObjectMappers.newCborClientObjectMapper());
+
+    private final String contentType;
+    private final ObjectMapper mapper;
+
+    BenchmarkEncoding(String contentType, ObjectMapper mapper) {
+        this.contentType = contentType;
+        this.mapper = mapper;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    byte[] serialize(Object value) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(value);
+    }
+}
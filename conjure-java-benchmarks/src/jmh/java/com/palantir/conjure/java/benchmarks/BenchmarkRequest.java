@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.palantir.logsafe.Preconditions;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+import java.util.Map;
+
+/** An immutable description of a request which may be replayed against an {@link InMemoryServer}. */
+final class BenchmarkRequest {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final HttpString method;
+    private final String path;
+    private final ImmutableList<Map.Entry<HttpString, String>> headers;
+    private final ImmutableList<Map.Entry<String, String>> queryParameters;
+    private final byte[] body;
+
+    private BenchmarkRequest(Builder builder) {
+        this.method = builder.method;
+        this.path = builder.path;
+        this.headers = builder.headers.build();
+        this.queryParameters = builder.queryParameters.build();
+        this.body = builder.body;
+    }
+
+    HttpString method() {
+        return method;
+    }
+
+    String path() {
+        return path;
+    }
+
+    ImmutableList<Map.Entry<HttpString, String>> headers() {
+        return headers;
+    }
+
+    ImmutableList<Map.Entry<String, String>> queryParameters() {
+        return queryParameters;
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    /** Creates a builder for a request which is authenticated with a static bearer token. */
+    static Builder builder(HttpString method, String path) {
+        return new Builder(method, path).header(Headers.AUTHORIZATION, "Bearer token");
+    }
+
+    static final class Builder {
+
+        private final HttpString method;
+        private final String path;
+        private final ImmutableList.Builder<Map.Entry<HttpString, String>> headers = ImmutableList.builder();
+        private final ImmutableList.Builder<Map.Entry<String, String>> queryParameters = ImmutableList.builder();
+        private byte[] body = EMPTY_BODY;
+
+        private Builder(HttpString method, String path) {
+            this.method = Preconditions.checkNotNull(method, "method is required");
+            this.path = Preconditions.checkNotNull(path, "path is required");
+        }
+
+        @CanIgnoreReturnValue
+        Builder header(HttpString name, String value) {
+            headers.add(Map.entry(name, value));
+            return this;
+        }
+
+        @CanIgnoreReturnValue
+        Builder queryParameter(String name, String value) {
+            queryParameters.add(Map.entry(name, value));
+            return this;
+        }
+
+        /** Sets the request body along with the corresponding {@code Content-Type} and {@code Content-Length}. */
+        @CanIgnoreReturnValue
+        Builder body(String contentType, byte[] value) {
+            body = Preconditions.checkNotNull(value, "body is required");
+            header(Headers.CONTENT_TYPE, contentType);
+            header(Headers.CONTENT_LENGTH, Integer.toString(value.length));
+            return this;
+        }
+
+        BenchmarkRequest build() {
+            return new BenchmarkRequest(this);
+        }
+    }
+}
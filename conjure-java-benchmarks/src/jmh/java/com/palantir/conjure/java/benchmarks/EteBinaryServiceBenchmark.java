@@ -0,0 +1,89 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Measures binary request and response bodies through the generated {@code EteBinaryServiceEndpoints}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings({"checkstyle:VisibilityModifier", "DesignForExtension"})
+public class EteBinaryServiceBenchmark {
+
+    @Param({"16", "65536", "1048576"})
+    public int bodySize;
+
+    private InMemoryServer server;
+    private BenchmarkRequest echoRequest;
+    private BenchmarkRequest optionalRequest;
+
+    @Setup
+    public void before() throws Exception {
+        server = InMemoryServer.create();
+        byte[] body = new byte[bodySize];
+        ThreadLocalRandom.current().nextBytes(body);
+        echoRequest = BenchmarkRequest.builder(Methods.POST, "/binary")
+                .body("application/octet-stream", body)
+                .build();
+        optionalRequest =
+                BenchmarkRequest.builder(Methods.GET, "/binary/optional/present").build();
+        server.verify(echoRequest, StatusCodes.OK);
+        server.verify(optionalRequest, StatusCodes.OK);
+    }
+
+    /** Streams the request body back to the client. */
+    @Benchmark
+    public HttpServerExchange echoBinary() throws Exception {
+        return server.execute(echoRequest);
+    }
+
+    @Benchmark
+    public HttpServerExchange optionalBinaryPresent() throws Exception {
+        return server.execute(optionalRequest);
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(EteBinaryServiceBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures request and response body handling through the generated {@code EteServiceEndpoints} for each supported
+ * encoding and several body sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings({"checkstyle:VisibilityModifier", "DesignForExtension"})
+public class EteServiceBodyBenchmark {
+
+    private static final int LIST_ELEMENT_SIZE = 16;
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    public BenchmarkEncoding encoding;
+
+    /** Approximate size of the serialized request body in bytes. */
+    @Param({"16", "1024", "65536"})
+    public int bodySize;
+
+    private InMemoryServer server;
+    private BenchmarkRequest aliasRequest;
+    private BenchmarkRequest listRequest;
+
+    @Setup
+    public void before() throws Exception {
+        server = InMemoryServer.create();
+        aliasRequest = BenchmarkRequest.builder(Methods.POST, "/base/notNullBody")
+                .header(Headers.ACCEPT, encoding.contentType())
+                .body(encoding.contentType(), encoding.serialize(Strings.repeat("a", bodySize)))
+                .build();
+        ImmutableList.Builder<String> elements = ImmutableList.builder();
+        for (int i = 0; i < Math.max(1, bodySize / LIST_ELEMENT_SIZE); i++) {
+            elements.add(Strings.padStart(Integer.toString(i), LIST_ELEMENT_SIZE, '0'));
+        }
+        listRequest = BenchmarkRequest.builder(Methods.POST, "/base/list/strings")
+                .body(encoding.contentType(), encoding.serialize(elements.build()))
+                .build();
+        server.verify(aliasRequest, StatusCodes.OK);
+        server.verify(listRequest, StatusCodes.NO_CONTENT);
+    }
+
+    /** Deserializes and echoes a string alias body, exercising both request and response encoding. */
+    @Benchmark
+    public HttpServerExchange echoAliasBody() throws Exception {
+        return server.execute(aliasRequest);
+    }
+
+    /** Deserializes a {@code list<string>} body with an empty response. */
+    @Benchmark
+    public HttpServerExchange receiveListOfStrings() throws Exception {
+        return server.execute(listRequest);
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(EteServiceBodyBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures endpoints without request bodies, isolating routing, authorization parsing and the
+ * {@code PlainSerDe} path, query and header parameter handling.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings("DesignForExtension")
+public class EteServiceParametersBenchmark {
+
+    private InMemoryServer server;
+    private BenchmarkRequest authRequest;
+    private BenchmarkRequest pathRequest;
+    private BenchmarkRequest queryRequest;
+    private BenchmarkRequest headerRequest;
+
+    @Setup
+    public void before() throws Exception {
+        server = InMemoryServer.create();
+        authRequest = BenchmarkRequest.builder(Methods.GET, "/base/string").build();
+        pathRequest = BenchmarkRequest.builder(Methods.GET, "/base/externalLong/1234567890")
+                .build();
+        queryRequest = BenchmarkRequest.builder(
+                        Methods.GET, "/base/datasets/ri.foundry.main.dataset.1234/strings")
+                .queryParameter("strings", "first")
+                .queryParameter("strings", "second")
+                .queryParameter("longs", "1234567890")
+                .queryParameter("ints", "1")
+                .queryParameter("ints", "2")
+                .build();
+        headerRequest = BenchmarkRequest.builder(Methods.GET, "/base/enum/header")
+                .header(HttpString.tryFromString("Custom-Header"), "VALUE")
+                .build();
+        server.verify(authRequest, StatusCodes.OK);
+        server.verify(pathRequest, StatusCodes.OK);
+        server.verify(queryRequest, StatusCodes.NO_CONTENT);
+        server.verify(headerRequest, StatusCodes.OK);
+    }
+
+    /** Bearer token parsing and a small JSON string response. */
+    @Benchmark
+    public HttpServerExchange authHeader() throws Exception {
+        return server.execute(authRequest);
+    }
+
+    @Benchmark
+    public HttpServerExchange pathParameter() throws Exception {
+        return server.execute(pathRequest);
+    }
+
+    @Benchmark
+    public HttpServerExchange queryParameters() throws Exception {
+        return server.execute(queryRequest);
+    }
+
+    @Benchmark
+    public HttpServerExchange headerParameter() throws Exception {
+        return server.execute(headerRequest);
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(EteServiceParametersBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.palantir.conjure.java.serialization.ObjectMappers;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares builder-based object deserialization with the constructor-binding deserializers generated by
+ * {@code useGeneratedJacksonSerializers}. The same definitions are generated into {@code com.palantir.product} and
+ * {@code com.palantir.serde}, so both bindings read identical payloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings({"checkstyle:VisibilityModifier", "DesignForExtension"})
+public class GeneratedDeserializerBenchmark {
+
+    private static final String MANY_FIELD_EXAMPLE = "{\"string\":\"string\",\"integer\":1,\"doubleValue\":1.5,"
+            + "\"optionalItem\":\"item\",\"items\":[\"a\",\"b\",\"c\"],\"set\":[\"d\",\"e\"],"
+            + "\"map\":{\"key\":\"value\"},\"alias\":\"alias\"}";
+
+    /** Most fields are absent, exercising the empty defaults of either binding. */
+    private static final String COLLECTIONS_TEST_OBJECT = "{\"items\":[\"a\"],\"alist\":[1,2]}";
+
+    @Param({"BUILDER", "GENERATED"})
+    public Binding binding;
+
+    private ObjectReader manyFieldExampleReader;
+    private ObjectReader collectionsTestObjectReader;
+    private byte[] manyFieldExample;
+    private byte[] collectionsTestObject;
+
+    @Setup
+    public void before() {
+        ObjectMapper mapper = ObjectMappers.newServerObjectMapper();
+        manyFieldExampleReader = mapper.readerFor(binding.manyFieldExample);
+        collectionsTestObjectReader = mapper.readerFor(binding.collectionsTestObject);
+        manyFieldExample = MANY_FIELD_EXAMPLE.getBytes(StandardCharsets.UTF_8);
+        collectionsTestObject = COLLECTIONS_TEST_OBJECT.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object manyFieldExample() throws Exception {
+        return manyFieldExampleReader.readValue(manyFieldExample);
+    }
+
+    @Benchmark
+    public Object collectionsTestObject() throws Exception {
+        return collectionsTestObjectReader.readValue(collectionsTestObject);
+    }
+
+    public enum Binding {
+        BUILDER(com.palantir.product.ManyFieldExample.class, com.palantir.product.CollectionsTestObject.class),
+        GENERATED(com.palantir.serde.ManyFieldExample.class, com.palantir.serde.CollectionsTestObject.class);
+
+        private final Class<?> manyFieldExample;
+        private final Class<?> collectionsTestObject;
+
+        Binding(Class<?> manyFieldExample, Class<?> collectionsTestObject) {
+            this.manyFieldExample = manyFieldExample;
+            this.collectionsTestObject = collectionsTestObject;
+        }
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(GeneratedDeserializerBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
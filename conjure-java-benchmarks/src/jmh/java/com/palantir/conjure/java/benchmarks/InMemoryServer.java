@@ -0,0 +1,142 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.palantir.conjure.java.undertow.runtime.ConjureHandler;
+import com.palantir.conjure.java.undertow.runtime.ConjureUndertowRuntime;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import com.palantir.product.EteBinaryServiceEndpoints;
+import com.palantir.product.EteServiceEndpoints;
+import io.undertow.UndertowOptions;
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.server.DefaultByteBufferPool;
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.protocol.http.HttpServerConnection;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.HttpString;
+import io.undertow.util.Protocols;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.xnio.OptionMap;
+
+/**
+ * Executes requests against a {@link ConjureHandler} using {@link HttpServerExchange exchanges} which are not backed
+ * by sockets. The full handler chain is exercised, including routing, tracing, blocking dispatch, authorization
+ * parsing and body serialization, while Undertow's HTTP/1.1 parsing and framing is not.
+ *
+ * <p>Instances are not thread safe and should be scoped to a single benchmark thread.
+ */
+final class InMemoryServer {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final HttpHandler handler;
+    private final HttpServerConnection connection;
+    private ResponseBodyConduit lastResponse;
+
+    private InMemoryServer(HttpHandler handler) {
+        this.handler = handler;
+        ByteBufferPool bufferPool = new DefaultByteBufferPool(true, BUFFER_SIZE);
+        this.connection = new HttpServerConnection(
+                new InMemoryStreamConnection(), bufferPool, handler, OptionMap.EMPTY, BUFFER_SIZE, null);
+    }
+
+    /** Creates a server hosting the generated {@code EteService} and {@code EteBinaryService} endpoints. */
+    static InMemoryServer create(ConjureUndertowRuntime runtime) {
+        return new InMemoryServer(ConjureHandler.builder()
+                .runtime(runtime)
+                .services(EteServiceEndpoints.of(new BenchmarkEteResource()))
+                .services(EteBinaryServiceEndpoints.of(new BenchmarkBinaryResource()))
+                .build());
+    }
+
+    static InMemoryServer create() {
+        return create(ConjureUndertowRuntime.builder().build());
+    }
+
+    /** Executes the request to completion, returning the completed exchange. */
+    @SuppressWarnings("ForLoopReplaceableByForEach") // avoid measuring iterator allocation
+    HttpServerExchange execute(BenchmarkRequest request) throws Exception {
+        HeaderMap requestHeaders = new HeaderMap();
+        List<Map.Entry<HttpString, String>> headers = request.headers();
+        for (int i = 0; i < headers.size(); i++) {
+            Map.Entry<HttpString, String> header = headers.get(i);
+            requestHeaders.add(header.getKey(), header.getValue());
+        }
+        HttpServerExchange exchange = new HttpServerExchange(
+                connection, requestHeaders, new HeaderMap(), UndertowOptions.DEFAULT_MAX_ENTITY_SIZE);
+        exchange.setProtocol(Protocols.HTTP_1_1);
+        exchange.setRequestScheme("https");
+        exchange.setRequestMethod(request.method());
+        exchange.setRequestURI(request.path());
+        exchange.setRequestPath(request.path());
+        exchange.setRelativePath(request.path());
+        List<Map.Entry<String, String>> queryParameters = request.queryParameters();
+        for (int i = 0; i < queryParameters.size(); i++) {
+            Map.Entry<String, String> queryParameter = queryParameters.get(i);
+            exchange.addQueryParam(queryParameter.getKey(), queryParameter.getValue());
+        }
+        // Completion listeners are invoked in reverse order, this one runs last and intentionally does not proceed
+        // to the connection, which expects state from the HTTP parser that isn't present without a socket.
+        exchange.addExchangeCompleteListener(DetachedCompletionListener.INSTANCE);
+        exchange.addRequestWrapper((factory, ex) ->
+                new RequestBodyConduit(factory.create(), ex, ByteBuffer.wrap(request.body())));
+        exchange.addResponseWrapper((factory, ex) -> {
+            ResponseBodyConduit response = new ResponseBodyConduit(factory.create(), ex);
+            lastResponse = response;
+            return response;
+        });
+        lastResponse = null;
+        handler.handleRequest(exchange);
+        exchange.endExchange();
+        return exchange;
+    }
+
+    /** Executes the request, failing if the response status does not match. */
+    HttpServerExchange verify(BenchmarkRequest request, int expectedStatus) throws Exception {
+        HttpServerExchange exchange = execute(request);
+        if (exchange.getStatusCode() != expectedStatus) {
+            throw new SafeIllegalStateException(
+                    "Unexpected response status",
+                    SafeArg.of("path", request.path()),
+                    SafeArg.of("expected", expectedStatus),
+                    SafeArg.of("actual", exchange.getStatusCode()));
+        }
+        return exchange;
+    }
+
+    /** Number of response body bytes written by the most recent request. */
+    long lastResponseBytes() {
+        return lastResponse == null ? 0 : lastResponse.bytesWritten();
+    }
+
+    /** Number of writes which reached the connection for the most recent request. */
+    int lastResponseWrites() {
+        return lastResponse == null ? 0 : lastResponse.writes();
+    }
+
+    private enum DetachedCompletionListener implements ExchangeCompletionListener {
+        INSTANCE;
+
+        @Override
+        public void exchangeEvent(HttpServerExchange _exchange, NextListener _nextListener) {}
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import org.xnio.StreamConnection;
+import org.xnio.conduits.EmptyStreamSourceConduit;
+import org.xnio.conduits.NullStreamSinkConduit;
+
+/**
+ * A {@link StreamConnection} which is not backed by a socket. Request and response bodies are provided per-exchange
+ * using conduit wrappers, see {@link InMemoryServer}.
+ *
+ * <p>The connection has no io thread, so {@link io.undertow.server.HttpServerExchange#isInIoThread()} is always
+ * false and blocking handlers execute inline on the benchmark thread.
+ */
+final class InMemoryStreamConnection extends StreamConnection {
+
+    private static final SocketAddress ADDRESS = InetSocketAddress.createUnresolved("localhost", 8443);
+
+    InMemoryStreamConnection() {
+        super(null);
+        setSourceConduit(new EmptyStreamSourceConduit(null));
+        setSinkConduit(new NullStreamSinkConduit(null));
+    }
+
+    @Override
+    protected void notifyWriteClosed() {}
+
+    @Override
+    protected void notifyReadClosed() {}
+
+    @Override
+    public SocketAddress getPeerAddress() {
+        return ADDRESS;
+    }
+
+    @Override
+    public SocketAddress getLocalAddress() {
+        return ADDRESS;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import io.undertow.server.Connectors;
+import io.undertow.server.HttpServerExchange;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.xnio.channels.StreamSinkChannel;
+import org.xnio.conduits.AbstractStreamSourceConduit;
+import org.xnio.conduits.Conduits;
+import org.xnio.conduits.StreamSourceConduit;
+
+/** Serves a request body from memory and terminates the request once it has been fully read. */
+final class RequestBodyConduit extends AbstractStreamSourceConduit<StreamSourceConduit> {
+
+    private final HttpServerExchange exchange;
+    private final ByteBuffer body;
+    private boolean terminated;
+
+    RequestBodyConduit(StreamSourceConduit next, HttpServerExchange exchange, ByteBuffer body) {
+        super(next);
+        this.exchange = exchange;
+        this.body = body;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+        if (!body.hasRemaining()) {
+            return endOfStream();
+        }
+        int length = Math.min(dst.remaining(), body.remaining());
+        ByteBuffer slice = body.duplicate();
+        slice.limit(slice.position() + length);
+        dst.put(slice);
+        body.position(body.position() + length);
+        return length;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offs, int len) {
+        if (!body.hasRemaining()) {
+            return endOfStream();
+        }
+        long total = 0;
+        for (int i = offs; i < offs + len && body.hasRemaining(); i++) {
+            total += read(dsts[i]);
+        }
+        return total;
+    }
+
+    @Override
+    public long transferTo(long position, long count, FileChannel target) throws IOException {
+        ByteBuffer slice = body.duplicate();
+        slice.limit(slice.position() + (int) Math.min(count, body.remaining()));
+        int written = target.write(slice, position);
+        body.position(body.position() + written);
+        return written;
+    }
+
+    @Override
+    public long transferTo(long count, ByteBuffer throughBuffer, StreamSinkChannel target) throws IOException {
+        return Conduits.transfer(this, count, throughBuffer, target);
+    }
+
+    @Override
+    public void terminateReads() {
+        // The underlying conduit is shared by all exchanges on the connection and must not be terminated.
+        endOfStream();
+    }
+
+    @Override
+    public boolean isReadShutdown() {
+        return terminated;
+    }
+
+    private int endOfStream() {
+        if (!terminated) {
+            terminated = true;
+            Connectors.terminateRequest(exchange);
+        }
+        return -1;
+    }
+}
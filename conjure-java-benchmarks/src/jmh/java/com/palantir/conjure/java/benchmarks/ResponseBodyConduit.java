@@ -0,0 +1,122 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import io.undertow.server.Connectors;
+import io.undertow.server.HttpServerExchange;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import org.xnio.channels.StreamSourceChannel;
+import org.xnio.conduits.AbstractStreamSinkConduit;
+import org.xnio.conduits.Conduits;
+import org.xnio.conduits.StreamSinkConduit;
+
+/**
+ * Discards response bytes, recording how many were written, and terminates the response once writes are shut down.
+ */
+final class ResponseBodyConduit extends AbstractStreamSinkConduit<StreamSinkConduit> {
+
+    private final HttpServerExchange exchange;
+    private long bytesWritten;
+    private int writes;
+    private boolean terminated;
+
+    ResponseBodyConduit(StreamSinkConduit next, HttpServerExchange exchange) {
+        super(next);
+        this.exchange = exchange;
+    }
+
+    /** Total number of body bytes written to this conduit. */
+    long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /** Number of write operations which reached this conduit, a rough proxy for the number of socket writes. */
+    int writes() {
+        return writes;
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+        int length = src.remaining();
+        src.position(src.limit());
+        bytesWritten += length;
+        writes++;
+        return length;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offs, int len) {
+        long total = 0;
+        for (int i = offs; i < offs + len; i++) {
+            ByteBuffer src = srcs[i];
+            total += src.remaining();
+            src.position(src.limit());
+        }
+        bytesWritten += total;
+        writes++;
+        return total;
+    }
+
+    @Override
+    public int writeFinal(ByteBuffer src) throws IOException {
+        return Conduits.writeFinalBasic(this, src);
+    }
+
+    @Override
+    public long writeFinal(ByteBuffer[] srcs, int offs, int len) throws IOException {
+        return Conduits.writeFinalBasic(this, srcs, offs, len);
+    }
+
+    @Override
+    public long transferFrom(FileChannel src, long position, long count) throws IOException {
+        long transferred = Math.max(0, Math.min(count, src.size() - position));
+        bytesWritten += transferred;
+        writes++;
+        return transferred;
+    }
+
+    @Override
+    public long transferFrom(StreamSourceChannel source, long count, ByteBuffer throughBuffer) throws IOException {
+        return Conduits.transfer(source, count, throughBuffer, this);
+    }
+
+    @Override
+    public boolean flush() {
+        return true;
+    }
+
+    @Override
+    public void terminateWrites() {
+        // The underlying conduit is shared by all exchanges on the connection and must not be terminated.
+        if (!terminated) {
+            terminated = true;
+            Connectors.terminateResponse(exchange);
+        }
+    }
+
+    @Override
+    public void truncateWrites() {
+        terminateWrites();
+    }
+
+    @Override
+    public boolean isWriteShutdown() {
+        return terminated;
+    }
+}
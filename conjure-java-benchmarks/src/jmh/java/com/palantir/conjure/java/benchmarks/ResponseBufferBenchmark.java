@@ -0,0 +1,121 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.benchmarks;
+
+import com.google.common.base.Strings;
+import com.palantir.conjure.java.undertow.runtime.ConjureUndertowRuntime;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares streamed responses with responses buffered by {@link ConjureUndertowRuntime.Builder#responseBufferSize}.
+ * In addition to latency, the {@link WireCounters} report how many bytes and writes reach the connection and how many
+ * responses were sent with a {@code Content-Length} rather than chunked encoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings({"checkstyle:VisibilityModifier", "DesignForExtension"})
+public class ResponseBufferBenchmark {
+
+    /** Zero streams responses through the exchange output stream. */
+    @Param({"0", "65536"})
+    public int responseBufferSize;
+
+    /** Approximate size of the serialized response body in bytes. */
+    @Param({"1024", "32768", "131072"})
+    public int bodySize;
+
+    private InMemoryServer server;
+    private BenchmarkRequest request;
+
+    @Setup
+    public void before() throws Exception {
+        server = InMemoryServer.create(ConjureUndertowRuntime.builder()
+                .responseBufferSize(responseBufferSize)
+                .build());
+        BenchmarkEncoding encoding = BenchmarkEncoding.JSON;
+        request = BenchmarkRequest.builder(Methods.POST, "/base/notNullBody")
+                .header(Headers.ACCEPT, encoding.contentType())
+                .body(encoding.contentType(), encoding.serialize(Strings.repeat("a", bodySize)))
+                .build();
+        server.verify(request, StatusCodes.OK);
+    }
+
+    @Benchmark
+    public HttpServerExchange echoAliasBody(WireCounters counters) throws Exception {
+        HttpServerExchange exchange = server.execute(request);
+        counters.record(server, exchange);
+        return exchange;
+    }
+
+    /** Totals are reported per second of measurement, divide by the operation rate for per-request values. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireCounters {
+
+        public long responseBytes;
+        public long responseWrites;
+        public long contentLengthResponses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            responseBytes = 0;
+            responseWrites = 0;
+            contentLengthResponses = 0;
+        }
+
+        void record(InMemoryServer server, HttpServerExchange exchange) {
+            responseBytes += server.lastResponseBytes();
+            responseWrites += server.lastResponseWrites();
+            if (exchange.getResponseHeaders().contains(Headers.CONTENT_LENGTH)) {
+                contentLengthResponses++;
+            }
+        }
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ResponseBufferBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.google.common.collect.ImmutableList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@code Accept} and {@code Content-Type} resolution with and without the {@link EncodingResolver} cache. This
+ * benchmark lives in the runtime package to access package-private internals.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings({"checkstyle:VisibilityModifier", "DesignForExtension"})
+public class EncodingResolverBenchmark {
+
+    private static final String CONTENT_TYPE = "application/x-jackson-smile; charset=utf-8";
+
+    @Param({
+        "application/json",
+        "application/x-jackson-smile, application/json",
+        "text/html, application/xhtml+xml, application/xml;q=0.9, */*;q=0.8"
+    })
+    public String accept;
+
+    private ImmutableList<Encoding> encodings;
+    private EncodingResolver resolver;
+
+    @Setup
+    public void before() {
+        encodings = ImmutableList.of(Encodings.json(), Encodings.smile(), Encodings.cbor());
+        resolver = new EncodingResolver(encodings);
+    }
+
+    @Benchmark
+    public int acceptUncached() {
+        return EncodingResolver.negotiate(encodings, accept);
+    }
+
+    @Benchmark
+    public int acceptCached() {
+        return resolver.forAccept(accept);
+    }
+
+    @Benchmark
+    public int contentTypeCached() {
+        return resolver.forContentType(CONTENT_TYPE);
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(EncodingResolverBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
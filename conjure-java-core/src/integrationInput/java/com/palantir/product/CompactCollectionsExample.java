@@ -0,0 +1,206 @@
+package com.palantir.product;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.palantir.conjure.java.lib.internal.ConjureCollections;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonDeserialize(builder = CompactCollectionsExample.Builder.class)
+@Generated("com.palantir.conjure.java.types.BeanGenerator")
+public final class CompactCollectionsExample {
+    private final List<String> items;
+
+    private final Set<String> itemsSet;
+
+    private final Map<String, Integer> itemsMap;
+
+    private int memoizedHashCode;
+
+    private CompactCollectionsExample(List<String> items, Set<String> itemsSet, Map<String, Integer> itemsMap) {
+        validateFields(items, itemsSet, itemsMap);
+        this.items = ConjureCollections.immutableList(items);
+        this.itemsSet = ConjureCollections.immutableSet(itemsSet);
+        this.itemsMap = ConjureCollections.immutableMap(itemsMap);
+    }
+
+    @JsonProperty("items")
+    public List<String> getItems() {
+        return this.items;
+    }
+
+    @JsonProperty("itemsSet")
+    public Set<String> getItemsSet() {
+        return this.itemsSet;
+    }
+
+    @JsonProperty("itemsMap")
+    public Map<String, Integer> getItemsMap() {
+        return this.itemsMap;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof CompactCollectionsExample && equalTo((CompactCollectionsExample) other));
+    }
+
+    private boolean equalTo(CompactCollectionsExample other) {
+        return this.items.equals(other.items)
+                && this.itemsSet.equals(other.itemsSet)
+                && this.itemsMap.equals(other.itemsMap);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = memoizedHashCode;
+        if (result == 0) {
+            int hash = 1;
+            hash = 31 * hash + this.items.hashCode();
+            hash = 31 * hash + this.itemsSet.hashCode();
+            hash = 31 * hash + this.itemsMap.hashCode();
+            result = hash;
+            memoizedHashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CompactCollectionsExample{items: " + items + ", itemsSet: " + itemsSet + ", itemsMap: " + itemsMap
+                + '}';
+    }
+
+    public static CompactCollectionsExample of(
+            List<String> items, Set<String> itemsSet, Map<String, Integer> itemsMap) {
+        return builder().items(items).itemsSet(itemsSet).itemsMap(itemsMap).build();
+    }
+
+    private static void validateFields(List<String> items, Set<String> itemsSet, Map<String, Integer> itemsMap) {
+        List<String> missingFields = null;
+        missingFields = addFieldIfMissing(missingFields, items, "items");
+        missingFields = addFieldIfMissing(missingFields, itemsSet, "itemsSet");
+        missingFields = addFieldIfMissing(missingFields, itemsMap, "itemsMap");
+        if (missingFields != null) {
+            throw new SafeIllegalArgumentException(
+                    "Some required fields have not been set", SafeArg.of("missingFields", missingFields));
+        }
+    }
+
+    private static List<String> addFieldIfMissing(List<String> prev, Object fieldValue, String fieldName) {
+        List<String> missingFields = prev;
+        if (fieldValue == null) {
+            if (missingFields == null) {
+                missingFields = new ArrayList<>(3);
+            }
+            missingFields.add(fieldName);
+        }
+        return missingFields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanBuilderGenerator")
+    public static final class Builder {
+        boolean _buildInvoked;
+
+        private List<String> items = new ArrayList<>();
+
+        private Set<String> itemsSet = new LinkedHashSet<>();
+
+        private Map<String, Integer> itemsMap = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        public Builder from(CompactCollectionsExample other) {
+            checkNotBuilt();
+            items(other.getItems());
+            itemsSet(other.getItemsSet());
+            itemsMap(other.getItemsMap());
+            return this;
+        }
+
+        @JsonSetter(value = "items", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder items(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            this.items.clear();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        public Builder addAllItems(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        public Builder items(String items) {
+            checkNotBuilt();
+            this.items.add(items);
+            return this;
+        }
+
+        @JsonSetter(value = "itemsSet", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder itemsSet(@Nonnull Iterable<String> itemsSet) {
+            checkNotBuilt();
+            this.itemsSet.clear();
+            ConjureCollections.addAll(this.itemsSet, Preconditions.checkNotNull(itemsSet, "itemsSet cannot be null"));
+            return this;
+        }
+
+        public Builder addAllItemsSet(@Nonnull Iterable<String> itemsSet) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.itemsSet, Preconditions.checkNotNull(itemsSet, "itemsSet cannot be null"));
+            return this;
+        }
+
+        public Builder itemsSet(String itemsSet) {
+            checkNotBuilt();
+            this.itemsSet.add(itemsSet);
+            return this;
+        }
+
+        @JsonSetter(value = "itemsMap", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder itemsMap(@Nonnull Map<String, Integer> itemsMap) {
+            checkNotBuilt();
+            this.itemsMap.clear();
+            this.itemsMap.putAll(Preconditions.checkNotNull(itemsMap, "itemsMap cannot be null"));
+            return this;
+        }
+
+        public Builder putAllItemsMap(@Nonnull Map<String, Integer> itemsMap) {
+            checkNotBuilt();
+            this.itemsMap.putAll(Preconditions.checkNotNull(itemsMap, "itemsMap cannot be null"));
+            return this;
+        }
+
+        public Builder itemsMap(String key, int value) {
+            checkNotBuilt();
+            this.itemsMap.put(key, value);
+            return this;
+        }
+
+        public CompactCollectionsExample build() {
+            checkNotBuilt();
+            this._buildInvoked = true;
+            return new CompactCollectionsExample(items, itemsSet, itemsMap);
+        }
+
+        private void checkNotBuilt() {
+            Preconditions.checkState(!_buildInvoked, "Build has already been called");
+        }
+    }
+}
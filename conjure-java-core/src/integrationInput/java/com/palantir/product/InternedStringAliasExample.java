@@ -0,0 +1,51 @@
+package com.palantir.product;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.palantir.conjure.java.lib.internal.WeakInterner;
+import com.palantir.logsafe.Preconditions;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@Generated("com.palantir.conjure.java.types.AliasGenerator")
+public final class InternedStringAliasExample {
+    private final String value;
+
+    private static final WeakInterner<InternedStringAliasExample> interner =
+            WeakInterner.create(InternedStringAliasExample::new, InternedStringAliasExample::get);
+
+    private InternedStringAliasExample(@Nonnull String value) {
+        this.value = Preconditions.checkNotNull(value, "value cannot be null");
+    }
+
+    @JsonValue
+    public String get() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof InternedStringAliasExample
+                        && this.value.equals(((InternedStringAliasExample) other).value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    public static InternedStringAliasExample valueOf(String value) {
+        return of(value);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static InternedStringAliasExample of(@Nonnull String value) {
+        return interner.intern(Preconditions.checkNotNull(value, "value cannot be null"));
+    }
+}
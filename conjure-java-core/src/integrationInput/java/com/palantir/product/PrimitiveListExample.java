@@ -0,0 +1,209 @@
+package com.palantir.product;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.palantir.conjure.java.lib.internal.ConjureCollections;
+import com.palantir.conjure.java.lib.internal.ConjureDoubleList;
+import com.palantir.conjure.java.lib.internal.ConjureIntegerList;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonDeserialize(builder = PrimitiveListExample.Builder.class)
+@Generated("com.palantir.conjure.java.types.BeanGenerator")
+public final class PrimitiveListExample {
+    private final List<String> items;
+
+    private final List<Integer> primitiveItems;
+
+    private final List<Double> doubleItems;
+
+    private int memoizedHashCode;
+
+    private PrimitiveListExample(List<String> items, List<Integer> primitiveItems, List<Double> doubleItems) {
+        validateFields(items, primitiveItems, doubleItems);
+        this.items = Collections.unmodifiableList(items);
+        this.primitiveItems = ConjureIntegerList.unmodifiable(primitiveItems);
+        this.doubleItems = ConjureDoubleList.unmodifiable(doubleItems);
+    }
+
+    @JsonProperty("items")
+    public List<String> getItems() {
+        return this.items;
+    }
+
+    @JsonProperty("primitiveItems")
+    public List<Integer> getPrimitiveItems() {
+        return this.primitiveItems;
+    }
+
+    @JsonProperty("doubleItems")
+    public List<Double> getDoubleItems() {
+        return this.doubleItems;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof PrimitiveListExample && equalTo((PrimitiveListExample) other));
+    }
+
+    private boolean equalTo(PrimitiveListExample other) {
+        return this.items.equals(other.items)
+                && this.primitiveItems.equals(other.primitiveItems)
+                && this.doubleItems.equals(other.doubleItems);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = memoizedHashCode;
+        if (result == 0) {
+            int hash = 1;
+            hash = 31 * hash + this.items.hashCode();
+            hash = 31 * hash + this.primitiveItems.hashCode();
+            hash = 31 * hash + this.doubleItems.hashCode();
+            result = hash;
+            memoizedHashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PrimitiveListExample{items: " + items + ", primitiveItems: " + primitiveItems + ", doubleItems: "
+                + doubleItems + '}';
+    }
+
+    public static PrimitiveListExample of(List<String> items, List<Integer> primitiveItems, List<Double> doubleItems) {
+        return builder().items(items).primitiveItems(primitiveItems).doubleItems(doubleItems).build();
+    }
+
+    private static void validateFields(List<String> items, List<Integer> primitiveItems, List<Double> doubleItems) {
+        List<String> missingFields = null;
+        missingFields = addFieldIfMissing(missingFields, items, "items");
+        missingFields = addFieldIfMissing(missingFields, primitiveItems, "primitiveItems");
+        missingFields = addFieldIfMissing(missingFields, doubleItems, "doubleItems");
+        if (missingFields != null) {
+            throw new SafeIllegalArgumentException(
+                    "Some required fields have not been set", SafeArg.of("missingFields", missingFields));
+        }
+    }
+
+    private static List<String> addFieldIfMissing(List<String> prev, Object fieldValue, String fieldName) {
+        List<String> missingFields = prev;
+        if (fieldValue == null) {
+            if (missingFields == null) {
+                missingFields = new ArrayList<>(3);
+            }
+            missingFields.add(fieldName);
+        }
+        return missingFields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanBuilderGenerator")
+    public static final class Builder {
+        boolean _buildInvoked;
+
+        private List<String> items = new ArrayList<>();
+
+        private List<Integer> primitiveItems = new ConjureIntegerList();
+
+        private List<Double> doubleItems = new ConjureDoubleList();
+
+        private Builder() {}
+
+        public Builder from(PrimitiveListExample other) {
+            checkNotBuilt();
+            items(other.getItems());
+            primitiveItems(other.getPrimitiveItems());
+            doubleItems(other.getDoubleItems());
+            return this;
+        }
+
+        @JsonSetter(value = "items", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder items(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            this.items.clear();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        public Builder addAllItems(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        public Builder items(String items) {
+            checkNotBuilt();
+            this.items.add(items);
+            return this;
+        }
+
+        @JsonSetter(value = "primitiveItems", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        @JsonDeserialize(as = ConjureIntegerList.class)
+        public Builder primitiveItems(@Nonnull Iterable<Integer> primitiveItems) {
+            checkNotBuilt();
+            this.primitiveItems.clear();
+            ConjureCollections.addAll(
+                    this.primitiveItems, Preconditions.checkNotNull(primitiveItems, "primitiveItems cannot be null"));
+            return this;
+        }
+
+        public Builder addAllPrimitiveItems(@Nonnull Iterable<Integer> primitiveItems) {
+            checkNotBuilt();
+            ConjureCollections.addAll(
+                    this.primitiveItems, Preconditions.checkNotNull(primitiveItems, "primitiveItems cannot be null"));
+            return this;
+        }
+
+        public Builder primitiveItems(int primitiveItems) {
+            checkNotBuilt();
+            ((ConjureIntegerList) this.primitiveItems).addInt(primitiveItems);
+            return this;
+        }
+
+        @JsonSetter(value = "doubleItems", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        @JsonDeserialize(as = ConjureDoubleList.class)
+        public Builder doubleItems(@Nonnull Iterable<Double> doubleItems) {
+            checkNotBuilt();
+            this.doubleItems.clear();
+            ConjureCollections.addAll(
+                    this.doubleItems, Preconditions.checkNotNull(doubleItems, "doubleItems cannot be null"));
+            return this;
+        }
+
+        public Builder addAllDoubleItems(@Nonnull Iterable<Double> doubleItems) {
+            checkNotBuilt();
+            ConjureCollections.addAll(
+                    this.doubleItems, Preconditions.checkNotNull(doubleItems, "doubleItems cannot be null"));
+            return this;
+        }
+
+        public Builder doubleItems(double doubleItems) {
+            checkNotBuilt();
+            ((ConjureDoubleList) this.doubleItems).addDouble(doubleItems);
+            return this;
+        }
+
+        public PrimitiveListExample build() {
+            checkNotBuilt();
+            this._buildInvoked = true;
+            return new PrimitiveListExample(items, primitiveItems, doubleItems);
+        }
+
+        private void checkNotBuilt() {
+            Preconditions.checkState(!_buildInvoked, "Build has already been called");
+        }
+    }
+}
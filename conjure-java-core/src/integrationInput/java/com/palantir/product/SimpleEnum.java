@@ -3,6 +3,8 @@ package com.palantir.product;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.errorprone.annotations.Immutable;
+import com.palantir.conjure.java.lib.internal.ConjureEnums;
+import com.palantir.conjure.java.lib.internal.UnknownEnumValues;
 import com.palantir.logsafe.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,6 +30,9 @@ public final class SimpleEnum {
 
     private static final List<SimpleEnum> values = Collections.unmodifiableList(Arrays.asList(VALUE));
 
+    private static final UnknownEnumValues<SimpleEnum> unknownValues =
+            UnknownEnumValues.create(value -> new SimpleEnum(Value.UNKNOWN, value.toUpperCase(Locale.ROOT)));
+
     private final Value value;
 
     private final String string;
@@ -60,12 +65,26 @@ public final class SimpleEnum {
     @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
     public static SimpleEnum valueOf(@Nonnull String value) {
         Preconditions.checkNotNull(value, "value cannot be null");
-        String upperCasedValue = value.toUpperCase(Locale.ROOT);
-        switch (upperCasedValue) {
+        switch (value) {
             case "VALUE":
                 return VALUE;
             default:
-                return new SimpleEnum(Value.UNKNOWN, upperCasedValue);
+                SimpleEnum unknown = unknownValues.getIfPresent(value);
+                if (unknown != null) {
+                    return unknown;
+                }
+                if (ConjureEnums.isAscii(value)) {
+                    if (ConjureEnums.equalsIgnoreCaseAscii(value, "VALUE")) {
+                        return VALUE;
+                    }
+                    return unknownValues.get(value);
+                }
+                switch (value.toUpperCase(Locale.ROOT)) {
+                    case "VALUE":
+                        return VALUE;
+                    default:
+                        return unknownValues.get(value);
+                }
         }
     }
 
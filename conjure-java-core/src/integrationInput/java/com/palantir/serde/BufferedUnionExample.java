@@ -0,0 +1,392 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.palantir.conjure.java.lib.internal.UnknownUnionProperties;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonDeserialize(using = BufferedUnionExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.UnionGenerator")
+public final class BufferedUnionExample {
+    private final Base value;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    private BufferedUnionExample(Base value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    private Base getValue() {
+        return value;
+    }
+
+    public static BufferedUnionExample foo(String value) {
+        return new BufferedUnionExample(new FooWrapper(value));
+    }
+
+    public static BufferedUnionExample unknown(String type, Object value) {
+        switch (Preconditions.checkNotNull(type, "Type is required")) {
+            case "foo":
+                throw new SafeIllegalArgumentException(
+                        "Unknown type cannot be created as the provided type is known: foo");
+            default:
+                return new BufferedUnionExample(
+                        new UnknownWrapper(type, UnknownUnionProperties.of(Collections.singletonMap(type, value))));
+        }
+    }
+
+    public <T> T accept(Visitor<T> visitor) {
+        return value.accept(visitor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof BufferedUnionExample && equalTo((BufferedUnionExample) other));
+    }
+
+    private boolean equalTo(BufferedUnionExample other) {
+        return this.value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "BufferedUnionExample{value: " + value + '}';
+    }
+
+    public interface Visitor<T> {
+        T visitFoo(String value);
+
+        T visitUnknown(String unknownType, Object unknownValue);
+
+        static <T> FooStageVisitorBuilder<T> builder() {
+            return new VisitorBuilder<T>();
+        }
+    }
+
+    private static final class VisitorBuilder<T>
+            implements FooStageVisitorBuilder<T>, UnknownStageVisitorBuilder<T>, Completed_StageVisitorBuilder<T> {
+        private Function<String, T> fooVisitor;
+
+        private BiFunction<String, Object, T> unknownVisitor;
+
+        @Override
+        public UnknownStageVisitorBuilder<T> foo(@Nonnull Function<String, T> fooVisitor) {
+            Preconditions.checkNotNull(fooVisitor, "fooVisitor cannot be null");
+            this.fooVisitor = fooVisitor;
+            return this;
+        }
+
+        @Override
+        public Completed_StageVisitorBuilder<T> unknown(@Nonnull BiFunction<String, Object, T> unknownVisitor) {
+            Preconditions.checkNotNull(unknownVisitor, "unknownVisitor cannot be null");
+            this.unknownVisitor = unknownVisitor;
+            return this;
+        }
+
+        @Override
+        public Completed_StageVisitorBuilder<T> unknown(@Nonnull Function<String, T> unknownVisitor) {
+            Preconditions.checkNotNull(unknownVisitor, "unknownVisitor cannot be null");
+            this.unknownVisitor = (unknownType, _unknownValue) -> unknownVisitor.apply(unknownType);
+            return this;
+        }
+
+        @Override
+        public Completed_StageVisitorBuilder<T> throwOnUnknown() {
+            this.unknownVisitor = (unknownType, _unknownValue) -> {
+                throw new SafeIllegalArgumentException(
+                        "Unknown variant of the 'BufferedUnionExample' union", SafeArg.of("unknownType", unknownType));
+            };
+            return this;
+        }
+
+        @Override
+        public Visitor<T> build() {
+            final Function<String, T> fooVisitor = this.fooVisitor;
+            final BiFunction<String, Object, T> unknownVisitor = this.unknownVisitor;
+            return new Visitor<T>() {
+                @Override
+                public T visitFoo(String value) {
+                    return fooVisitor.apply(value);
+                }
+
+                @Override
+                public T visitUnknown(String unknownType, Object unknownValue) {
+                    return unknownVisitor.apply(unknownType, unknownValue);
+                }
+            };
+        }
+    }
+
+    public interface FooStageVisitorBuilder<T> {
+        UnknownStageVisitorBuilder<T> foo(@Nonnull Function<String, T> fooVisitor);
+    }
+
+    public interface UnknownStageVisitorBuilder<T> {
+        Completed_StageVisitorBuilder<T> unknown(@Nonnull BiFunction<String, Object, T> unknownVisitor);
+
+        Completed_StageVisitorBuilder<T> unknown(@Nonnull Function<String, T> unknownVisitor);
+
+        Completed_StageVisitorBuilder<T> throwOnUnknown();
+    }
+
+    public interface Completed_StageVisitorBuilder<T> {
+        Visitor<T> build();
+    }
+
+    @JsonTypeInfo(
+            use = JsonTypeInfo.Id.NAME,
+            include = JsonTypeInfo.As.EXISTING_PROPERTY,
+            property = "type",
+            visible = true,
+            defaultImpl = UnknownWrapper.class)
+    @JsonSubTypes(@JsonSubTypes.Type(FooWrapper.class))
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private interface Base {
+        <T> T accept(Visitor<T> visitor);
+    }
+
+    @JsonTypeName("foo")
+    private static final class FooWrapper implements Base {
+        private final String value;
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        private FooWrapper(@JsonSetter("foo") @Nonnull String value) {
+            Preconditions.checkNotNull(value, "foo cannot be null");
+            this.value = value;
+        }
+
+        @JsonProperty(value = "type", index = 0)
+        private String getType() {
+            return "foo";
+        }
+
+        @JsonProperty("foo")
+        private String getValue() {
+            return value;
+        }
+
+        @Override
+        public <T> T accept(Visitor<T> visitor) {
+            return visitor.visitFoo(value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof FooWrapper && equalTo((FooWrapper) other));
+        }
+
+        private boolean equalTo(FooWrapper other) {
+            return this.value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "FooWrapper{value: " + value + '}';
+        }
+    }
+
+    private static final class UnknownWrapper implements Base, JsonSerializable {
+        private final String type;
+
+        private final UnknownUnionProperties value;
+
+        private UnknownWrapper(@Nonnull String type, @Nonnull UnknownUnionProperties value) {
+            Preconditions.checkNotNull(type, "type cannot be null");
+            Preconditions.checkNotNull(value, "value cannot be null");
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        public <T> T accept(Visitor<T> visitor) {
+            return visitor.visitUnknown(type, value.asMap().get(type));
+        }
+
+        @Override
+        public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(this);
+            gen.writeStringField("type", type);
+            value.writeTo(gen, serializers);
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+                throws IOException {
+            // The type is an existing property, so is written by serialize
+            serialize(gen, serializers);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof UnknownWrapper && equalTo((UnknownWrapper) other));
+        }
+
+        private boolean equalTo(UnknownWrapper other) {
+            return this.type.equals(other.type) && this.value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 1;
+            hash = 31 * hash + this.type.hashCode();
+            hash = 31 * hash + this.value.hashCode();
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "UnknownWrapper{type: " + type + ", value: " + value + '}';
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.UnionDeserializerGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<BufferedUnionExample> {
+        private JsonDeserializer<String> fooDeserializer;
+
+        private volatile boolean resolved;
+
+        JacksonDeserializer() {
+            super(BufferedUnionExample.class);
+        }
+
+        @Override
+        public BufferedUnionExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!resolved) {
+                resolveDeserializers(ctxt);
+            }
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (BufferedUnionExample) ctxt.handleUnexpectedToken(BufferedUnionExample.class, p);
+            }
+            TokenBuffer buffer = null;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (fieldName.equals("type")) {
+                    String type =
+                            p.hasToken(JsonToken.VALUE_NULL) ? null : StringDeserializer.instance.deserialize(p, ctxt);
+                    if (buffer == null) {
+                        p.nextToken();
+                        return deserializeMember(type, p, ctxt);
+                    }
+                    // Properties which preceded the discriminator are replayed ahead of the rest of the object
+                    JsonParser replay = JsonParserSequence.createFlattened(false, buffer.asParser(p), p);
+                    replay.nextToken();
+                    return deserializeMember(type, replay, ctxt);
+                }
+                if (buffer == null) {
+                    buffer = new TokenBuffer(p, ctxt);
+                }
+                buffer.writeFieldName(fieldName);
+                buffer.copyCurrentStructure(p);
+            }
+            return deserializeMember(null, p, ctxt);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        private BufferedUnionExample deserializeMember(String type, JsonParser p, DeserializationContext ctxt)
+                throws IOException {
+            try {
+                if (type != null) {
+                    switch (type) {
+                        case "foo":
+                            return new BufferedUnionExample(
+                                    new FooWrapper(readMember(p, ctxt, "foo", this.fooDeserializer, false)));
+                        default:
+                            break;
+                    }
+                }
+                // Unrecognized types are captured as unknown, and the wrapper rejects a missing type
+                return new BufferedUnionExample(new UnknownWrapper(type, UnknownUnionProperties.read(p, ctxt)));
+            } catch (RuntimeException e) {
+                return (BufferedUnionExample) ctxt.handleInstantiationProblem(BufferedUnionExample.class, null, e);
+            }
+        }
+
+        private synchronized void resolveDeserializers(DeserializationContext ctxt) throws JsonMappingException {
+            if (resolved) {
+                return;
+            }
+            this.fooDeserializer = findDeserializer(ctxt, String.class);
+            this.resolved = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> JsonDeserializer<T> findDeserializer(DeserializationContext ctxt, Type type)
+                throws JsonMappingException {
+            JavaType javaType = ctxt.getTypeFactory().constructType(type);
+            return (JsonDeserializer<T>) ctxt.findContextualValueDeserializer(javaType, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T readMember(
+                JsonParser p, DeserializationContext ctxt, String name, JsonDeserializer<T> deser, boolean asEmpty)
+                throws IOException {
+            T value = null;
+            for (JsonToken token = p.currentToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (!fieldName.equals(name)) {
+                    p.skipChildren();
+                } else if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                    try {
+                        value = deser.deserialize(p, ctxt);
+                    } catch (JsonMappingException | RuntimeException e) {
+                        throw JsonMappingException.wrapWithPath(e, BufferedUnionExample.class, name);
+                    }
+                }
+            }
+            if (value == null) {
+                value = asEmpty ? (T) deser.getEmptyValue(ctxt) : deser.getNullValue(ctxt);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,572 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.conjure.java.lib.internal.ConjureCollections;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonSerialize(using = CollectionsTestObject.JacksonSerializer.class)
+@JsonDeserialize(using = CollectionsTestObject.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.BeanGenerator")
+public final class CollectionsTestObject {
+    private final List<String> items;
+
+    private final Map<String, Integer> itemsMap;
+
+    private final Optional<String> optionalItem;
+
+    private final Set<String> itemsSet;
+
+    private final CollectionsTestAliasList alist;
+
+    private final CollectionsTestAliasSet aset;
+
+    private final CollectionsTestAliasMap amap;
+
+    private int memoizedHashCode;
+
+    private CollectionsTestObject(
+            List<String> items,
+            Map<String, Integer> itemsMap,
+            Optional<String> optionalItem,
+            Set<String> itemsSet,
+            CollectionsTestAliasList alist,
+            CollectionsTestAliasSet aset,
+            CollectionsTestAliasMap amap) {
+        validateFields(items, itemsMap, optionalItem, itemsSet, alist, aset, amap);
+        this.items = Collections.unmodifiableList(items);
+        this.itemsMap = Collections.unmodifiableMap(itemsMap);
+        this.optionalItem = optionalItem;
+        this.itemsSet = Collections.unmodifiableSet(itemsSet);
+        this.alist = alist;
+        this.aset = aset;
+        this.amap = amap;
+    }
+
+    @JsonProperty("items")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public List<String> getItems() {
+        return this.items;
+    }
+
+    @JsonProperty("itemsMap")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public Map<String, Integer> getItemsMap() {
+        return this.itemsMap;
+    }
+
+    @JsonProperty("optionalItem")
+    public Optional<String> getOptionalItem() {
+        return this.optionalItem;
+    }
+
+    @JsonProperty("itemsSet")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public Set<String> getItemsSet() {
+        return this.itemsSet;
+    }
+
+    @JsonProperty("alist")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public CollectionsTestAliasList getAlist() {
+        return this.alist;
+    }
+
+    @JsonProperty("aset")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public CollectionsTestAliasSet getAset() {
+        return this.aset;
+    }
+
+    @JsonProperty("amap")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public CollectionsTestAliasMap getAmap() {
+        return this.amap;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof CollectionsTestObject && equalTo((CollectionsTestObject) other));
+    }
+
+    private boolean equalTo(CollectionsTestObject other) {
+        return this.items.equals(other.items)
+                && this.itemsMap.equals(other.itemsMap)
+                && this.optionalItem.equals(other.optionalItem)
+                && this.itemsSet.equals(other.itemsSet)
+                && this.alist.equals(other.alist)
+                && this.aset.equals(other.aset)
+                && this.amap.equals(other.amap);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = memoizedHashCode;
+        if (result == 0) {
+            int hash = 1;
+            hash = 31 * hash + this.items.hashCode();
+            hash = 31 * hash + this.itemsMap.hashCode();
+            hash = 31 * hash + this.optionalItem.hashCode();
+            hash = 31 * hash + this.itemsSet.hashCode();
+            hash = 31 * hash + this.alist.hashCode();
+            hash = 31 * hash + this.aset.hashCode();
+            hash = 31 * hash + this.amap.hashCode();
+            result = hash;
+            memoizedHashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CollectionsTestObject{items: " + items + ", itemsMap: " + itemsMap + ", optionalItem: " + optionalItem
+                + ", itemsSet: " + itemsSet + ", alist: " + alist + ", aset: " + aset + ", amap: " + amap + '}';
+    }
+
+    private static void validateFields(
+            List<String> items,
+            Map<String, Integer> itemsMap,
+            Optional<String> optionalItem,
+            Set<String> itemsSet,
+            CollectionsTestAliasList alist,
+            CollectionsTestAliasSet aset,
+            CollectionsTestAliasMap amap) {
+        List<String> missingFields = null;
+        missingFields = addFieldIfMissing(missingFields, items, "items");
+        missingFields = addFieldIfMissing(missingFields, itemsMap, "itemsMap");
+        missingFields = addFieldIfMissing(missingFields, optionalItem, "optionalItem");
+        missingFields = addFieldIfMissing(missingFields, itemsSet, "itemsSet");
+        missingFields = addFieldIfMissing(missingFields, alist, "alist");
+        missingFields = addFieldIfMissing(missingFields, aset, "aset");
+        missingFields = addFieldIfMissing(missingFields, amap, "amap");
+        if (missingFields != null) {
+            throw new SafeIllegalArgumentException(
+                    "Some required fields have not been set", SafeArg.of("missingFields", missingFields));
+        }
+    }
+
+    private static List<String> addFieldIfMissing(List<String> prev, Object fieldValue, String fieldName) {
+        List<String> missingFields = prev;
+        if (fieldValue == null) {
+            if (missingFields == null) {
+                missingFields = new ArrayList<>(7);
+            }
+            missingFields.add(fieldName);
+        }
+        return missingFields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanBuilderGenerator")
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static final class Builder {
+        boolean _buildInvoked;
+
+        private List<String> items = new ArrayList<>();
+
+        private Map<String, Integer> itemsMap = new LinkedHashMap<>();
+
+        private Optional<String> optionalItem = Optional.empty();
+
+        private Set<String> itemsSet = new LinkedHashSet<>();
+
+        private CollectionsTestAliasList alist = CollectionsTestAliasList.empty();
+
+        private CollectionsTestAliasSet aset = CollectionsTestAliasSet.empty();
+
+        private CollectionsTestAliasMap amap = CollectionsTestAliasMap.empty();
+
+        private Builder() {}
+
+        public Builder from(CollectionsTestObject other) {
+            checkNotBuilt();
+            items(other.getItems());
+            itemsMap(other.getItemsMap());
+            optionalItem(other.getOptionalItem());
+            itemsSet(other.getItemsSet());
+            alist(other.getAlist());
+            aset(other.getAset());
+            amap(other.getAmap());
+            return this;
+        }
+
+        @JsonSetter(value = "items", nulls = Nulls.SKIP)
+        public Builder items(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            this.items.clear();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        public Builder addAllItems(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        public Builder items(String items) {
+            checkNotBuilt();
+            this.items.add(items);
+            return this;
+        }
+
+        @JsonSetter(value = "itemsMap", nulls = Nulls.SKIP)
+        public Builder itemsMap(@Nonnull Map<String, Integer> itemsMap) {
+            checkNotBuilt();
+            this.itemsMap.clear();
+            this.itemsMap.putAll(Preconditions.checkNotNull(itemsMap, "itemsMap cannot be null"));
+            return this;
+        }
+
+        public Builder putAllItemsMap(@Nonnull Map<String, Integer> itemsMap) {
+            checkNotBuilt();
+            this.itemsMap.putAll(Preconditions.checkNotNull(itemsMap, "itemsMap cannot be null"));
+            return this;
+        }
+
+        public Builder itemsMap(String key, int value) {
+            checkNotBuilt();
+            this.itemsMap.put(key, value);
+            return this;
+        }
+
+        @JsonSetter(value = "optionalItem", nulls = Nulls.SKIP)
+        public Builder optionalItem(@Nonnull Optional<String> optionalItem) {
+            checkNotBuilt();
+            this.optionalItem = Preconditions.checkNotNull(optionalItem, "optionalItem cannot be null");
+            return this;
+        }
+
+        public Builder optionalItem(@Nonnull String optionalItem) {
+            checkNotBuilt();
+            this.optionalItem = Optional.of(Preconditions.checkNotNull(optionalItem, "optionalItem cannot be null"));
+            return this;
+        }
+
+        @JsonSetter(value = "itemsSet", nulls = Nulls.SKIP)
+        public Builder itemsSet(@Nonnull Iterable<String> itemsSet) {
+            checkNotBuilt();
+            this.itemsSet.clear();
+            ConjureCollections.addAll(this.itemsSet, Preconditions.checkNotNull(itemsSet, "itemsSet cannot be null"));
+            return this;
+        }
+
+        public Builder addAllItemsSet(@Nonnull Iterable<String> itemsSet) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.itemsSet, Preconditions.checkNotNull(itemsSet, "itemsSet cannot be null"));
+            return this;
+        }
+
+        public Builder itemsSet(String itemsSet) {
+            checkNotBuilt();
+            this.itemsSet.add(itemsSet);
+            return this;
+        }
+
+        @JsonSetter(value = "alist", nulls = Nulls.AS_EMPTY)
+        public Builder alist(@Nonnull CollectionsTestAliasList alist) {
+            checkNotBuilt();
+            this.alist = Preconditions.checkNotNull(alist, "alist cannot be null");
+            return this;
+        }
+
+        @JsonSetter(value = "aset", nulls = Nulls.AS_EMPTY)
+        public Builder aset(@Nonnull CollectionsTestAliasSet aset) {
+            checkNotBuilt();
+            this.aset = Preconditions.checkNotNull(aset, "aset cannot be null");
+            return this;
+        }
+
+        @JsonSetter(value = "amap", nulls = Nulls.AS_EMPTY)
+        public Builder amap(@Nonnull CollectionsTestAliasMap amap) {
+            checkNotBuilt();
+            this.amap = Preconditions.checkNotNull(amap, "amap cannot be null");
+            return this;
+        }
+
+        public CollectionsTestObject build() {
+            checkNotBuilt();
+            this._buildInvoked = true;
+            return new CollectionsTestObject(items, itemsMap, optionalItem, itemsSet, alist, aset, amap);
+        }
+
+        private void checkNotBuilt() {
+            Preconditions.checkState(!_buildInvoked, "Build has already been called");
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<CollectionsTestObject> {
+        private static final SerializedString ITEMS = new SerializedString("items");
+
+        private static final SerializedString ITEMS_MAP = new SerializedString("itemsMap");
+
+        private static final SerializedString OPTIONAL_ITEM = new SerializedString("optionalItem");
+
+        private static final SerializedString ITEMS_SET = new SerializedString("itemsSet");
+
+        private static final SerializedString ALIST = new SerializedString("alist");
+
+        private static final SerializedString ASET = new SerializedString("aset");
+
+        private static final SerializedString AMAP = new SerializedString("amap");
+
+        private JsonSerializer<List<String>> itemsSerializer;
+
+        private JsonSerializer<Map<String, Integer>> itemsMapSerializer;
+
+        private JsonSerializer<Optional<String>> optionalItemSerializer;
+
+        private JsonSerializer<Set<String>> itemsSetSerializer;
+
+        private JsonSerializer<CollectionsTestAliasList> alistSerializer;
+
+        private JsonSerializer<CollectionsTestAliasSet> asetSerializer;
+
+        private JsonSerializer<CollectionsTestAliasMap> amapSerializer;
+
+        private volatile boolean resolved;
+
+        JacksonSerializer() {
+            super(CollectionsTestObject.class);
+        }
+
+        @Override
+        public void serialize(CollectionsTestObject value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (!resolved) {
+                resolveSerializers(provider);
+            }
+            gen.writeStartObject(value);
+            if (!value.items.isEmpty()) {
+                gen.writeFieldName(ITEMS);
+                this.itemsSerializer.serialize(value.items, gen, provider);
+            }
+            if (!value.itemsMap.isEmpty()) {
+                gen.writeFieldName(ITEMS_MAP);
+                this.itemsMapSerializer.serialize(value.itemsMap, gen, provider);
+            }
+            gen.writeFieldName(OPTIONAL_ITEM);
+            this.optionalItemSerializer.serialize(value.optionalItem, gen, provider);
+            if (!value.itemsSet.isEmpty()) {
+                gen.writeFieldName(ITEMS_SET);
+                this.itemsSetSerializer.serialize(value.itemsSet, gen, provider);
+            }
+            if (!this.alistSerializer.isEmpty(provider, value.alist)) {
+                gen.writeFieldName(ALIST);
+                this.alistSerializer.serialize(value.alist, gen, provider);
+            }
+            if (!this.asetSerializer.isEmpty(provider, value.aset)) {
+                gen.writeFieldName(ASET);
+                this.asetSerializer.serialize(value.aset, gen, provider);
+            }
+            if (!this.amapSerializer.isEmpty(provider, value.amap)) {
+                gen.writeFieldName(AMAP);
+                this.amapSerializer.serialize(value.amap, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+
+        private synchronized void resolveSerializers(SerializerProvider provider) throws JsonMappingException {
+            if (resolved) {
+                return;
+            }
+            this.itemsSerializer = findSerializer(provider, "items", new TypeReference<List<String>>() {}.getType());
+            this.itemsMapSerializer =
+                    findSerializer(provider, "itemsMap", new TypeReference<Map<String, Integer>>() {}.getType());
+            this.optionalItemSerializer =
+                    findSerializer(provider, "optionalItem", new TypeReference<Optional<String>>() {}.getType());
+            this.itemsSetSerializer =
+                    findSerializer(provider, "itemsSet", new TypeReference<Set<String>>() {}.getType());
+            this.alistSerializer = findSerializer(provider, "alist", CollectionsTestAliasList.class);
+            this.asetSerializer = findSerializer(provider, "aset", CollectionsTestAliasSet.class);
+            this.amapSerializer = findSerializer(provider, "amap", CollectionsTestAliasMap.class);
+            this.resolved = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> JsonSerializer<T> findSerializer(SerializerProvider provider, String name, Type type)
+                throws JsonMappingException {
+            JavaType javaType = provider.getTypeFactory().constructType(type);
+            BeanProperty property = new BeanProperty.Std(
+                    PropertyName.construct(name), javaType, null, null, PropertyMetadata.STD_OPTIONAL);
+            return (JsonSerializer<T>) provider.findPrimaryPropertySerializer(javaType, property);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<CollectionsTestObject> {
+        private JsonDeserializer<List<String>> itemsDeserializer;
+
+        private JsonDeserializer<Map<String, Integer>> itemsMapDeserializer;
+
+        private JsonDeserializer<Optional<String>> optionalItemDeserializer;
+
+        private JsonDeserializer<Set<String>> itemsSetDeserializer;
+
+        private JsonDeserializer<CollectionsTestAliasList> alistDeserializer;
+
+        private JsonDeserializer<CollectionsTestAliasSet> asetDeserializer;
+
+        private JsonDeserializer<CollectionsTestAliasMap> amapDeserializer;
+
+        private volatile boolean resolved;
+
+        JacksonDeserializer() {
+            super(CollectionsTestObject.class);
+        }
+
+        @Override
+        public CollectionsTestObject deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!resolved) {
+                resolveDeserializers(ctxt);
+            }
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (CollectionsTestObject) ctxt.handleUnexpectedToken(CollectionsTestObject.class, p);
+            }
+            List<String> items = Collections.emptyList();
+            Map<String, Integer> itemsMap = Collections.emptyMap();
+            Optional<String> optionalItem = Optional.empty();
+            Set<String> itemsSet = Collections.emptySet();
+            CollectionsTestAliasList alist = CollectionsTestAliasList.empty();
+            CollectionsTestAliasSet aset = CollectionsTestAliasSet.empty();
+            CollectionsTestAliasMap amap = CollectionsTestAliasMap.empty();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                try {
+                    switch (fieldName) {
+                        case "items":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                items = this.itemsDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "itemsMap":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                itemsMap = this.itemsMapDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "optionalItem":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                optionalItem = this.optionalItemDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "itemsSet":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                itemsSet = this.itemsSetDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "alist":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                alist = (CollectionsTestAliasList) this.alistDeserializer.getEmptyValue(ctxt);
+                            } else {
+                                alist = this.alistDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "aset":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                aset = (CollectionsTestAliasSet) this.asetDeserializer.getEmptyValue(ctxt);
+                            } else {
+                                aset = this.asetDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "amap":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                amap = (CollectionsTestAliasMap) this.amapDeserializer.getEmptyValue(ctxt);
+                            } else {
+                                amap = this.amapDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        default:
+                            p.skipChildren();
+                    }
+                } catch (JsonMappingException | RuntimeException e) {
+                    throw JsonMappingException.wrapWithPath(e, CollectionsTestObject.class, fieldName);
+                }
+            }
+            try {
+                return new CollectionsTestObject(items, itemsMap, optionalItem, itemsSet, alist, aset, amap);
+            } catch (RuntimeException e) {
+                return (CollectionsTestObject) ctxt.handleInstantiationProblem(CollectionsTestObject.class, null, e);
+            }
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        private synchronized void resolveDeserializers(DeserializationContext ctxt) throws JsonMappingException {
+            if (resolved) {
+                return;
+            }
+            this.itemsDeserializer =
+                    findDeserializer(ctxt, "items", new TypeReference<List<String>>() {}.getType(), Nulls.DEFAULT);
+            this.itemsMapDeserializer = findDeserializer(
+                    ctxt, "itemsMap", new TypeReference<Map<String, Integer>>() {}.getType(), Nulls.DEFAULT);
+            this.optionalItemDeserializer = findDeserializer(
+                    ctxt, "optionalItem", new TypeReference<Optional<String>>() {}.getType(), Nulls.DEFAULT);
+            this.itemsSetDeserializer = findDeserializer(
+                    ctxt, "itemsSet", new TypeReference<LinkedHashSet<String>>() {}.getType(), Nulls.DEFAULT);
+            this.alistDeserializer = findDeserializer(ctxt, "alist", CollectionsTestAliasList.class, Nulls.DEFAULT);
+            this.asetDeserializer = findDeserializer(ctxt, "aset", CollectionsTestAliasSet.class, Nulls.DEFAULT);
+            this.amapDeserializer = findDeserializer(ctxt, "amap", CollectionsTestAliasMap.class, Nulls.DEFAULT);
+            this.resolved = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> JsonDeserializer<T> findDeserializer(
+                DeserializationContext ctxt, String name, Type type, Nulls contentNulls) throws JsonMappingException {
+            JavaType javaType = ctxt.getTypeFactory().constructType(type);
+            // Mirrors the contentNulls behaviour declared by the builder's @JsonSetter annotations
+            BeanProperty property = new BeanProperty.Std(
+                    PropertyName.construct(name),
+                    javaType,
+                    null,
+                    null,
+                    PropertyMetadata.STD_OPTIONAL.withNulls(null, contentNulls));
+            return (JsonDeserializer<T>) ctxt.findContextualValueDeserializer(javaType, property);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.conjure.java.lib.SafeLong;
+import java.io.IOException;
+import java.math.BigDecimal;
+import javax.annotation.Generated;
+
+@JsonSerialize(using = DoubleAliasExample.JacksonSerializer.class)
+@JsonDeserialize(using = DoubleAliasExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.AliasGenerator")
+public final class DoubleAliasExample {
+    private final double value;
+
+    private DoubleAliasExample(double value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public double get() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof DoubleAliasExample
+                        && Double.doubleToLongBits(this.value)
+                                == Double.doubleToLongBits(((DoubleAliasExample) other).value));
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    public static DoubleAliasExample valueOf(String value) {
+        return of(Double.parseDouble(value));
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static DoubleAliasExample of(double value) {
+        return new DoubleAliasExample(value);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static DoubleAliasExample of(long value) {
+        long safeValue = SafeLong.of(value).longValue();
+        return new DoubleAliasExample((double) safeValue);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static DoubleAliasExample of(int value) {
+        return new DoubleAliasExample((double) value);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    private static DoubleAliasExample of(BigDecimal value) {
+        return new DoubleAliasExample(value.doubleValue());
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static DoubleAliasExample of(String value) {
+        switch (value) {
+            case "NaN":
+                return DoubleAliasExample.of(Double.NaN);
+            case "Infinity":
+                return DoubleAliasExample.of(Double.POSITIVE_INFINITY);
+            case "-Infinity":
+                return DoubleAliasExample.of(Double.NEGATIVE_INFINITY);
+            default:
+                throw new IllegalArgumentException("Cannot deserialize string into double: " + value);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<DoubleAliasExample> {
+        JacksonSerializer() {
+            super(DoubleAliasExample.class);
+        }
+
+        @Override
+        public void serialize(DoubleAliasExample value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeNumber(value.value);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<DoubleAliasExample> {
+        JacksonDeserializer() {
+            super(DoubleAliasExample.class);
+        }
+
+        @Override
+        public DoubleAliasExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            try {
+                if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+                    return DoubleAliasExample.of(p.getLongValue());
+                }
+                if (p.hasToken(JsonToken.VALUE_STRING)) {
+                    return DoubleAliasExample.of(p.getText());
+                }
+                return DoubleAliasExample.of(_parseDoublePrimitive(p, ctxt));
+            } catch (RuntimeException e) {
+                return (DoubleAliasExample) ctxt.handleInstantiationProblem(DoubleAliasExample.class, null, e);
+            }
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import javax.annotation.Generated;
+
+@JsonSerialize(using = ExternalLongAliasExample.JacksonSerializer.class)
+@JsonDeserialize(using = ExternalLongAliasExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.AliasGenerator")
+public final class ExternalLongAliasExample {
+    private final long value;
+
+    private ExternalLongAliasExample(long value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public long get() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof ExternalLongAliasExample
+                        && this.value == ((ExternalLongAliasExample) other).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static ExternalLongAliasExample valueOf(String value) {
+        return of(Long.valueOf(value));
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static ExternalLongAliasExample of(long value) {
+        return new ExternalLongAliasExample(value);
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<ExternalLongAliasExample> {
+        JacksonSerializer() {
+            super(ExternalLongAliasExample.class);
+        }
+
+        @Override
+        public void serialize(ExternalLongAliasExample value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeNumber(value.value);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<ExternalLongAliasExample> {
+        JacksonDeserializer() {
+            super(ExternalLongAliasExample.class);
+        }
+
+        @Override
+        public ExternalLongAliasExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return ExternalLongAliasExample.of(_parseLongPrimitive(p, ctxt));
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+}
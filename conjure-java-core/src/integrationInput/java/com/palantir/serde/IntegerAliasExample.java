@@ -0,0 +1,85 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import javax.annotation.Generated;
+
+@JsonSerialize(using = IntegerAliasExample.JacksonSerializer.class)
+@JsonDeserialize(using = IntegerAliasExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.AliasGenerator")
+public final class IntegerAliasExample {
+    private final int value;
+
+    private IntegerAliasExample(int value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public int get() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof IntegerAliasExample && this.value == ((IntegerAliasExample) other).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    public static IntegerAliasExample valueOf(String value) {
+        return of(Integer.parseInt(value));
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static IntegerAliasExample of(int value) {
+        return new IntegerAliasExample(value);
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<IntegerAliasExample> {
+        JacksonSerializer() {
+            super(IntegerAliasExample.class);
+        }
+
+        @Override
+        public void serialize(IntegerAliasExample value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeNumber(value.value);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<IntegerAliasExample> {
+        JacksonDeserializer() {
+            super(IntegerAliasExample.class);
+        }
+
+        @Override
+        public IntegerAliasExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return IntegerAliasExample.of(_parseIntPrimitive(p, ctxt));
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+}
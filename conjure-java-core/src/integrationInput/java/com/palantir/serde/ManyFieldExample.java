@@ -0,0 +1,713 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.conjure.java.lib.internal.ConjureCollections;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonSerialize(using = ManyFieldExample.JacksonSerializer.class)
+@JsonDeserialize(using = ManyFieldExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.BeanGenerator")
+public final class ManyFieldExample {
+    private final String string;
+
+    private final int integer;
+
+    private final double doubleValue;
+
+    private final Optional<String> optionalItem;
+
+    private final List<String> items;
+
+    private final Set<String> set;
+
+    private final Map<String, String> map;
+
+    private final StringAliasExample alias;
+
+    private int memoizedHashCode;
+
+    private ManyFieldExample(
+            String string,
+            int integer,
+            double doubleValue,
+            Optional<String> optionalItem,
+            List<String> items,
+            Set<String> set,
+            Map<String, String> map,
+            StringAliasExample alias) {
+        validateFields(string, optionalItem, items, set, map, alias);
+        this.string = string;
+        this.integer = integer;
+        this.doubleValue = doubleValue;
+        this.optionalItem = optionalItem;
+        this.items = Collections.unmodifiableList(items);
+        this.set = Collections.unmodifiableSet(set);
+        this.map = Collections.unmodifiableMap(map);
+        this.alias = alias;
+    }
+
+    /**
+     * docs for string field
+     */
+    @JsonProperty("string")
+    public String getString() {
+        return this.string;
+    }
+
+    /**
+     * docs for integer field
+     */
+    @JsonProperty("integer")
+    public int getInteger() {
+        return this.integer;
+    }
+
+    /**
+     * docs for doubleValue field
+     */
+    @JsonProperty("doubleValue")
+    public double getDoubleValue() {
+        return this.doubleValue;
+    }
+
+    /**
+     * docs for optionalItem field
+     * @deprecated an optional field is deprecated
+     */
+    @JsonProperty("optionalItem")
+    @JsonInclude(JsonInclude.Include.NON_ABSENT)
+    @Deprecated
+    public Optional<String> getOptionalItem() {
+        return this.optionalItem;
+    }
+
+    /**
+     * docs for items field with exciting character$ used by javapoet.
+     */
+    @JsonProperty("items")
+    public List<String> getItems() {
+        return this.items;
+    }
+
+    /**
+     * docs for set field
+     */
+    @JsonProperty("set")
+    public Set<String> getSet() {
+        return this.set;
+    }
+
+    /**
+     * @deprecated deprecation documentation.
+     */
+    @JsonProperty("map")
+    @Deprecated
+    public Map<String, String> getMap() {
+        return this.map;
+    }
+
+    /**
+     * docs for alias field
+     * @deprecated This field is deprecated.
+     */
+    @JsonProperty("alias")
+    @Deprecated
+    public StringAliasExample getAlias() {
+        return this.alias;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof ManyFieldExample && equalTo((ManyFieldExample) other));
+    }
+
+    private boolean equalTo(ManyFieldExample other) {
+        return this.string.equals(other.string)
+                && this.integer == other.integer
+                && Double.doubleToLongBits(this.doubleValue) == Double.doubleToLongBits(other.doubleValue)
+                && this.optionalItem.equals(other.optionalItem)
+                && this.items.equals(other.items)
+                && this.set.equals(other.set)
+                && this.map.equals(other.map)
+                && this.alias.equals(other.alias);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = memoizedHashCode;
+        if (result == 0) {
+            int hash = 1;
+            hash = 31 * hash + this.string.hashCode();
+            hash = 31 * hash + this.integer;
+            hash = 31 * hash + Double.hashCode(this.doubleValue);
+            hash = 31 * hash + this.optionalItem.hashCode();
+            hash = 31 * hash + this.items.hashCode();
+            hash = 31 * hash + this.set.hashCode();
+            hash = 31 * hash + this.map.hashCode();
+            hash = 31 * hash + this.alias.hashCode();
+            result = hash;
+            memoizedHashCode = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ManyFieldExample{string: " + string + ", integer: " + integer + ", doubleValue: " + doubleValue
+                + ", optionalItem: " + optionalItem + ", items: " + items + ", set: " + set + ", map: " + map
+                + ", alias: " + alias + '}';
+    }
+
+    private static void validateFields(
+            String string,
+            Optional<String> optionalItem,
+            List<String> items,
+            Set<String> set,
+            Map<String, String> map,
+            StringAliasExample alias) {
+        List<String> missingFields = null;
+        missingFields = addFieldIfMissing(missingFields, string, "string");
+        missingFields = addFieldIfMissing(missingFields, optionalItem, "optionalItem");
+        missingFields = addFieldIfMissing(missingFields, items, "items");
+        missingFields = addFieldIfMissing(missingFields, set, "set");
+        missingFields = addFieldIfMissing(missingFields, map, "map");
+        missingFields = addFieldIfMissing(missingFields, alias, "alias");
+        if (missingFields != null) {
+            throw new SafeIllegalArgumentException(
+                    "Some required fields have not been set", SafeArg.of("missingFields", missingFields));
+        }
+    }
+
+    private static List<String> addFieldIfMissing(List<String> prev, Object fieldValue, String fieldName) {
+        List<String> missingFields = prev;
+        if (fieldValue == null) {
+            if (missingFields == null) {
+                missingFields = new ArrayList<>(6);
+            }
+            missingFields.add(fieldName);
+        }
+        return missingFields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanBuilderGenerator")
+    public static final class Builder {
+        boolean _buildInvoked;
+
+        private String string;
+
+        private int integer;
+
+        private double doubleValue;
+
+        private Optional<String> optionalItem = Optional.empty();
+
+        private List<String> items = new ArrayList<>();
+
+        private Set<String> set = new LinkedHashSet<>();
+
+        private Map<String, String> map = new LinkedHashMap<>();
+
+        private StringAliasExample alias;
+
+        private boolean _integerInitialized = false;
+
+        private boolean _doubleValueInitialized = false;
+
+        private Builder() {}
+
+        public Builder from(ManyFieldExample other) {
+            checkNotBuilt();
+            string(other.getString());
+            integer(other.getInteger());
+            doubleValue(other.getDoubleValue());
+            optionalItem(other.getOptionalItem());
+            items(other.getItems());
+            set(other.getSet());
+            map(other.getMap());
+            alias(other.getAlias());
+            return this;
+        }
+
+        /**
+         * docs for string field
+         */
+        @JsonSetter("string")
+        public Builder string(@Nonnull String string) {
+            checkNotBuilt();
+            this.string = Preconditions.checkNotNull(string, "string cannot be null");
+            return this;
+        }
+
+        /**
+         * docs for integer field
+         */
+        @JsonSetter("integer")
+        public Builder integer(int integer) {
+            checkNotBuilt();
+            this.integer = integer;
+            this._integerInitialized = true;
+            return this;
+        }
+
+        /**
+         * docs for doubleValue field
+         */
+        @JsonSetter("doubleValue")
+        public Builder doubleValue(double doubleValue) {
+            checkNotBuilt();
+            this.doubleValue = doubleValue;
+            this._doubleValueInitialized = true;
+            return this;
+        }
+
+        /**
+         * docs for optionalItem field
+         * @deprecated an optional field is deprecated
+         */
+        @Deprecated
+        @JsonSetter(value = "optionalItem", nulls = Nulls.SKIP)
+        public Builder optionalItem(@Nonnull Optional<String> optionalItem) {
+            checkNotBuilt();
+            this.optionalItem = Preconditions.checkNotNull(optionalItem, "optionalItem cannot be null");
+            return this;
+        }
+
+        /**
+         * docs for optionalItem field
+         * @deprecated an optional field is deprecated
+         */
+        @Deprecated
+        public Builder optionalItem(@Nonnull String optionalItem) {
+            checkNotBuilt();
+            this.optionalItem = Optional.of(Preconditions.checkNotNull(optionalItem, "optionalItem cannot be null"));
+            return this;
+        }
+
+        /**
+         * docs for items field with exciting character$ used by javapoet.
+         */
+        @JsonSetter(value = "items", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder items(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            this.items.clear();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        /**
+         * docs for items field with exciting character$ used by javapoet.
+         */
+        public Builder addAllItems(@Nonnull Iterable<String> items) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.items, Preconditions.checkNotNull(items, "items cannot be null"));
+            return this;
+        }
+
+        /**
+         * docs for items field with exciting character$ used by javapoet.
+         */
+        public Builder items(String items) {
+            checkNotBuilt();
+            this.items.add(items);
+            return this;
+        }
+
+        /**
+         * docs for set field
+         */
+        @JsonSetter(value = "set", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder set(@Nonnull Iterable<String> set) {
+            checkNotBuilt();
+            this.set.clear();
+            ConjureCollections.addAll(this.set, Preconditions.checkNotNull(set, "set cannot be null"));
+            return this;
+        }
+
+        /**
+         * docs for set field
+         */
+        public Builder addAllSet(@Nonnull Iterable<String> set) {
+            checkNotBuilt();
+            ConjureCollections.addAll(this.set, Preconditions.checkNotNull(set, "set cannot be null"));
+            return this;
+        }
+
+        /**
+         * docs for set field
+         */
+        public Builder set(String set) {
+            checkNotBuilt();
+            this.set.add(set);
+            return this;
+        }
+
+        /**
+         * @deprecated deprecation documentation.
+         */
+        @Deprecated
+        @JsonSetter(value = "map", nulls = Nulls.SKIP, contentNulls = Nulls.FAIL)
+        public Builder map(@Nonnull Map<String, String> map) {
+            checkNotBuilt();
+            this.map.clear();
+            this.map.putAll(Preconditions.checkNotNull(map, "map cannot be null"));
+            return this;
+        }
+
+        /**
+         * @deprecated deprecation documentation.
+         */
+        @Deprecated
+        public Builder putAllMap(@Nonnull Map<String, String> map) {
+            checkNotBuilt();
+            this.map.putAll(Preconditions.checkNotNull(map, "map cannot be null"));
+            return this;
+        }
+
+        /**
+         * @deprecated deprecation documentation.
+         */
+        @Deprecated
+        public Builder map(String key, String value) {
+            checkNotBuilt();
+            this.map.put(key, value);
+            return this;
+        }
+
+        /**
+         * docs for alias field
+         * @deprecated This field is deprecated.
+         */
+        @Deprecated
+        @JsonSetter("alias")
+        public Builder alias(@Nonnull StringAliasExample alias) {
+            checkNotBuilt();
+            this.alias = Preconditions.checkNotNull(alias, "alias cannot be null");
+            return this;
+        }
+
+        private void validatePrimitiveFieldsHaveBeenInitialized() {
+            List<String> missingFields = null;
+            missingFields = addFieldIfMissing(missingFields, _integerInitialized, "integer");
+            missingFields = addFieldIfMissing(missingFields, _doubleValueInitialized, "doubleValue");
+            if (missingFields != null) {
+                throw new SafeIllegalArgumentException(
+                        "Some required fields have not been set", SafeArg.of("missingFields", missingFields));
+            }
+        }
+
+        private static List<String> addFieldIfMissing(List<String> prev, boolean initialized, String fieldName) {
+            List<String> missingFields = prev;
+            if (!initialized) {
+                if (missingFields == null) {
+                    missingFields = new ArrayList<>(2);
+                }
+                missingFields.add(fieldName);
+            }
+            return missingFields;
+        }
+
+        public ManyFieldExample build() {
+            checkNotBuilt();
+            this._buildInvoked = true;
+            validatePrimitiveFieldsHaveBeenInitialized();
+            return new ManyFieldExample(string, integer, doubleValue, optionalItem, items, set, map, alias);
+        }
+
+        private void checkNotBuilt() {
+            Preconditions.checkState(!_buildInvoked, "Build has already been called");
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<ManyFieldExample> {
+        private static final SerializedString STRING = new SerializedString("string");
+
+        private static final SerializedString INTEGER = new SerializedString("integer");
+
+        private static final SerializedString DOUBLE_VALUE = new SerializedString("doubleValue");
+
+        private static final SerializedString OPTIONAL_ITEM = new SerializedString("optionalItem");
+
+        private static final SerializedString ITEMS = new SerializedString("items");
+
+        private static final SerializedString SET = new SerializedString("set");
+
+        private static final SerializedString MAP = new SerializedString("map");
+
+        private static final SerializedString ALIAS = new SerializedString("alias");
+
+        private JsonSerializer<Optional<String>> optionalItemSerializer;
+
+        private JsonSerializer<List<String>> itemsSerializer;
+
+        private JsonSerializer<Set<String>> setSerializer;
+
+        private JsonSerializer<Map<String, String>> mapSerializer;
+
+        private JsonSerializer<StringAliasExample> aliasSerializer;
+
+        private volatile boolean resolved;
+
+        JacksonSerializer() {
+            super(ManyFieldExample.class);
+        }
+
+        @Override
+        public void serialize(ManyFieldExample value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (!resolved) {
+                resolveSerializers(provider);
+            }
+            gen.writeStartObject(value);
+            gen.writeFieldName(STRING);
+            gen.writeString(value.string);
+            gen.writeFieldName(INTEGER);
+            gen.writeNumber(value.integer);
+            gen.writeFieldName(DOUBLE_VALUE);
+            gen.writeNumber(value.doubleValue);
+            if (value.optionalItem.isPresent()) {
+                gen.writeFieldName(OPTIONAL_ITEM);
+                this.optionalItemSerializer.serialize(value.optionalItem, gen, provider);
+            }
+            gen.writeFieldName(ITEMS);
+            this.itemsSerializer.serialize(value.items, gen, provider);
+            gen.writeFieldName(SET);
+            this.setSerializer.serialize(value.set, gen, provider);
+            gen.writeFieldName(MAP);
+            this.mapSerializer.serialize(value.map, gen, provider);
+            gen.writeFieldName(ALIAS);
+            this.aliasSerializer.serialize(value.alias, gen, provider);
+            gen.writeEndObject();
+        }
+
+        private synchronized void resolveSerializers(SerializerProvider provider) throws JsonMappingException {
+            if (resolved) {
+                return;
+            }
+            this.optionalItemSerializer =
+                    findSerializer(provider, "optionalItem", new TypeReference<Optional<String>>() {}.getType());
+            this.itemsSerializer = findSerializer(provider, "items", new TypeReference<List<String>>() {}.getType());
+            this.setSerializer = findSerializer(provider, "set", new TypeReference<Set<String>>() {}.getType());
+            this.mapSerializer = findSerializer(provider, "map", new TypeReference<Map<String, String>>() {}.getType());
+            this.aliasSerializer = findSerializer(provider, "alias", StringAliasExample.class);
+            this.resolved = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> JsonSerializer<T> findSerializer(SerializerProvider provider, String name, Type type)
+                throws JsonMappingException {
+            JavaType javaType = provider.getTypeFactory().constructType(type);
+            BeanProperty property = new BeanProperty.Std(
+                    PropertyName.construct(name), javaType, null, null, PropertyMetadata.STD_OPTIONAL);
+            return (JsonSerializer<T>) provider.findPrimaryPropertySerializer(javaType, property);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.BeanSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<ManyFieldExample> {
+        private JsonDeserializer<String> stringDeserializer;
+
+        private JsonDeserializer<Integer> integerDeserializer;
+
+        private JsonDeserializer<Double> doubleValueDeserializer;
+
+        private JsonDeserializer<Optional<String>> optionalItemDeserializer;
+
+        private JsonDeserializer<List<String>> itemsDeserializer;
+
+        private JsonDeserializer<Set<String>> setDeserializer;
+
+        private JsonDeserializer<Map<String, String>> mapDeserializer;
+
+        private JsonDeserializer<StringAliasExample> aliasDeserializer;
+
+        private volatile boolean resolved;
+
+        JacksonDeserializer() {
+            super(ManyFieldExample.class);
+        }
+
+        @Override
+        public ManyFieldExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!resolved) {
+                resolveDeserializers(ctxt);
+            }
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (ManyFieldExample) ctxt.handleUnexpectedToken(ManyFieldExample.class, p);
+            }
+            String string = null;
+            int integer = 0;
+            boolean _integerInitialized = false;
+            double doubleValue = 0;
+            boolean _doubleValueInitialized = false;
+            Optional<String> optionalItem = Optional.empty();
+            List<String> items = Collections.emptyList();
+            Set<String> set = Collections.emptySet();
+            Map<String, String> map = Collections.emptyMap();
+            StringAliasExample alias = null;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                try {
+                    switch (fieldName) {
+                        case "string":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                string = this.stringDeserializer.getNullValue(ctxt);
+                            } else {
+                                string = this.stringDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "integer":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                integer = this.integerDeserializer.getNullValue(ctxt);
+                            } else {
+                                integer = this.integerDeserializer.deserialize(p, ctxt);
+                            }
+                            _integerInitialized = true;
+                            break;
+                        case "doubleValue":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                doubleValue = this.doubleValueDeserializer.getNullValue(ctxt);
+                            } else {
+                                doubleValue = this.doubleValueDeserializer.deserialize(p, ctxt);
+                            }
+                            _doubleValueInitialized = true;
+                            break;
+                        case "optionalItem":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                optionalItem = this.optionalItemDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "items":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                items = this.itemsDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "set":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                set = this.setDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "map":
+                            if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                                map = this.mapDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        case "alias":
+                            if (p.hasToken(JsonToken.VALUE_NULL)) {
+                                alias = this.aliasDeserializer.getNullValue(ctxt);
+                            } else {
+                                alias = this.aliasDeserializer.deserialize(p, ctxt);
+                            }
+                            break;
+                        default:
+                            ctxt.handleUnknownProperty(p, this, ManyFieldExample.class, fieldName);
+                    }
+                } catch (JsonMappingException | RuntimeException e) {
+                    throw JsonMappingException.wrapWithPath(e, ManyFieldExample.class, fieldName);
+                }
+            }
+            try {
+                if (!_integerInitialized || !_doubleValueInitialized) {
+                    throw missingFields(_integerInitialized, _doubleValueInitialized);
+                }
+                return new ManyFieldExample(string, integer, doubleValue, optionalItem, items, set, map, alias);
+            } catch (RuntimeException e) {
+                return (ManyFieldExample) ctxt.handleInstantiationProblem(ManyFieldExample.class, null, e);
+            }
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        private synchronized void resolveDeserializers(DeserializationContext ctxt) throws JsonMappingException {
+            if (resolved) {
+                return;
+            }
+            this.stringDeserializer = findDeserializer(ctxt, "string", String.class, Nulls.DEFAULT);
+            this.integerDeserializer = findDeserializer(ctxt, "integer", int.class, Nulls.DEFAULT);
+            this.doubleValueDeserializer = findDeserializer(ctxt, "doubleValue", double.class, Nulls.DEFAULT);
+            this.optionalItemDeserializer = findDeserializer(
+                    ctxt, "optionalItem", new TypeReference<Optional<String>>() {}.getType(), Nulls.DEFAULT);
+            this.itemsDeserializer =
+                    findDeserializer(ctxt, "items", new TypeReference<List<String>>() {}.getType(), Nulls.FAIL);
+            this.setDeserializer =
+                    findDeserializer(ctxt, "set", new TypeReference<LinkedHashSet<String>>() {}.getType(), Nulls.FAIL);
+            this.mapDeserializer =
+                    findDeserializer(ctxt, "map", new TypeReference<Map<String, String>>() {}.getType(), Nulls.FAIL);
+            this.aliasDeserializer = findDeserializer(ctxt, "alias", StringAliasExample.class, Nulls.DEFAULT);
+            this.resolved = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> JsonDeserializer<T> findDeserializer(
+                DeserializationContext ctxt, String name, Type type, Nulls contentNulls) throws JsonMappingException {
+            JavaType javaType = ctxt.getTypeFactory().constructType(type);
+            // Mirrors the contentNulls behaviour declared by the builder's @JsonSetter annotations
+            BeanProperty property = new BeanProperty.Std(
+                    PropertyName.construct(name),
+                    javaType,
+                    null,
+                    null,
+                    PropertyMetadata.STD_OPTIONAL.withNulls(null, contentNulls));
+            return (JsonDeserializer<T>) ctxt.findContextualValueDeserializer(javaType, property);
+        }
+
+        private static SafeIllegalArgumentException missingFields(
+                boolean _integerInitialized, boolean _doubleValueInitialized) {
+            List<String> missingFields = new ArrayList<>(2);
+            if (!_integerInitialized) {
+                missingFields.add("integer");
+            }
+            if (!_doubleValueInitialized) {
+                missingFields.add("doubleValue");
+            }
+            return new SafeIllegalArgumentException(
+                    "Some required fields have not been set", SafeArg.of("missingFields", missingFields));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.conjure.java.lib.SafeLong;
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonSerialize(using = SafeLongAliasExample.JacksonSerializer.class)
+@JsonDeserialize(using = SafeLongAliasExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.AliasGenerator")
+public final class SafeLongAliasExample {
+    private final SafeLong value;
+
+    private SafeLongAliasExample(@Nonnull SafeLong value) {
+        this.value = Preconditions.checkNotNull(value, "value cannot be null");
+    }
+
+    @JsonValue
+    public SafeLong get() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof SafeLongAliasExample && this.value.equals(((SafeLongAliasExample) other).value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    public static SafeLongAliasExample valueOf(String value) {
+        return of(SafeLong.valueOf(value));
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static SafeLongAliasExample of(@Nonnull SafeLong value) {
+        return new SafeLongAliasExample(value);
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<SafeLongAliasExample> {
+        JacksonSerializer() {
+            super(SafeLongAliasExample.class);
+        }
+
+        @Override
+        public void serialize(SafeLongAliasExample value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeNumber(value.value.longValue());
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<SafeLongAliasExample> {
+        JacksonDeserializer() {
+            super(SafeLongAliasExample.class);
+        }
+
+        @Override
+        public SafeLongAliasExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            try {
+                return SafeLongAliasExample.of(SafeLong.of(_parseLongPrimitive(p, ctxt)));
+            } catch (RuntimeException e) {
+                return (SafeLongAliasExample) ctxt.handleInstantiationProblem(SafeLongAliasExample.class, null, e);
+            }
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+}
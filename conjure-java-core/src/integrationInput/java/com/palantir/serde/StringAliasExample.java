@@ -0,0 +1,88 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonSerialize(using = StringAliasExample.JacksonSerializer.class)
+@JsonDeserialize(using = StringAliasExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.AliasGenerator")
+public final class StringAliasExample {
+    private final String value;
+
+    private StringAliasExample(@Nonnull String value) {
+        this.value = Preconditions.checkNotNull(value, "value cannot be null");
+    }
+
+    @JsonValue
+    public String get() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof StringAliasExample && this.value.equals(((StringAliasExample) other).value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    public static StringAliasExample valueOf(String value) {
+        return of(value);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static StringAliasExample of(@Nonnull String value) {
+        return new StringAliasExample(value);
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonSerializer extends StdSerializer<StringAliasExample> {
+        JacksonSerializer() {
+            super(StringAliasExample.class);
+        }
+
+        @Override
+        public void serialize(StringAliasExample value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeString(value.value);
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.AliasSerDeGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<StringAliasExample> {
+        JacksonDeserializer() {
+            super(StringAliasExample.class);
+        }
+
+        @Override
+        public StringAliasExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return StringAliasExample.of(StringDeserializer.instance.deserialize(p, ctxt));
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,578 @@
+package com.palantir.serde;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import javax.annotation.Generated;
+import javax.annotation.Nonnull;
+
+@JsonDeserialize(using = UnionExample.JacksonDeserializer.class)
+@Generated("com.palantir.conjure.java.types.UnionGenerator")
+public final class UnionExample {
+    private final Base value;
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    private UnionExample(Base value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    private Base getValue() {
+        return value;
+    }
+
+    public static UnionExample foo(String value) {
+        return new UnionExample(new FooWrapper(value));
+    }
+
+    /**
+     * @deprecated Int is deprecated.
+     */
+    @Deprecated
+    public static UnionExample bar(int value) {
+        return new UnionExample(new BarWrapper(value));
+    }
+
+    public static UnionExample baz(List<String> value) {
+        return new UnionExample(new BazWrapper(value));
+    }
+
+    public static UnionExample unknown(String type, Object value) {
+        switch (Preconditions.checkNotNull(type, "Type is required")) {
+            case "foo":
+                throw new SafeIllegalArgumentException(
+                        "Unknown type cannot be created as the provided type is known: foo");
+            case "bar":
+                throw new SafeIllegalArgumentException(
+                        "Unknown type cannot be created as the provided type is known: bar");
+            case "baz":
+                throw new SafeIllegalArgumentException(
+                        "Unknown type cannot be created as the provided type is known: baz");
+            default:
+                return new UnionExample(new UnknownWrapper(type, Collections.singletonMap(type, value)));
+        }
+    }
+
+    public <T> T accept(Visitor<T> visitor) {
+        return value.accept(visitor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof UnionExample && equalTo((UnionExample) other));
+    }
+
+    private boolean equalTo(UnionExample other) {
+        return this.value.equals(other.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "UnionExample{value: " + value + '}';
+    }
+
+    public interface Visitor<T> {
+        T visitFoo(String value);
+
+        /**
+         * @deprecated Int is deprecated.
+         */
+        @Deprecated
+        T visitBar(int value);
+
+        T visitBaz(List<String> value);
+
+        T visitUnknown(String unknownType);
+
+        static <T> BarStageVisitorBuilder<T> builder() {
+            return new VisitorBuilder<T>();
+        }
+    }
+
+    private static final class VisitorBuilder<T>
+            implements BarStageVisitorBuilder<T>,
+                    BazStageVisitorBuilder<T>,
+                    FooStageVisitorBuilder<T>,
+                    UnknownStageVisitorBuilder<T>,
+                    Completed_StageVisitorBuilder<T> {
+        private IntFunction<T> barVisitor;
+
+        private Function<List<String>, T> bazVisitor;
+
+        private Function<String, T> fooVisitor;
+
+        private Function<String, T> unknownVisitor;
+
+        @Override
+        public BazStageVisitorBuilder<T> bar(@Nonnull IntFunction<T> barVisitor) {
+            Preconditions.checkNotNull(barVisitor, "barVisitor cannot be null");
+            this.barVisitor = barVisitor;
+            return this;
+        }
+
+        @Override
+        public FooStageVisitorBuilder<T> baz(@Nonnull Function<List<String>, T> bazVisitor) {
+            Preconditions.checkNotNull(bazVisitor, "bazVisitor cannot be null");
+            this.bazVisitor = bazVisitor;
+            return this;
+        }
+
+        @Override
+        public UnknownStageVisitorBuilder<T> foo(@Nonnull Function<String, T> fooVisitor) {
+            Preconditions.checkNotNull(fooVisitor, "fooVisitor cannot be null");
+            this.fooVisitor = fooVisitor;
+            return this;
+        }
+
+        @Override
+        public Completed_StageVisitorBuilder<T> unknown(@Nonnull Function<String, T> unknownVisitor) {
+            Preconditions.checkNotNull(unknownVisitor, "unknownVisitor cannot be null");
+            this.unknownVisitor = unknownVisitor;
+            return this;
+        }
+
+        @Override
+        public Completed_StageVisitorBuilder<T> throwOnUnknown() {
+            this.unknownVisitor = unknownType -> {
+                throw new SafeIllegalArgumentException(
+                        "Unknown variant of the 'UnionExample' union", SafeArg.of("unknownType", unknownType));
+            };
+            return this;
+        }
+
+        @Override
+        public Visitor<T> build() {
+            final IntFunction<T> barVisitor = this.barVisitor;
+            final Function<List<String>, T> bazVisitor = this.bazVisitor;
+            final Function<String, T> fooVisitor = this.fooVisitor;
+            final Function<String, T> unknownVisitor = this.unknownVisitor;
+            return new Visitor<T>() {
+                @Override
+                public T visitBar(int value) {
+                    return barVisitor.apply(value);
+                }
+
+                @Override
+                public T visitBaz(List<String> value) {
+                    return bazVisitor.apply(value);
+                }
+
+                @Override
+                public T visitFoo(String value) {
+                    return fooVisitor.apply(value);
+                }
+
+                @Override
+                public T visitUnknown(String value) {
+                    return unknownVisitor.apply(value);
+                }
+            };
+        }
+    }
+
+    public interface BarStageVisitorBuilder<T> {
+        BazStageVisitorBuilder<T> bar(@Nonnull IntFunction<T> barVisitor);
+    }
+
+    public interface BazStageVisitorBuilder<T> {
+        FooStageVisitorBuilder<T> baz(@Nonnull Function<List<String>, T> bazVisitor);
+    }
+
+    public interface FooStageVisitorBuilder<T> {
+        UnknownStageVisitorBuilder<T> foo(@Nonnull Function<String, T> fooVisitor);
+    }
+
+    public interface UnknownStageVisitorBuilder<T> {
+        Completed_StageVisitorBuilder<T> unknown(@Nonnull Function<String, T> unknownVisitor);
+
+        Completed_StageVisitorBuilder<T> throwOnUnknown();
+    }
+
+    public interface Completed_StageVisitorBuilder<T> {
+        Visitor<T> build();
+    }
+
+    @JsonTypeInfo(
+            use = JsonTypeInfo.Id.NAME,
+            include = JsonTypeInfo.As.EXISTING_PROPERTY,
+            property = "type",
+            visible = true,
+            defaultImpl = UnknownWrapper.class)
+    @JsonSubTypes({
+        @JsonSubTypes.Type(FooWrapper.class),
+        @JsonSubTypes.Type(BarWrapper.class),
+        @JsonSubTypes.Type(BazWrapper.class)
+    })
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private interface Base {
+        <T> T accept(Visitor<T> visitor);
+    }
+
+    @JsonTypeName("foo")
+    private static final class FooWrapper implements Base {
+        private final String value;
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        private FooWrapper(@JsonSetter("foo") @Nonnull String value) {
+            Preconditions.checkNotNull(value, "foo cannot be null");
+            this.value = value;
+        }
+
+        @JsonProperty(value = "type", index = 0)
+        private String getType() {
+            return "foo";
+        }
+
+        @JsonProperty("foo")
+        private String getValue() {
+            return value;
+        }
+
+        @Override
+        public <T> T accept(Visitor<T> visitor) {
+            return visitor.visitFoo(value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof FooWrapper && equalTo((FooWrapper) other));
+        }
+
+        private boolean equalTo(FooWrapper other) {
+            return this.value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "FooWrapper{value: " + value + '}';
+        }
+    }
+
+    @JsonTypeName("bar")
+    private static final class BarWrapper implements Base {
+        private final int value;
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        private BarWrapper(@JsonSetter("bar") @Nonnull int value) {
+            Preconditions.checkNotNull(value, "bar cannot be null");
+            this.value = value;
+        }
+
+        @JsonProperty(value = "type", index = 0)
+        private String getType() {
+            return "bar";
+        }
+
+        @JsonProperty("bar")
+        private int getValue() {
+            return value;
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public <T> T accept(Visitor<T> visitor) {
+            return visitor.visitBar(value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof BarWrapper && equalTo((BarWrapper) other));
+        }
+
+        private boolean equalTo(BarWrapper other) {
+            return this.value == other.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value;
+        }
+
+        @Override
+        public String toString() {
+            return "BarWrapper{value: " + value + '}';
+        }
+    }
+
+    @JsonTypeName("baz")
+    private static final class BazWrapper implements Base {
+        private final List<String> value;
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        private BazWrapper(@JsonSetter(value = "baz", nulls = Nulls.AS_EMPTY) @Nonnull List<String> value) {
+            Preconditions.checkNotNull(value, "baz cannot be null");
+            this.value = value;
+        }
+
+        @JsonProperty(value = "type", index = 0)
+        private String getType() {
+            return "baz";
+        }
+
+        @JsonProperty("baz")
+        private List<String> getValue() {
+            return value;
+        }
+
+        @Override
+        public <T> T accept(Visitor<T> visitor) {
+            return visitor.visitBaz(value);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof BazWrapper && equalTo((BazWrapper) other));
+        }
+
+        private boolean equalTo(BazWrapper other) {
+            return this.value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "BazWrapper{value: " + value + '}';
+        }
+    }
+
+    private static final class UnknownWrapper implements Base {
+        private final String type;
+
+        private final Map<String, Object> value;
+
+        @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+        private UnknownWrapper(@JsonProperty("type") String type) {
+            this(type, new HashMap<String, Object>());
+        }
+
+        private UnknownWrapper(@Nonnull String type, @Nonnull Map<String, Object> value) {
+            Preconditions.checkNotNull(type, "type cannot be null");
+            Preconditions.checkNotNull(value, "value cannot be null");
+            this.type = type;
+            this.value = value;
+        }
+
+        @JsonProperty
+        private String getType() {
+            return type;
+        }
+
+        @JsonAnyGetter
+        private Map<String, Object> getValue() {
+            return value;
+        }
+
+        @JsonAnySetter
+        private void put(String key, Object val) {
+            value.put(key, val);
+        }
+
+        @Override
+        public <T> T accept(Visitor<T> visitor) {
+            return visitor.visitUnknown(type);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other || (other instanceof UnknownWrapper && equalTo((UnknownWrapper) other));
+        }
+
+        private boolean equalTo(UnknownWrapper other) {
+            return this.type.equals(other.type) && this.value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 1;
+            hash = 31 * hash + this.type.hashCode();
+            hash = 31 * hash + this.value.hashCode();
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return "UnknownWrapper{type: " + type + ", value: " + value + '}';
+        }
+    }
+
+    @Generated("com.palantir.conjure.java.types.UnionDeserializerGenerator")
+    static final class JacksonDeserializer extends StdDeserializer<UnionExample> {
+        private JsonDeserializer<String> fooDeserializer;
+
+        private JsonDeserializer<Integer> barDeserializer;
+
+        private JsonDeserializer<List<String>> bazDeserializer;
+
+        private volatile boolean resolved;
+
+        JacksonDeserializer() {
+            super(UnionExample.class);
+        }
+
+        @Override
+        public UnionExample deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!resolved) {
+                resolveDeserializers(ctxt);
+            }
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = p.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                return (UnionExample) ctxt.handleUnexpectedToken(UnionExample.class, p);
+            }
+            TokenBuffer buffer = null;
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (fieldName.equals("type")) {
+                    String type =
+                            p.hasToken(JsonToken.VALUE_NULL) ? null : StringDeserializer.instance.deserialize(p, ctxt);
+                    if (buffer == null) {
+                        p.nextToken();
+                        return deserializeMember(type, p, ctxt);
+                    }
+                    // Properties which preceded the discriminator are replayed ahead of the rest of the object
+                    JsonParser replay = JsonParserSequence.createFlattened(false, buffer.asParser(p), p);
+                    replay.nextToken();
+                    return deserializeMember(type, replay, ctxt);
+                }
+                if (buffer == null) {
+                    buffer = new TokenBuffer(p, ctxt);
+                }
+                buffer.writeFieldName(fieldName);
+                buffer.copyCurrentStructure(p);
+            }
+            return deserializeMember(null, p, ctxt);
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        private UnionExample deserializeMember(String type, JsonParser p, DeserializationContext ctxt)
+                throws IOException {
+            try {
+                if (type != null) {
+                    switch (type) {
+                        case "foo":
+                            return new UnionExample(
+                                    new FooWrapper(readMember(p, ctxt, "foo", this.fooDeserializer, false)));
+                        case "bar":
+                            return new UnionExample(
+                                    new BarWrapper(readMember(p, ctxt, "bar", this.barDeserializer, false)));
+                        case "baz":
+                            return new UnionExample(
+                                    new BazWrapper(readMember(p, ctxt, "baz", this.bazDeserializer, true)));
+                        default:
+                            break;
+                    }
+                }
+                // Unrecognized types are captured as unknown, and the wrapper rejects a missing type
+                return new UnionExample(new UnknownWrapper(type, readUnknown(p, ctxt)));
+            } catch (RuntimeException e) {
+                return (UnionExample) ctxt.handleInstantiationProblem(UnionExample.class, null, e);
+            }
+        }
+
+        private synchronized void resolveDeserializers(DeserializationContext ctxt) throws JsonMappingException {
+            if (resolved) {
+                return;
+            }
+            this.fooDeserializer = findDeserializer(ctxt, String.class);
+            this.barDeserializer = findDeserializer(ctxt, int.class);
+            this.bazDeserializer = findDeserializer(ctxt, new TypeReference<List<String>>() {}.getType());
+            this.resolved = true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> JsonDeserializer<T> findDeserializer(DeserializationContext ctxt, Type type)
+                throws JsonMappingException {
+            JavaType javaType = ctxt.getTypeFactory().constructType(type);
+            return (JsonDeserializer<T>) ctxt.findContextualValueDeserializer(javaType, null);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T readMember(
+                JsonParser p, DeserializationContext ctxt, String name, JsonDeserializer<T> deser, boolean asEmpty)
+                throws IOException {
+            T value = null;
+            for (JsonToken token = p.currentToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (!fieldName.equals(name)) {
+                    p.skipChildren();
+                } else if (!p.hasToken(JsonToken.VALUE_NULL)) {
+                    try {
+                        value = deser.deserialize(p, ctxt);
+                    } catch (JsonMappingException | RuntimeException e) {
+                        throw JsonMappingException.wrapWithPath(e, UnionExample.class, name);
+                    }
+                }
+            }
+            if (value == null) {
+                value = asEmpty ? (T) deser.getEmptyValue(ctxt) : deser.getNullValue(ctxt);
+            }
+            return value;
+        }
+
+        private static Map<String, Object> readUnknown(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Map<String, Object> value = new HashMap<>();
+            for (JsonToken token = p.currentToken(); token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                String fieldName = p.currentName();
+                p.nextToken();
+                if (fieldName.equals("type")) {
+                    p.skipChildren();
+                } else {
+                    value.put(fieldName, ctxt.readValue(p, Object.class));
+                }
+            }
+            return value;
+        }
+    }
+}
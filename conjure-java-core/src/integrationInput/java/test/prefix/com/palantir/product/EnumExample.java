@@ -3,6 +3,8 @@ package test.prefix.com.palantir.product;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.google.errorprone.annotations.Immutable;
+import com.palantir.conjure.java.lib.internal.ConjureEnums;
+import com.palantir.conjure.java.lib.internal.UnknownEnumValues;
 import com.palantir.logsafe.Preconditions;
 import java.util.Arrays;
 import java.util.Collections;
@@ -44,6 +46,9 @@ public final class EnumExample {
     @SuppressWarnings("deprecation")
     private static final List<EnumExample> values = Collections.unmodifiableList(Arrays.asList(ONE, TWO, ONE_HUNDRED));
 
+    private static final UnknownEnumValues<EnumExample> unknownValues =
+            UnknownEnumValues.create(value -> new EnumExample(Value.UNKNOWN, value.toUpperCase(Locale.ROOT)));
+
     private final Value value;
 
     private final String string;
@@ -77,8 +82,7 @@ public final class EnumExample {
     @SuppressWarnings("deprecation")
     public static EnumExample valueOf(@Nonnull String value) {
         Preconditions.checkNotNull(value, "value cannot be null");
-        String upperCasedValue = value.toUpperCase(Locale.ROOT);
-        switch (upperCasedValue) {
+        switch (value) {
             case "ONE":
                 return ONE;
             case "TWO":
@@ -86,7 +90,32 @@ public final class EnumExample {
             case "ONE_HUNDRED":
                 return ONE_HUNDRED;
             default:
-                return new EnumExample(Value.UNKNOWN, upperCasedValue);
+                EnumExample unknown = unknownValues.getIfPresent(value);
+                if (unknown != null) {
+                    return unknown;
+                }
+                if (ConjureEnums.isAscii(value)) {
+                    if (ConjureEnums.equalsIgnoreCaseAscii(value, "ONE")) {
+                        return ONE;
+                    }
+                    if (ConjureEnums.equalsIgnoreCaseAscii(value, "TWO")) {
+                        return TWO;
+                    }
+                    if (ConjureEnums.equalsIgnoreCaseAscii(value, "ONE_HUNDRED")) {
+                        return ONE_HUNDRED;
+                    }
+                    return unknownValues.get(value);
+                }
+                switch (value.toUpperCase(Locale.ROOT)) {
+                    case "ONE":
+                        return ONE;
+                    case "TWO":
+                        return TWO;
+                    case "ONE_HUNDRED":
+                        return ONE_HUNDRED;
+                    default:
+                        return unknownValues.get(value);
+                }
         }
     }
 
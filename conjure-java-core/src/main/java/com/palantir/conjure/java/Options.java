@@ -136,6 +136,72 @@ public interface Options {
         return false;
     }
 
+    /**
+     * Generated objects are bound by a {@link com.fasterxml.jackson.databind.JsonSerializer} and
+     * {@link com.fasterxml.jackson.databind.JsonDeserializer} generated alongside each object, rather than by
+     * Jackson's reflective bean property access. Generated enums are deserialized by matching the parser's characters
+     * against each value, rather than by materializing a {@link String} for every token. Generated unions dispatch on
+     * their {@code type} property directly, rather than through Jackson's polymorphic type handling. Aliases of
+     * numeric and string types are written and read as primitives, rather than through boxing delegating creators.
+     */
+    @Beta
+    @Value.Default
+    default boolean useGeneratedJacksonSerializers() {
+        return false;
+    }
+
+    /**
+     * The properties of unknown union variants are held as the tokens they were read from, which are written back
+     * verbatim when the union is serialized and only decoded into untyped values when a visitor requests them. Implies
+     * the generated union deserializers of {@link #useGeneratedJacksonSerializers()}.
+     */
+    @Beta
+    @Value.Default
+    default boolean useBufferedUnknownUnionValues() {
+        return false;
+    }
+
+    /**
+     * Aliases of {@code string} intern their values in a bounded cache of weakly referenced instances, so that
+     * payloads repeating the same identifiers share instances rather than retaining a copy of each.
+     */
+    @Beta
+    @Value.Default
+    default boolean internStringAliases() {
+        return false;
+    }
+
+    /**
+     * Builders of generated objects store {@code list<integer>} and {@code list<double>} fields in lists backed by
+     * primitive arrays, avoiding boxing each element while deserializing.
+     */
+    @Beta
+    @Value.Default
+    default boolean usePrimitiveLists() {
+        return false;
+    }
+
+    /**
+     * Generated objects hold their list, set and map fields in exactly-sized immutable copies, rather than in
+     * unmodifiable views of the builder's collections. This trades a copy at construction for lower retained heap.
+     */
+    @Beta
+    @Value.Default
+    default boolean useCompactCollections() {
+        return false;
+    }
+
+    /**
+     * Instructs the {@link com.palantir.conjure.java.services.UndertowServiceGenerator} to generate binary response
+     * endpoints returning {@link com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody}, which is written in
+     * chunks without holding a thread for the duration of the response.
+     */
+    @Beta
+    @Value.Default
+    default boolean undertowAsyncBinaryResponses() {
+        return false;
+    }
+
     Optional<String> packagePrefix();
 
     Optional<String> apiVersion();
@@ -22,6 +22,7 @@ import com.palantir.conjure.java.types.ClassNameVisitor;
 import com.palantir.conjure.java.types.DefaultClassNameVisitor;
 import com.palantir.conjure.java.types.SpecializeBinaryClassNameVisitor;
 import com.palantir.conjure.java.types.TypeMapper;
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BinaryResponseBody;
 import com.palantir.conjure.java.util.TypeFunctions;
 import com.palantir.conjure.spec.ConjureDefinition;
@@ -47,9 +48,10 @@ public final class UndertowServiceGenerator implements Generator {
         ClassNameVisitor defaultVisitor = new DefaultClassNameVisitor(types.keySet(), options);
         TypeMapper typeMapper = new TypeMapper(
                 types, new SpecializeBinaryClassNameVisitor(defaultVisitor, types, ClassName.get(InputStream.class)));
+        ClassName binaryResponseType = ClassName.get(
+                options.undertowAsyncBinaryResponses() ? AsyncBinaryResponseBody.class : BinaryResponseBody.class);
         TypeMapper returnTypeMapper = new TypeMapper(
-                types,
-                new SpecializeBinaryClassNameVisitor(defaultVisitor, types, ClassName.get(BinaryResponseBody.class)));
+                types, new SpecializeBinaryClassNameVisitor(defaultVisitor, types, binaryResponseType));
 
         UndertowServiceInterfaceGenerator interfaceGenerator = new UndertowServiceInterfaceGenerator(options);
         UndertowServiceHandlerGenerator handlerGenerator = new UndertowServiceHandlerGenerator(options);
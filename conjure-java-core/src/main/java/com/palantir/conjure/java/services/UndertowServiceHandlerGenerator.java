@@ -242,13 +242,12 @@ final class UndertowServiceHandlerGenerator {
         addTags(endpointDefinition, endpointBuilder);
 
         getBodyParamTypeArgument(endpointDefinition.getArgs())
-                .map(ArgumentDefinition::getType)
                 // Filter out binary data
-                .flatMap(type -> {
-                    Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(type, typeDefinitions);
-                    return TypeFunctions.isBinaryOrOptionalBinary(dealiased) ? Optional.empty() : Optional.of(type);
+                .filter(argument -> {
+                    Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(argument.getType(), typeDefinitions);
+                    return !TypeFunctions.isBinaryOrOptionalBinary(dealiased);
                 })
-                .map(typeMapper::getClassName)
+                .map(argument -> UndertowTypeFunctions.getArgumentType(endpointDefinition, argument, typeMapper))
                 .map(TypeName::box)
                 .map(this::immutableCollection)
                 .ifPresent(typeName -> {
@@ -266,7 +265,7 @@ final class UndertowServiceHandlerGenerator {
         endpointDefinition.getReturns().ifPresent(returnType -> {
             Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(returnType, typeDefinitions);
             if (!TypeFunctions.isBinaryOrOptionalBinary(dealiased)) {
-                TypeName typeName = returnTypeMapper.getClassName(returnType).box();
+                TypeName typeName = UndertowTypeFunctions.getReturnType(endpointDefinition, returnTypeMapper).box();
                 TypeName type = ParameterizedTypeName.get(ClassName.get(Serializer.class), typeName);
                 endpointBuilder.addField(FieldSpec.builder(type, SERIALIZER_VAR_NAME, Modifier.PRIVATE, Modifier.FINAL)
                         .build());
@@ -408,10 +407,22 @@ final class UndertowServiceHandlerGenerator {
         Optional<String> authVarName = addAuthCode(code, endpointDefinition);
 
         // body parameter
-        getBodyParamTypeArgument(endpointDefinition.getArgs()).ifPresent(bodyParam -> {
+        Optional<ArgumentDefinition> maybeBodyParam = getBodyParamTypeArgument(endpointDefinition.getArgs());
+        boolean streamingBody = maybeBodyParam
+                .filter(bodyParam -> UndertowTypeFunctions.isStreaming(endpointDefinition, bodyParam))
+                .isPresent();
+        maybeBodyParam.ifPresent(bodyParam -> {
             String paramName = sanitizeVarName(bodyParam.getArgName().get(), endpointDefinition);
             Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(bodyParam.getType(), typeDefinitions);
-            if (TypeFunctions.isBinaryOrOptionalBinary(dealiased)) {
+            if (streamingBody) {
+                // Close the stream once the endpoint has been handled, releasing the request parser
+                code.beginControlFlow(
+                        "try ($1T $2N = $3N.deserialize($4N))",
+                        UndertowTypeFunctions.getArgumentType(endpointDefinition, bodyParam, typeMapper),
+                        paramName,
+                        DESERIALIZER_VAR_NAME,
+                        EXCHANGE_VAR_NAME);
+            } else if (TypeFunctions.isBinaryOrOptionalBinary(dealiased)) {
                 code.addStatement(
                         "$1T $2N = $3N.bodySerDe().deserializeInputStream($4N)",
                         InputStream.class,
@@ -421,7 +432,7 @@ final class UndertowServiceHandlerGenerator {
             } else {
                 code.addStatement(
                         "$1T $2N = $3N.deserialize($4N)",
-                        typeMapper.getClassName(bodyParam.getType()).box(),
+                        UndertowTypeFunctions.getArgumentType(endpointDefinition, bodyParam, typeMapper).box(),
                         paramName,
                         DESERIALIZER_VAR_NAME,
                         EXCHANGE_VAR_NAME);
@@ -455,8 +466,7 @@ final class UndertowServiceHandlerGenerator {
                     "$1T $2N = $3N.$4L($5L)",
                     async.isPresent()
                             ? UndertowTypeFunctions.getAsyncReturnType(endpointDefinition, returnTypeMapper, options)
-                            : returnTypeMapper.getClassName(
-                                    endpointDefinition.getReturns().get()),
+                            : UndertowTypeFunctions.getReturnType(endpointDefinition, returnTypeMapper),
                     RESULT_VAR_NAME,
                     DELEGATE_VAR_NAME,
                     JavaNameSanitizer.sanitize(
@@ -488,9 +498,16 @@ final class UndertowServiceHandlerGenerator {
         } else {
             code.add(generateReturnValueCodeBlock(endpointDefinition, typeDefinitions));
         }
+        if (streamingBody) {
+            code.endControlFlow();
+        }
         return code.build();
     }
 
+    private String binarySerializeMethod() {
+        return options.undertowAsyncBinaryResponses() ? "serializeAsync" : "serialize";
+    }
+
     private CodeBlock generateReturnValueCodeBlock(
             EndpointDefinition endpointDefinition,
             Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typeDefinitions) {
@@ -505,11 +522,12 @@ final class UndertowServiceHandlerGenerator {
                     serializer = CodeBlock.builder()
                             .add(
                                     dealiased.accept(TypeVisitor.IS_BINARY)
-                                            ? "$1N.bodySerDe().serialize($2N, $3N)"
-                                            : "$1N.bodySerDe().serialize($2N.get(), $3N)",
+                                            ? "$1N.bodySerDe().$4N($2N, $3N)"
+                                            : "$1N.bodySerDe().$4N($2N.get(), $3N)",
                                     RUNTIME_VAR_NAME,
                                     RESULT_VAR_NAME,
-                                    EXCHANGE_VAR_NAME)
+                                    EXCHANGE_VAR_NAME,
+                                    binarySerializeMethod())
                             .build();
                 } else {
                     serializer = CodeBlock.builder()
@@ -532,10 +550,17 @@ final class UndertowServiceHandlerGenerator {
             } else {
                 if (dealiased.accept(TypeVisitor.IS_BINARY)) {
                     code.addStatement(
-                            "$1N.bodySerDe().serialize($2N, $3N)",
+                            "$1N.bodySerDe().$4N($2N, $3N)",
                             RUNTIME_VAR_NAME,
                             RESULT_VAR_NAME,
-                            EXCHANGE_VAR_NAME);
+                            EXCHANGE_VAR_NAME,
+                            binarySerializeMethod());
+                } else if (UndertowTypeFunctions.isStreaming(endpointDefinition)) {
+                    // Close the stream once the response has been written, releasing resources such as cursors
+                    code.beginControlFlow("try ($N)", RESULT_VAR_NAME)
+                            .addStatement(
+                                    "$1N.serialize($2N, $3N)", SERIALIZER_VAR_NAME, RESULT_VAR_NAME, EXCHANGE_VAR_NAME)
+                            .endControlFlow();
                 } else {
                     code.addStatement(
                             "$1N.serialize($2N, $3N)", SERIALIZER_VAR_NAME, RESULT_VAR_NAME, EXCHANGE_VAR_NAME);
@@ -91,8 +91,8 @@ final class UndertowServiceInterfaceGenerator {
 
         if (UndertowTypeFunctions.isAsync(endpointDef, options)) {
             methodBuilder.returns(UndertowTypeFunctions.getAsyncReturnType(endpointDef, returnTypeMapper, options));
-        } else {
-            endpointDef.getReturns().ifPresent(type -> methodBuilder.returns(returnTypeMapper.getClassName(type)));
+        } else if (endpointDef.getReturns().isPresent()) {
+            methodBuilder.returns(UndertowTypeFunctions.getReturnType(endpointDef, returnTypeMapper));
         }
 
         return methodBuilder.build();
@@ -136,7 +136,7 @@ final class UndertowServiceInterfaceGenerator {
     private ParameterSpec createServiceMethodParameterArg(
             TypeMapper typeMapper, ArgumentDefinition def, EndpointDefinition endpoint) {
         return ParameterSpec.builder(
-                        typeMapper.getClassName(def.getType()),
+                        UndertowTypeFunctions.getArgumentType(endpoint, def, typeMapper),
                         JavaNameSanitizer.sanitizeParameterName(def.getArgName().get(), endpoint))
                 .addAnnotations(ConjureTags.safetyAnnotations(def))
                 .build();
@@ -20,14 +20,21 @@ import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.conjure.java.Options;
 import com.palantir.conjure.java.types.TypeMapper;
+import com.palantir.conjure.java.util.Tags;
+import com.palantir.conjure.spec.ArgumentDefinition;
 import com.palantir.conjure.spec.EndpointDefinition;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.visitor.ParameterTypeVisitor;
+import com.palantir.conjure.visitor.TypeVisitor;
 import com.palantir.humanreadabletypes.HumanReadableDuration;
 import com.palantir.logsafe.SafeArg;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 final class UndertowTypeFunctions {
 
@@ -96,11 +103,54 @@ final class UndertowTypeFunctions {
         return ParameterizedTypeName.get(
                 ClassName.get(ListenableFuture.class),
                 endpoint.getReturns()
-                        .map(mapper::getClassName)
+                        .map(_type -> getReturnType(endpoint, mapper))
                         .orElseGet(() -> ClassName.get(Void.class))
                         .box());
     }
 
+    /**
+     * Endpoints {@link EndpointDefinition#getTags() tagged} with {@code server-streaming} which return a
+     * {@code list<T>} are generated returning a {@link Stream} of elements. Elements are serialized as the stream
+     * produces them rather than being collected into a {@link java.util.List} first, and the stream is closed once
+     * the response has been written.
+     */
+    static boolean isStreaming(EndpointDefinition endpoint) {
+        return Tags.hasServerStreaming(endpoint)
+                && endpoint.getReturns().filter(type -> type.accept(TypeVisitor.IS_LIST)).isPresent();
+    }
+
+    /** Returns the type produced by the service method of an endpoint which returns a value. */
+    static TypeName getReturnType(EndpointDefinition endpoint, TypeMapper mapper) {
+        Preconditions.checkArgument(
+                endpoint.getReturns().isPresent(), "Endpoint must return a value", SafeArg.of("endpoint", endpoint));
+        Type returnType = endpoint.getReturns().get();
+        return isStreaming(endpoint) ? streamOfElements(returnType, mapper) : mapper.getClassName(returnType);
+    }
+
+    /**
+     * Returns the type of an argument to the service method of an endpoint. The {@code list<T>} body of an endpoint
+     * {@link EndpointDefinition#getTags() tagged} with {@code server-streaming} is received as a {@link Stream} which
+     * reads elements from the request as it is consumed, rather than collecting them into a {@link java.util.List}
+     * before the service method is invoked.
+     */
+    static TypeName getArgumentType(EndpointDefinition endpoint, ArgumentDefinition argument, TypeMapper mapper) {
+        Type type = argument.getType();
+        return isStreaming(endpoint, argument) ? streamOfElements(type, mapper) : mapper.getClassName(type);
+    }
+
+    /** Returns true if the argument is a request body which is received as a {@link Stream} of elements. */
+    static boolean isStreaming(EndpointDefinition endpoint, ArgumentDefinition argument) {
+        return Tags.hasServerStreaming(endpoint)
+                && argument.getParamType().accept(ParameterTypeVisitor.IS_BODY)
+                && argument.getType().accept(TypeVisitor.IS_LIST);
+    }
+
+    private static TypeName streamOfElements(Type listType, TypeMapper mapper) {
+        return ParameterizedTypeName.get(
+                ClassName.get(Stream.class),
+                mapper.getClassName(listType.accept(TypeVisitor.LIST).getItemType()).box());
+    }
+
     private UndertowTypeFunctions() {}
 
     static final class AsyncRequestProcessingMetadata {
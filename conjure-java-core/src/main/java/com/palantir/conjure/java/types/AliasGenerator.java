@@ -17,9 +17,12 @@
 package com.palantir.conjure.java.types;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.palantir.conjure.java.ConjureAnnotations;
 import com.palantir.conjure.java.Options;
 import com.palantir.conjure.java.lib.SafeLong;
+import com.palantir.conjure.java.lib.internal.WeakInterner;
 import com.palantir.conjure.java.util.Javadoc;
 import com.palantir.conjure.java.util.Packages;
 import com.palantir.conjure.java.visitor.MoreVisitors;
@@ -35,6 +38,7 @@ import com.palantir.conjure.spec.Type.Visitor;
 import com.palantir.conjure.visitor.TypeDefinitionVisitor;
 import com.palantir.conjure.visitor.TypeVisitor;
 import com.palantir.logsafe.Preconditions;
+import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
@@ -51,6 +55,8 @@ import javax.lang.model.element.Modifier;
 
 public final class AliasGenerator {
 
+    private static final String INTERNER_NAME = "interner";
+
     private AliasGenerator() {}
 
     public static JavaFile generateAliasType(TypeMapper typeMapper, AliasDefinition typeDef, Options options) {
@@ -60,8 +66,20 @@ public final class AliasGenerator {
 
         ClassName thisClass = ClassName.get(prefixedTypeName.getPackage(), prefixedTypeName.getName());
 
-        TypeSpec.Builder spec = TypeSpec.classBuilder(prefixedTypeName.getName())
-                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(AliasGenerator.class))
+        boolean generateSerDe =
+                options.useGeneratedJacksonSerializers() && AliasSerDeGenerator.isSupported(aliasTypeName);
+        TypeSpec.Builder spec = TypeSpec.classBuilder(prefixedTypeName.getName());
+        if (generateSerDe) {
+            ClassName serializerClass = thisClass.nestedClass(AliasSerDeGenerator.SERIALIZER_NAME);
+            ClassName deserializerClass = thisClass.nestedClass(AliasSerDeGenerator.DESERIALIZER_NAME);
+            spec.addAnnotation(AnnotationSpec.builder(JsonSerialize.class)
+                    .addMember("using", "$T.class", serializerClass)
+                    .build());
+            spec.addAnnotation(AnnotationSpec.builder(JsonDeserialize.class)
+                    .addMember("using", "$T.class", deserializerClass)
+                    .build());
+        }
+        spec.addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(AliasGenerator.class))
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addField(aliasTypeName, "value", Modifier.PRIVATE, Modifier.FINAL)
                 .addMethod(createConstructor(aliasTypeName))
@@ -110,12 +128,29 @@ public final class AliasGenerator {
                     .build());
         }
 
+        boolean intern = options.internStringAliases() && aliasTypeName.equals(ClassName.get(String.class));
+        if (intern) {
+            spec.addField(FieldSpec.builder(
+                            ParameterizedTypeName.get(ClassName.get(WeakInterner.class), thisClass),
+                            INTERNER_NAME,
+                            Modifier.PRIVATE,
+                            Modifier.STATIC,
+                            Modifier.FINAL)
+                    .initializer("$T.create($T::new, $T::get)", WeakInterner.class, thisClass, thisClass)
+                    .build());
+        }
         spec.addMethod(MethodSpec.methodBuilder("of")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .addAnnotation(ConjureAnnotations.delegatingJsonCreator())
                 .addParameter(Parameters.nonnullParameter(aliasTypeName, "value"))
                 .returns(thisClass)
-                .addStatement("return new $T(value)", thisClass)
+                .addCode(
+                        intern
+                                ? CodeBlocks.statement(
+                                        "return $N.intern($T.checkNotNull(value, \"value cannot be null\"))",
+                                        INTERNER_NAME,
+                                        Preconditions.class)
+                                : CodeBlocks.statement("return new $T(value)", thisClass))
                 .build());
 
         // Generate a default constructor so that Jackson can construct a default instance when coercing from null
@@ -192,6 +227,11 @@ public final class AliasGenerator {
                     .build());
         }
 
+        if (generateSerDe) {
+            spec.addType(AliasSerDeGenerator.generateSerializer(thisClass, aliasTypeName))
+                    .addType(AliasSerDeGenerator.generateDeserializer(thisClass, aliasTypeName));
+        }
+
         typeDef.getDocs().ifPresent(docs -> spec.addJavadoc("$L", Javadoc.render(docs)));
 
         return JavaFile.builder(prefixedTypeName.getPackage(), spec.build())
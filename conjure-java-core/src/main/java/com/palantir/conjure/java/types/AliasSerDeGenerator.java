@@ -0,0 +1,149 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.types;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.conjure.java.ConjureAnnotations;
+import com.palantir.conjure.java.lib.SafeLong;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates a {@link JsonSerializer} and {@link JsonDeserializer} nested in aliases of {@code integer}, {@code double},
+ * {@code safelong}, {@code string} and external {@code long} imports. Values are written and read as primitives, rather
+ * than boxed for the reflective {@code @JsonValue} accessor and delegating creators.
+ */
+final class AliasSerDeGenerator {
+
+    static final String SERIALIZER_NAME = "JacksonSerializer";
+    static final String DESERIALIZER_NAME = "JacksonDeserializer";
+
+    private static final ClassName STRING = ClassName.get(String.class);
+    private static final ClassName SAFE_LONG = ClassName.get(SafeLong.class);
+
+    private AliasSerDeGenerator() {}
+
+    static boolean isSupported(TypeName aliasTypeName) {
+        return aliasTypeName.equals(TypeName.INT)
+                || aliasTypeName.equals(TypeName.LONG)
+                || aliasTypeName.equals(TypeName.DOUBLE)
+                || aliasTypeName.equals(SAFE_LONG)
+                || aliasTypeName.equals(STRING);
+    }
+
+    static TypeSpec generateSerializer(ClassName aliasClass, TypeName aliasTypeName) {
+        CodeBlock write;
+        if (aliasTypeName.equals(STRING)) {
+            write = CodeBlocks.statement("gen.writeString(value.value)");
+        } else if (aliasTypeName.equals(SAFE_LONG)) {
+            write = CodeBlocks.statement("gen.writeNumber(value.value.longValue())");
+        } else {
+            write = CodeBlocks.statement("gen.writeNumber(value.value)");
+        }
+        return TypeSpec.classBuilder(SERIALIZER_NAME)
+                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(AliasSerDeGenerator.class))
+                .addModifiers(Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(StdSerializer.class), aliasClass))
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($T.class)", aliasClass)
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("serialize")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(aliasClass, "value")
+                        .addParameter(JsonGenerator.class, "gen")
+                        .addParameter(SerializerProvider.class, "provider")
+                        .addException(IOException.class)
+                        .addCode(write)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Reads values with the primitive parsing of {@link StdDeserializer}, which applies the same coercions as the
+     * primitive deserializers the delegating creators would otherwise be bound with.
+     */
+    static TypeSpec generateDeserializer(ClassName aliasClass, TypeName aliasTypeName) {
+        MethodSpec.Builder deserialize = MethodSpec.methodBuilder("deserialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .returns(aliasClass)
+                .addException(IOException.class);
+        if (aliasTypeName.equals(STRING)) {
+            deserialize.addStatement(
+                    "return $T.of($T.instance.deserialize(p, ctxt))", aliasClass, StringDeserializer.class);
+        } else if (aliasTypeName.equals(TypeName.INT)) {
+            deserialize.addStatement("return $T.of(_parseIntPrimitive(p, ctxt))", aliasClass);
+        } else if (aliasTypeName.equals(TypeName.LONG)) {
+            deserialize.addStatement("return $T.of(_parseLongPrimitive(p, ctxt))", aliasClass);
+        } else {
+            // Range and format checks throw like the creators they replace, so are reported the same way
+            deserialize.beginControlFlow("try");
+            if (aliasTypeName.equals(SAFE_LONG)) {
+                deserialize.addStatement(
+                        "return $T.of($T.of(_parseLongPrimitive(p, ctxt)))", aliasClass, SafeLong.class);
+            } else {
+                // Mirrors the double alias creators: integers are checked as safe longs, and strings may only spell
+                // out the non-finite values
+                deserialize
+                        .beginControlFlow("if (p.hasToken($T.VALUE_NUMBER_INT))", JsonToken.class)
+                        .addStatement("return $T.of(p.getLongValue())", aliasClass)
+                        .endControlFlow()
+                        .beginControlFlow("if (p.hasToken($T.VALUE_STRING))", JsonToken.class)
+                        .addStatement("return $T.of(p.getText())", aliasClass)
+                        .endControlFlow()
+                        .addStatement("return $T.of(_parseDoublePrimitive(p, ctxt))", aliasClass);
+            }
+            deserialize
+                    .nextControlFlow("catch ($T e)", RuntimeException.class)
+                    .addStatement("return ($1T) ctxt.handleInstantiationProblem($1T.class, null, e)", aliasClass)
+                    .endControlFlow();
+        }
+        return TypeSpec.classBuilder(DESERIALIZER_NAME)
+                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(AliasSerDeGenerator.class))
+                .addModifiers(Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(StdDeserializer.class), aliasClass))
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($T.class)", aliasClass)
+                        .build())
+                .addMethod(deserialize.build())
+                .addMethod(MethodSpec.methodBuilder("isCachable")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return true")
+                        .build())
+                .build();
+    }
+}
@@ -19,17 +19,21 @@ package com.palantir.conjure.java.types;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.palantir.conjure.java.ConjureAnnotations;
 import com.palantir.conjure.java.Options;
 import com.palantir.conjure.java.lib.internal.ConjureCollections;
+import com.palantir.conjure.java.lib.internal.ConjureDoubleList;
+import com.palantir.conjure.java.lib.internal.ConjureIntegerList;
 import com.palantir.conjure.java.types.BeanGenerator.EnrichedField;
 import com.palantir.conjure.java.util.JavaNameSanitizer;
 import com.palantir.conjure.java.util.TypeFunctions;
 import com.palantir.conjure.java.visitor.DefaultableTypeVisitor;
 import com.palantir.conjure.java.visitor.MoreVisitors;
+import com.palantir.conjure.spec.AliasDefinition;
 import com.palantir.conjure.spec.ExternalReference;
 import com.palantir.conjure.spec.FieldDefinition;
 import com.palantir.conjure.spec.FieldName;
@@ -240,30 +244,41 @@ public final class BeanBuilderGenerator {
         FieldSpec.Builder spec = FieldSpec.builder(
                 typeMapper.getClassName(field.getType()), JavaNameSanitizer.sanitize(fieldName), Modifier.PRIVATE);
 
-        if (field.getType().accept(TypeVisitor.IS_LIST)) {
+        Optional<ClassName> primitiveList = primitiveList(field.getType(), options);
+        if (primitiveList.isPresent()) {
+            spec.initializer("new $T()", primitiveList.get());
+        } else if (field.getType().accept(TypeVisitor.IS_LIST)) {
             spec.initializer("new $T<>()", ArrayList.class);
         } else if (field.getType().accept(TypeVisitor.IS_SET)) {
             spec.initializer("new $T<>()", LinkedHashSet.class);
         } else if (field.getType().accept(TypeVisitor.IS_MAP)) {
             spec.initializer("new $T<>()", LinkedHashMap.class);
-        } else if (field.getType().accept(TypeVisitor.IS_OPTIONAL)) {
-            spec.initializer("$T.empty()", asRawType(typeMapper.getClassName(field.getType())));
-        } else if (field.getType().accept(MoreVisitors.IS_INTERNAL_REFERENCE)) {
-            com.palantir.conjure.spec.TypeName name = field.getType().accept(TypeVisitor.REFERENCE);
-            typeMapper
+        } else {
+            emptyValue(typeMapper, field.getType()).ifPresent(spec::initializer);
+        }
+
+        return EnrichedField.of(fieldName, field, spec.build());
+    }
+
+    /**
+     * The value of an unset optional field, or of an unset alias of an optional or collection. Collections themselves
+     * are excluded as the builder accumulates into mutable defaults.
+     */
+    static Optional<CodeBlock> emptyValue(TypeMapper typeMapper, Type type) {
+        if (type.accept(TypeVisitor.IS_OPTIONAL)) {
+            return Optional.of(CodeBlock.of("$T.empty()", asRawType(typeMapper.getClassName(type))));
+        } else if (type.accept(MoreVisitors.IS_INTERNAL_REFERENCE)) {
+            com.palantir.conjure.spec.TypeName name = type.accept(TypeVisitor.REFERENCE);
+            return typeMapper
                     .getType(name)
                     .filter(definition -> definition.accept(TypeDefinitionVisitor.IS_ALIAS))
                     .map(definition -> definition.accept(TypeDefinitionVisitor.ALIAS))
-                    .ifPresent(aliasDefinition -> {
-                        Type aliasType = aliasDefinition.getAlias();
-                        if (aliasType.accept(MoreVisitors.IS_COLLECTION) || aliasType.accept(TypeVisitor.IS_OPTIONAL)) {
-                            spec.initializer("$T.empty()", typeMapper.getClassName(field.getType()));
-                        }
-                    });
+                    .map(AliasDefinition::getAlias)
+                    .filter(aliasType ->
+                            aliasType.accept(MoreVisitors.IS_COLLECTION) || aliasType.accept(TypeVisitor.IS_OPTIONAL))
+                    .map(_aliasType -> CodeBlock.of("$T.empty()", typeMapper.getClassName(type)));
         }
-        // else no initializer
-
-        return EnrichedField.of(fieldName, field, spec.build());
+        return Optional.empty();
     }
 
     private Iterable<MethodSpec> createSetters(
@@ -286,21 +301,10 @@ public final class BeanBuilderGenerator {
         Type type = enriched.conjureDef().getType();
         AnnotationSpec.Builder annotationBuilder = AnnotationSpec.builder(JsonSetter.class)
                 .addMember("value", "$S", enriched.fieldName().get());
-        if (type.accept(TypeVisitor.IS_OPTIONAL)) {
-            annotationBuilder.addMember("nulls", "$T.SKIP", Nulls.class);
-        } else if (isCollectionType(type)) {
-            annotationBuilder.addMember("nulls", "$T.SKIP", Nulls.class);
-            if (isOptionalInnerType(type)) {
-                annotationBuilder.addMember("contentNulls", "$T.AS_EMPTY", Nulls.class);
-            } else if (options.nonNullCollections()) {
-                annotationBuilder.addMember("contentNulls", "$T.FAIL", Nulls.class);
-            }
-        } else if (type.accept(TypeVisitor.IS_REFERENCE)) {
-            Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(type, typesMap);
-            if (dealiased.accept(DefaultableTypeVisitor.INSTANCE)) {
-                annotationBuilder.addMember("nulls", "$T.AS_EMPTY", Nulls.class);
-            }
-        }
+        valueNulls(type, typesMap)
+                .ifPresent(nulls -> annotationBuilder.addMember("nulls", "$T.$L", Nulls.class, nulls));
+        contentNulls(typeMapper, type, options)
+                .ifPresent(nulls -> annotationBuilder.addMember("contentNulls", "$T.$L", Nulls.class, nulls));
 
         boolean shouldClearFirst = true;
         MethodSpec.Builder setterBuilder = BeanBuilderAuxiliarySettersUtils.publicSetter(enriched, builderClass)
@@ -314,11 +318,13 @@ public final class BeanBuilderGenerator {
             setterBuilder.addCode("this.$L = true;", deriveFieldInitializedName(enriched));
         }
 
-        return setterBuilder
+        setterBuilder
                 .addStatement("return this")
                 .addAnnotations(ConjureAnnotations.override(override))
-                .addAnnotation(annotationBuilder.build())
-                .build();
+                .addAnnotation(annotationBuilder.build());
+        primitiveList(type, options).ifPresent(listClass -> setterBuilder.addAnnotation(
+                AnnotationSpec.builder(JsonDeserialize.class).addMember("as", "$T.class", listClass).build()));
+        return setterBuilder.build();
     }
 
     private MethodSpec createCollectionSetter(String prefix, EnrichedField enriched, boolean override) {
@@ -457,10 +463,18 @@ public final class BeanBuilderGenerator {
 
     private MethodSpec createItemSetter(EnrichedField enriched, Type itemType, boolean override) {
         FieldSpec field = enriched.poetSpec();
+        // primitive items are added without boxing them through List.add
+        CodeBlock addItem = primitiveList(enriched.conjureDef().getType(), options)
+                .map(listClass -> CodeBlocks.statement(
+                        "(($1T) this.$2N).$3N($2N)",
+                        listClass,
+                        field.name,
+                        listClass.equals(ClassName.get(ConjureIntegerList.class)) ? "addInt" : "addDouble"))
+                .orElseGet(() -> CodeBlocks.statement("this.$1N.add($1N)", field.name));
         return BeanBuilderAuxiliarySettersUtils.createItemSetterBuilder(enriched, itemType, typeMapper, builderClass)
                 .addAnnotations(ConjureAnnotations.override(override))
                 .addCode(verifyNotBuilt())
-                .addStatement("this.$1N.add($1N)", field.name)
+                .addCode(addItem)
                 .addStatement("return this")
                 .build();
     }
@@ -514,7 +528,54 @@ public final class BeanBuilderGenerator {
         return type.accept(TypeVisitor.IS_LIST) || type.accept(TypeVisitor.IS_SET) || type.accept(TypeVisitor.IS_MAP);
     }
 
-    private boolean isOptionalInnerType(Type type) {
+    /**
+     * The primitive-backed list accumulated by the builder for a {@code list<integer>} or {@code list<double>} field,
+     * if {@link Options#usePrimitiveLists()} is enabled.
+     */
+    static Optional<ClassName> primitiveList(Type type, Options options) {
+        if (!options.usePrimitiveLists() || !type.accept(TypeVisitor.IS_LIST)) {
+            return Optional.empty();
+        }
+        Type itemType = type.accept(TypeVisitor.LIST).getItemType();
+        if (!itemType.accept(TypeVisitor.IS_PRIMITIVE)) {
+            return Optional.empty();
+        }
+        switch (itemType.accept(TypeVisitor.PRIMITIVE).get()) {
+            case INTEGER:
+                return Optional.of(ClassName.get(ConjureIntegerList.class));
+            case DOUBLE:
+                return Optional.of(ClassName.get(ConjureDoubleList.class));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    /** The {@link JsonSetter#nulls()} behaviour of the primary setter for a field of the given type, if any. */
+    static Optional<Nulls> valueNulls(Type type, Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap) {
+        if (type.accept(TypeVisitor.IS_OPTIONAL) || isCollectionType(type)) {
+            return Optional.of(Nulls.SKIP);
+        } else if (type.accept(TypeVisitor.IS_REFERENCE)) {
+            Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(type, typesMap);
+            if (dealiased.accept(DefaultableTypeVisitor.INSTANCE)) {
+                return Optional.of(Nulls.AS_EMPTY);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /** The {@link JsonSetter#contentNulls()} behaviour of the primary setter for a field of the given type, if any. */
+    static Optional<Nulls> contentNulls(TypeMapper typeMapper, Type type, Options options) {
+        if (!isCollectionType(type)) {
+            return Optional.empty();
+        } else if (isOptionalInnerType(typeMapper, type)) {
+            return Optional.of(Nulls.AS_EMPTY);
+        } else if (options.nonNullCollections()) {
+            return Optional.of(Nulls.FAIL);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isOptionalInnerType(TypeMapper typeMapper, Type type) {
         return type.accept(new Type.Visitor<Boolean>() {
             @Override
             public Boolean visitPrimitive(PrimitiveType value) {
@@ -528,7 +589,7 @@ public final class BeanBuilderGenerator {
 
             @Override
             public Boolean visitList(ListType value) {
-                return isOptionalInnerType(value.getItemType());
+                return isOptionalInnerType(typeMapper, value.getItemType());
             }
 
             @Override
@@ -538,7 +599,7 @@ public final class BeanBuilderGenerator {
 
             @Override
             public Boolean visitMap(MapType value) {
-                return isOptionalInnerType(value.getValueType());
+                return isOptionalInnerType(typeMapper, value.getValueType());
             }
 
             @Override
@@ -29,6 +29,7 @@ import com.google.common.collect.PeekingIterator;
 import com.palantir.conjure.CaseConverter;
 import com.palantir.conjure.java.ConjureAnnotations;
 import com.palantir.conjure.java.Options;
+import com.palantir.conjure.java.lib.internal.ConjureCollections;
 import com.palantir.conjure.java.util.JavaNameSanitizer;
 import com.palantir.conjure.java.util.Javadoc;
 import com.palantir.conjure.java.util.Packages;
@@ -105,7 +106,7 @@ public final class BeanGenerator {
         TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(prefixedName.getName())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addFields(poetFields)
-                .addMethod(createConstructor(fields, poetFields))
+                .addMethod(createConstructor(fields, poetFields, options))
                 .addMethods(createGetters(fields, typesMap, options));
 
         if (!poetFields.isEmpty()) {
@@ -147,9 +148,21 @@ public final class BeanGenerator {
             ImmutableList<EnrichedField> fieldsNeedingBuilderStage = fields.stream()
                     .filter(field -> !fieldShouldBeInFinalStage(field))
                     .collect(ImmutableList.toImmutableList());
-            typeBuilder.addAnnotation(AnnotationSpec.builder(JsonDeserialize.class)
-                    .addMember("builder", "$T.class", builderImplementation)
-                    .build());
+            if (options.useGeneratedJacksonSerializers()) {
+                ClassName serializerClass = objectClass.nestedClass(BeanSerDeGenerator.SERIALIZER_NAME);
+                ClassName deserializerClass = objectClass.nestedClass(BeanSerDeGenerator.DESERIALIZER_NAME);
+                typeBuilder
+                        .addAnnotation(AnnotationSpec.builder(JsonSerialize.class)
+                                .addMember("using", "$T.class", serializerClass)
+                                .build())
+                        .addAnnotation(AnnotationSpec.builder(JsonDeserialize.class)
+                                .addMember("using", "$T.class", deserializerClass)
+                                .build());
+            } else {
+                typeBuilder.addAnnotation(AnnotationSpec.builder(JsonDeserialize.class)
+                        .addMember("builder", "$T.class", builderImplementation)
+                        .build());
+            }
             if (!options.useStagedBuilders() || fieldsNeedingBuilderStage.isEmpty()) {
                 typeBuilder
                         .addMethod(createBuilder(builderClass))
@@ -208,6 +221,12 @@ public final class BeanGenerator {
                                 Optional.of(ClassName.get(
                                         objectClass.packageName(), objectClass.simpleName(), builderInterface.name))));
             }
+            if (options.useGeneratedJacksonSerializers()) {
+                typeBuilder
+                        .addType(BeanSerDeGenerator.generateSerializer(objectClass, fields, typesMap, options))
+                        .addType(BeanSerDeGenerator.generateDeserializer(
+                                typeMapper, objectClass, fields, typesMap, options));
+            }
         }
         typeBuilder.addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(BeanGenerator.class));
 
@@ -393,7 +412,8 @@ public final class BeanGenerator {
                 .collect(ImmutableList.toImmutableList());
     }
 
-    private static MethodSpec createConstructor(Collection<EnrichedField> fields, Collection<FieldSpec> poetFields) {
+    private static MethodSpec createConstructor(
+            Collection<EnrichedField> fields, Collection<FieldSpec> poetFields, Options options) {
         MethodSpec.Builder builder = MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE);
 
         Collection<FieldSpec> nonPrimitivePoetFields = Collections2.filter(poetFields, f -> !f.type.isPrimitive());
@@ -407,15 +427,25 @@ public final class BeanGenerator {
 
             builder.addParameter(spec.type, spec.name);
 
-            // Collection and Map types not copied in constructor for performance. This assumes that the constructor
-            // is private and necessarily called from the builder, which does its own defensive copying.
-            if (field.conjureDef().getType().accept(TypeVisitor.IS_LIST)) {
+            // Collection and Map types not copied in constructor for performance, unless compact collections are
+            // requested. This assumes that the constructor is private and necessarily called from the builder, which
+            // does its own defensive copying.
+            Type type = field.conjureDef().getType();
+            Optional<ClassName> primitiveList = BeanBuilderGenerator.primitiveList(type, options);
+            boolean compact = options.useCompactCollections();
+            Class<?> collections = compact ? ConjureCollections.class : Collections.class;
+            if (primitiveList.isPresent()) {
+                body.addStatement("this.$1N = $2T.unmodifiable($1N)", spec, primitiveList.get());
+            } else if (type.accept(TypeVisitor.IS_LIST)) {
                 // TODO(melliot): contribute a fix to JavaPoet that parses $T correctly for a JavaPoet FieldSpec
-                body.addStatement("this.$1N = $2T.unmodifiableList($1N)", spec, Collections.class);
-            } else if (field.conjureDef().getType().accept(TypeVisitor.IS_SET)) {
-                body.addStatement("this.$1N = $2T.unmodifiableSet($1N)", spec, Collections.class);
-            } else if (field.conjureDef().getType().accept(TypeVisitor.IS_MAP)) {
-                body.addStatement("this.$1N = $2T.unmodifiableMap($1N)", spec, Collections.class);
+                body.addStatement(
+                        "this.$1N = $2T.$3L($1N)", spec, collections, compact ? "immutableList" : "unmodifiableList");
+            } else if (type.accept(TypeVisitor.IS_SET)) {
+                body.addStatement(
+                        "this.$1N = $2T.$3L($1N)", spec, collections, compact ? "immutableSet" : "unmodifiableSet");
+            } else if (type.accept(TypeVisitor.IS_MAP)) {
+                body.addStatement(
+                        "this.$1N = $2T.$3L($1N)", spec, collections, compact ? "immutableMap" : "unmodifiableMap");
             } else {
                 body.addStatement("this.$1N = $1N", spec);
             }
@@ -446,20 +476,41 @@ public final class BeanGenerator {
                         .build())
                 .returns(field.poetSpec().type);
         Type conjureDefType = field.conjureDef().getType();
+        inclusion(conjureDefType, typesMap, featureFlags)
+                .ifPresent(include -> getterBuilder.addAnnotation(AnnotationSpec.builder(JsonInclude.class)
+                        .addMember("value", "$T.$L", JsonInclude.Include.class, include)
+                        .build()));
+
+        if (conjureDefType.accept(TypeVisitor.IS_BINARY) && !featureFlags.useImmutableBytes()) {
+            getterBuilder.addStatement("return this.$N.asReadOnlyBuffer()", field.poetSpec().name);
+        } else {
+            getterBuilder.addStatement("return this.$N", field.poetSpec().name);
+        }
+
+        Javadoc.render(field.conjureDef().getDocs(), field.conjureDef().getDeprecated())
+                .ifPresent(javadoc -> getterBuilder.addJavadoc("$L", javadoc));
+        field.conjureDef().getDeprecated().ifPresent(_deprecated -> getterBuilder.addAnnotation(Deprecated.class));
+        return getterBuilder.build();
+    }
+
+    /**
+     * The {@link JsonInclude} behaviour of a field of the given type, if it may be excluded from serialization. Note,
+     * this is an implementation detail shared between {@link BeanGenerator} and {@link BeanSerDeGenerator}.
+     */
+    static Optional<JsonInclude.Include> inclusion(
+            Type conjureDefType,
+            Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap,
+            Options featureFlags) {
         if (featureFlags.excludeEmptyOptionals()) {
             if (conjureDefType.accept(TypeVisitor.IS_OPTIONAL)) {
                 // NON_ABSENT is most accurate for java Optional types (including OptionalDouble/OptionalInt, etc)
-                getterBuilder.addAnnotation(AnnotationSpec.builder(JsonInclude.class)
-                        .addMember("value", "$T.NON_ABSENT", JsonInclude.Include.class)
-                        .build());
+                return Optional.of(JsonInclude.Include.NON_ABSENT);
             } else if (conjureDefType.accept(TypeVisitor.IS_REFERENCE)
                     && TypeFunctions.toConjureTypeWithoutAliases(conjureDefType, typesMap)
                             .accept(TypeVisitor.IS_OPTIONAL)) {
                 // Aliases are special, as usual. Inclusion cannot take advantage of the optional delegate types,
                 // however the default (hidden no-arg constructor) can be leveraged using NON_EMPTY.
-                getterBuilder.addAnnotation(AnnotationSpec.builder(JsonInclude.class)
-                        .addMember("value", "$T.NON_EMPTY", JsonInclude.Include.class)
-                        .build());
+                return Optional.of(JsonInclude.Include.NON_EMPTY);
             }
         }
 
@@ -468,22 +519,10 @@ public final class BeanGenerator {
                     ? TypeFunctions.toConjureTypeWithoutAliases(conjureDefType, typesMap)
                     : conjureDefType;
             if (dealiased.accept(MoreVisitors.IS_COLLECTION)) {
-                getterBuilder.addAnnotation(AnnotationSpec.builder(JsonInclude.class)
-                        .addMember("value", "$T.NON_EMPTY", JsonInclude.Include.class)
-                        .build());
+                return Optional.of(JsonInclude.Include.NON_EMPTY);
             }
         }
-
-        if (conjureDefType.accept(TypeVisitor.IS_BINARY) && !featureFlags.useImmutableBytes()) {
-            getterBuilder.addStatement("return this.$N.asReadOnlyBuffer()", field.poetSpec().name);
-        } else {
-            getterBuilder.addStatement("return this.$N", field.poetSpec().name);
-        }
-
-        Javadoc.render(field.conjureDef().getDocs(), field.conjureDef().getDeprecated())
-                .ifPresent(javadoc -> getterBuilder.addJavadoc("$L", javadoc));
-        field.conjureDef().getDeprecated().ifPresent(_deprecated -> getterBuilder.addAnnotation(Deprecated.class));
-        return getterBuilder.build();
+        return Optional.empty();
     }
 
     private static MethodSpec createValidateFields(Collection<EnrichedField> fields) {
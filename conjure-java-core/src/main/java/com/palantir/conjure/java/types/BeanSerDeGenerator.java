@@ -0,0 +1,522 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.types;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.PropertyMetadata;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.conjure.java.ConjureAnnotations;
+import com.palantir.conjure.java.Options;
+import com.palantir.conjure.java.types.BeanGenerator.EnrichedField;
+import com.palantir.conjure.java.visitor.MoreVisitors;
+import com.palantir.conjure.spec.Type;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.palantir.conjure.visitor.TypeVisitor;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates a {@link JsonSerializer} and {@link JsonDeserializer} nested in each bean, allowing Jackson to bind fields
+ * directly rather than through reflective bean property access. The deserializer parses into locals and invokes the
+ * private constructor once, bypassing the builder and its mutable collection defaults.
+ */
+final class BeanSerDeGenerator {
+
+    static final String SERIALIZER_NAME = "JacksonSerializer";
+    static final String DESERIALIZER_NAME = "JacksonDeserializer";
+
+    private static final String RESOLVED_FIELD = "resolved";
+    private static final String RESOLVE_METHOD = "resolveDeserializers";
+    private static final String RESOLVE_SERIALIZERS_METHOD = "resolveSerializers";
+    private static final String FIND_DESERIALIZER_METHOD = "findDeserializer";
+    private static final String FIND_SERIALIZER_METHOD = "findSerializer";
+    private static final String MISSING_FIELDS_METHOD = "missingFields";
+
+    /** Names used by the generated deserializer which must not be shadowed by per-field locals. */
+    private static final ImmutableSet<String> RESERVED_LOCALS = ImmutableSet.of("p", "ctxt", "token", "fieldName", "e");
+
+    private BeanSerDeGenerator() {}
+
+    static TypeSpec generateSerializer(
+            ClassName objectClass,
+            List<EnrichedField> fields,
+            Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap,
+            Options options) {
+        CodeBlock.Builder writeFields = CodeBlock.builder();
+        TypeSpec.Builder serializer = TypeSpec.classBuilder(SERIALIZER_NAME)
+                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(BeanSerDeGenerator.class))
+                .addModifiers(Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(StdSerializer.class), objectClass));
+        // Field serializers are resolved once from the declared field types, as the deserializer resolves its field
+        // deserializers, rather than looked up by the runtime class of each value on every write.
+        List<FieldSpec> serializerFields = new ArrayList<>();
+        MethodSpec.Builder resolve = MethodSpec.methodBuilder(RESOLVE_SERIALIZERS_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.SYNCHRONIZED)
+                .addParameter(SerializerProvider.class, "provider")
+                .addException(JsonMappingException.class)
+                .beginControlFlow("if ($N)", RESOLVED_FIELD)
+                .addStatement("return")
+                .endControlFlow();
+        for (EnrichedField field : fields) {
+            // Names are quoted and encoded once rather than on every write
+            FieldSpec name = FieldSpec.builder(
+                            SerializedString.class,
+                            CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, field.poetSpec().name),
+                            Modifier.PRIVATE,
+                            Modifier.STATIC,
+                            Modifier.FINAL)
+                    .initializer("new $T($S)", SerializedString.class, field.fieldName().get())
+                    .build();
+            serializer.addField(name);
+            writeFields.add(serializeField(field, name, typesMap, options));
+            FieldSpec spec = field.poetSpec();
+            if (hasFieldSerializer(spec)) {
+                serializerFields.add(FieldSpec.builder(
+                                ParameterizedTypeName.get(ClassName.get(JsonSerializer.class), spec.type.box()),
+                                serializerName(spec),
+                                Modifier.PRIVATE)
+                        .build());
+                resolve.addStatement(
+                        "this.$N = $N(provider, $S, $L)",
+                        serializerName(spec),
+                        FIND_SERIALIZER_METHOD,
+                        field.fieldName().get(),
+                        declaredType(spec.type));
+            }
+        }
+        resolve.addStatement("this.$N = true", RESOLVED_FIELD);
+
+        MethodSpec.Builder serialize = MethodSpec.methodBuilder("serialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(objectClass, "value")
+                .addParameter(JsonGenerator.class, "gen")
+                .addParameter(SerializerProvider.class, "provider")
+                .addException(IOException.class);
+        if (!serializerFields.isEmpty()) {
+            serialize
+                    .beginControlFlow("if (!$N)", RESOLVED_FIELD)
+                    .addStatement("$N(provider)", RESOLVE_SERIALIZERS_METHOD)
+                    .endControlFlow();
+        }
+        serialize
+                .addStatement("gen.writeStartObject(value)")
+                .addCode(writeFields.build())
+                .addStatement("gen.writeEndObject()");
+
+        serializer
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($T.class)", objectClass)
+                        .build())
+                .addMethod(serialize.build());
+        if (!serializerFields.isEmpty()) {
+            serializer
+                    .addFields(serializerFields)
+                    .addField(FieldSpec.builder(boolean.class, RESOLVED_FIELD, Modifier.PRIVATE, Modifier.VOLATILE)
+                            .build())
+                    .addMethod(resolve.build())
+                    .addMethod(createFindSerializer());
+        }
+        return serializer.build();
+    }
+
+    /**
+     * Strings and primitives are written directly. Fields of type {@code any} are declared as {@link Object}, which
+     * has no static serializer, so they are serialized by the runtime class of their value.
+     */
+    private static boolean hasFieldSerializer(FieldSpec spec) {
+        return !spec.type.equals(ClassName.get(String.class))
+                && !spec.type.isPrimitive()
+                && !spec.type.equals(ClassName.OBJECT);
+    }
+
+    private static String serializerName(FieldSpec spec) {
+        return spec.name + "Serializer";
+    }
+
+    private static CodeBlock serializeField(
+            EnrichedField field,
+            FieldSpec name,
+            Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap,
+            Options options) {
+        FieldSpec spec = field.poetSpec();
+        Type type = field.conjureDef().getType();
+        CodeBlock writeFieldName = CodeBlock.of("gen.writeFieldName($N);\n", name);
+        Optional<JsonInclude.Include> inclusion = BeanGenerator.inclusion(type, typesMap, options);
+        if (inclusion.isEmpty()) {
+            return CodeBlock.builder()
+                    .add(writeFieldName)
+                    .addStatement(writeValue(spec))
+                    .build();
+        } else if (inclusion.get() == JsonInclude.Include.NON_ABSENT) {
+            // Only applied to fields which are Optional, OptionalInt or OptionalDouble
+            return CodeBlock.builder()
+                    .beginControlFlow("if (value.$N.isPresent())", spec)
+                    .add(writeFieldName)
+                    .addStatement(writeValue(spec))
+                    .endControlFlow()
+                    .build();
+        } else if (type.accept(MoreVisitors.IS_COLLECTION)) {
+            return CodeBlock.builder()
+                    .beginControlFlow("if (!value.$N.isEmpty())", spec)
+                    .add(writeFieldName)
+                    .addStatement(writeValue(spec))
+                    .endControlFlow()
+                    .build();
+        }
+        // Aliases are delegated to their serializer to decide whether the wrapped value is empty, as Jackson would
+        return CodeBlock.builder()
+                .beginControlFlow("if (!this.$N.isEmpty(provider, value.$N))", serializerName(spec), spec)
+                .add(writeFieldName)
+                .addStatement(writeValue(spec))
+                .endControlFlow()
+                .build();
+    }
+
+    private static CodeBlock writeValue(FieldSpec spec) {
+        if (spec.type.equals(ClassName.get(String.class))) {
+            return CodeBlock.of("gen.writeString(value.$N)", spec);
+        } else if (spec.type.equals(TypeName.INT) || spec.type.equals(TypeName.DOUBLE)) {
+            return CodeBlock.of("gen.writeNumber(value.$N)", spec);
+        } else if (spec.type.equals(TypeName.BOOLEAN)) {
+            return CodeBlock.of("gen.writeBoolean(value.$N)", spec);
+        } else if (!hasFieldSerializer(spec)) {
+            return CodeBlock.of("provider.defaultSerializeValue(value.$N, gen)", spec);
+        }
+        return CodeBlock.of("this.$N.serialize(value.$N, gen, provider)", serializerName(spec), spec);
+    }
+
+    static TypeSpec generateDeserializer(
+            TypeMapper typeMapper,
+            ClassName objectClass,
+            List<EnrichedField> fields,
+            Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap,
+            Options options) {
+        TypeSpec.Builder deserializer = TypeSpec.classBuilder(DESERIALIZER_NAME)
+                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(BeanSerDeGenerator.class))
+                .addModifiers(Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(StdDeserializer.class), objectClass));
+        // Field deserializers are resolved on first use rather than through ResolvableDeserializer, which Jackson
+        // invokes as soon as an annotated deserializer is instantiated and which would never terminate on recursive
+        // types.
+        MethodSpec.Builder resolve = MethodSpec.methodBuilder(RESOLVE_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.SYNCHRONIZED)
+                .addParameter(DeserializationContext.class, "ctxt")
+                .addException(JsonMappingException.class)
+                .beginControlFlow("if ($N)", RESOLVED_FIELD)
+                .addStatement("return")
+                .endControlFlow();
+        CodeBlock.Builder locals = CodeBlock.builder();
+        CodeBlock.Builder switchBlock = CodeBlock.builder().beginControlFlow("switch (fieldName)");
+        List<String> localNames = new ArrayList<>(fields.size());
+        List<EnrichedField> primitiveFields = new ArrayList<>();
+        for (EnrichedField field : fields) {
+            FieldSpec spec = field.poetSpec();
+            Type type = field.conjureDef().getType();
+            String local = RESERVED_LOCALS.contains(spec.name) ? spec.name + "_" : spec.name;
+            String fieldDeserializer = spec.name + "Deserializer";
+            localNames.add(local);
+            deserializer.addField(
+                    ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class), spec.type.box()),
+                    fieldDeserializer,
+                    Modifier.PRIVATE);
+            resolve.addStatement(
+                    "this.$N = $N(ctxt, $S, $L, $L)",
+                    fieldDeserializer,
+                    FIND_DESERIALIZER_METHOD,
+                    field.fieldName().get(),
+                    javaType(spec.type, type, options),
+                    BeanBuilderGenerator.contentNulls(typeMapper, type, options)
+                            .map(nulls -> CodeBlock.of("$T.$L", Nulls.class, nulls))
+                            .orElseGet(() -> CodeBlock.of("$T.DEFAULT", Nulls.class)));
+            locals.addStatement("$T $N = $L", spec.type, local, initialValue(typeMapper, spec.type, type));
+            if (field.isPrimitive()) {
+                primitiveFields.add(field);
+                locals.addStatement("boolean $N = false", initializedName(field));
+            }
+
+            switchBlock.add("case $S:\n", field.fieldName().get()).indent();
+            Optional<Nulls> valueNulls = BeanBuilderGenerator.valueNulls(type, typesMap);
+            if (valueNulls.equals(Optional.of(Nulls.SKIP))) {
+                switchBlock
+                        .beginControlFlow("if (!p.hasToken($T.VALUE_NULL))", JsonToken.class)
+                        .addStatement("$N = this.$N.deserialize(p, ctxt)", local, fieldDeserializer)
+                        .endControlFlow();
+            } else {
+                switchBlock.beginControlFlow("if (p.hasToken($T.VALUE_NULL))", JsonToken.class);
+                if (valueNulls.equals(Optional.of(Nulls.AS_EMPTY))) {
+                    switchBlock.addStatement(
+                            "$N = ($T) this.$N.getEmptyValue(ctxt)", local, spec.type, fieldDeserializer);
+                } else {
+                    switchBlock.addStatement("$N = this.$N.getNullValue(ctxt)", local, fieldDeserializer);
+                }
+                switchBlock
+                        .nextControlFlow("else")
+                        .addStatement("$N = this.$N.deserialize(p, ctxt)", local, fieldDeserializer)
+                        .endControlFlow();
+            }
+            if (field.isPrimitive()) {
+                switchBlock.addStatement("$N = true", initializedName(field));
+            }
+            switchBlock.addStatement("break").unindent();
+        }
+        switchBlock.add("default:\n").indent();
+        if (options.strictObjects()) {
+            switchBlock.addStatement("ctxt.handleUnknownProperty(p, this, $T.class, fieldName)", objectClass);
+        } else {
+            switchBlock.addStatement("p.skipChildren()");
+        }
+        switchBlock.unindent().endControlFlow();
+        resolve.addStatement("this.$N = true", RESOLVED_FIELD);
+
+        CodeBlock.Builder construct = CodeBlock.builder().beginControlFlow("try");
+        if (!primitiveFields.isEmpty()) {
+            construct
+                    .beginControlFlow(
+                            "if ($L)",
+                            primitiveFields.stream()
+                                    .map(field -> CodeBlock.of("!$N", initializedName(field)))
+                                    .collect(CodeBlock.joining(" || ")))
+                    .addStatement(
+                            "throw $N($L)",
+                            MISSING_FIELDS_METHOD,
+                            primitiveFields.stream()
+                                    .map(field -> CodeBlock.of("$N", initializedName(field)))
+                                    .collect(CodeBlock.joining(", ")))
+                    .endControlFlow();
+        }
+        construct
+                .addStatement("return new $L", Expressions.constructorCall(objectClass, localNames))
+                .nextControlFlow("catch ($T e)", RuntimeException.class)
+                .addStatement("return ($1T) ctxt.handleInstantiationProblem($1T.class, null, e)", objectClass)
+                .endControlFlow();
+
+        MethodSpec deserialize = MethodSpec.methodBuilder("deserialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .returns(objectClass)
+                .addException(IOException.class)
+                .beginControlFlow("if (!$N)", RESOLVED_FIELD)
+                .addStatement("$N(ctxt)", RESOLVE_METHOD)
+                .endControlFlow()
+                .addStatement("$T token = p.currentToken()", JsonToken.class)
+                .beginControlFlow("if (token == $T.START_OBJECT)", JsonToken.class)
+                .addStatement("token = p.nextToken()")
+                .nextControlFlow("else if (token != $1T.FIELD_NAME && token != $1T.END_OBJECT)", JsonToken.class)
+                .addStatement("return ($1T) ctxt.handleUnexpectedToken($1T.class, p)", objectClass)
+                .endControlFlow()
+                .addCode(locals.build())
+                .beginControlFlow("for (; token == $T.FIELD_NAME; token = p.nextToken())", JsonToken.class)
+                .addStatement("String fieldName = p.currentName()")
+                .addStatement("p.nextToken()")
+                .beginControlFlow("try")
+                .addCode(switchBlock.build())
+                .nextControlFlow("catch ($T | $T e)", JsonMappingException.class, RuntimeException.class)
+                .addStatement("throw $T.wrapWithPath(e, $T.class, fieldName)", JsonMappingException.class, objectClass)
+                .endControlFlow()
+                .endControlFlow()
+                .addCode(construct.build())
+                .build();
+
+        return deserializer
+                .addField(FieldSpec.builder(boolean.class, RESOLVED_FIELD, Modifier.PRIVATE, Modifier.VOLATILE)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($T.class)", objectClass)
+                        .build())
+                .addMethod(deserialize)
+                .addMethod(MethodSpec.methodBuilder("isCachable")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return true")
+                        .build())
+                .addMethod(resolve.build())
+                .addMethod(createFindDeserializer())
+                .addMethods(
+                        primitiveFields.isEmpty()
+                                ? ImmutableList.of()
+                                : ImmutableList.of(createMissingFields(primitiveFields)))
+                .build();
+    }
+
+    /**
+     * Unset fields start out as the values the private constructor expects: {@code null} for required fields, which
+     * it reports as missing, and shared empty instances for collections so that absent fields allocate nothing.
+     */
+    private static CodeBlock initialValue(TypeMapper typeMapper, TypeName typeName, Type type) {
+        if (type.accept(TypeVisitor.IS_LIST)) {
+            return CodeBlock.of("$T.emptyList()", Collections.class);
+        } else if (type.accept(TypeVisitor.IS_SET)) {
+            return CodeBlock.of("$T.emptySet()", Collections.class);
+        } else if (type.accept(TypeVisitor.IS_MAP)) {
+            return CodeBlock.of("$T.emptyMap()", Collections.class);
+        } else if (typeName.equals(TypeName.BOOLEAN)) {
+            return CodeBlock.of("false");
+        } else if (typeName.isPrimitive()) {
+            return CodeBlock.of("0");
+        }
+        return BeanBuilderGenerator.emptyValue(typeMapper, type).orElseGet(() -> CodeBlock.of("null"));
+    }
+
+    private static MethodSpec createMissingFields(List<EnrichedField> primitiveFields) {
+        MethodSpec.Builder method = MethodSpec.methodBuilder(MISSING_FIELDS_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(SafeIllegalArgumentException.class)
+                .addStatement(
+                        "$T<$T> missingFields = new $T<>($L)",
+                        List.class,
+                        String.class,
+                        ArrayList.class,
+                        primitiveFields.size());
+        for (EnrichedField field : primitiveFields) {
+            method.addParameter(boolean.class, initializedName(field))
+                    .beginControlFlow("if (!$N)", initializedName(field))
+                    .addStatement("missingFields.add($S)", field.fieldName().get())
+                    .endControlFlow();
+        }
+        return method.addStatement(
+                        "return new $T($S, $T.of($S, missingFields))",
+                        SafeIllegalArgumentException.class,
+                        "Some required fields have not been set",
+                        SafeArg.class,
+                        "missingFields")
+                .build();
+    }
+
+    private static String initializedName(EnrichedField field) {
+        return "_" + field.poetSpec().name + "Initialized";
+    }
+
+    private static MethodSpec createFindDeserializer() {
+        TypeVariableName typeVariable = TypeVariableName.get("T");
+        TypeName deserializerType = ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class), typeVariable);
+        return MethodSpec.methodBuilder(FIND_DESERIALIZER_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addTypeVariable(typeVariable)
+                .returns(deserializerType)
+                .addParameter(DeserializationContext.class, "ctxt")
+                .addParameter(String.class, "name")
+                .addParameter(java.lang.reflect.Type.class, "type")
+                .addParameter(Nulls.class, "contentNulls")
+                .addException(JsonMappingException.class)
+                .addStatement("$T javaType = ctxt.getTypeFactory().constructType(type)", JavaType.class)
+                .addComment("Mirrors the contentNulls behaviour declared by the builder's @JsonSetter annotations")
+                .addStatement(
+                        "$T property = new $T.Std($T.construct(name), javaType, null, null, "
+                                + "$T.STD_OPTIONAL.withNulls(null, contentNulls))",
+                        BeanProperty.class,
+                        BeanProperty.class,
+                        PropertyName.class,
+                        PropertyMetadata.class)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked")
+                        .build())
+                .addStatement(
+                        "return ($T) ctxt.findContextualValueDeserializer(javaType, property)", deserializerType)
+                .build();
+    }
+
+    private static MethodSpec createFindSerializer() {
+        TypeVariableName typeVariable = TypeVariableName.get("T");
+        TypeName serializerType = ParameterizedTypeName.get(ClassName.get(JsonSerializer.class), typeVariable);
+        return MethodSpec.methodBuilder(FIND_SERIALIZER_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addTypeVariable(typeVariable)
+                .returns(serializerType)
+                .addParameter(SerializerProvider.class, "provider")
+                .addParameter(String.class, "name")
+                .addParameter(java.lang.reflect.Type.class, "type")
+                .addException(JsonMappingException.class)
+                .addStatement("$T javaType = provider.getTypeFactory().constructType(type)", JavaType.class)
+                .addStatement(
+                        "$T property = new $T.Std($T.construct(name), javaType, null, null, $T.STD_OPTIONAL)",
+                        BeanProperty.class,
+                        BeanProperty.class,
+                        PropertyName.class,
+                        PropertyMetadata.class)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked")
+                        .build())
+                .addStatement("return ($T) provider.findPrimaryPropertySerializer(javaType, property)", serializerType)
+                .build();
+    }
+
+    /**
+     * Top-level sets are bound as {@link LinkedHashSet} rather than Jackson's default {@code HashSet}, preserving the
+     * encounter order which the builder would otherwise have provided. Primitive lists are bound as the same
+     * primitive-backed list the builder would have accumulated into.
+     */
+    private static CodeBlock javaType(TypeName typeName, Type type, Options options) {
+        Optional<ClassName> primitiveList = BeanBuilderGenerator.primitiveList(type, options);
+        if (primitiveList.isPresent()) {
+            return CodeBlock.of("$T.class", primitiveList.get());
+        } else if (type.accept(TypeVisitor.IS_SET)) {
+            ParameterizedTypeName setType = (ParameterizedTypeName) typeName;
+            return CodeBlock.of(
+                    "new $T<$T>() {}.getType()",
+                    TypeReference.class,
+                    ParameterizedTypeName.get(
+                            ClassName.get(LinkedHashSet.class), setType.typeArguments.toArray(new TypeName[0])));
+        }
+        return declaredType(typeName);
+    }
+
+    private static CodeBlock declaredType(TypeName typeName) {
+        if (typeName instanceof ParameterizedTypeName) {
+            return CodeBlock.of("new $T<$T>() {}.getType()", TypeReference.class, typeName);
+        }
+        return CodeBlock.of("$T.class", typeName);
+    }
+}
@@ -17,12 +17,20 @@
 package com.palantir.conjure.java.types;
 
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import com.google.errorprone.annotations.Immutable;
 import com.palantir.conjure.java.ConjureAnnotations;
 import com.palantir.conjure.java.Options;
+import com.palantir.conjure.java.lib.internal.ConjureEnums;
+import com.palantir.conjure.java.lib.internal.UnknownEnumValues;
 import com.palantir.conjure.java.util.Javadoc;
 import com.palantir.conjure.java.util.Packages;
 import com.palantir.conjure.spec.EnumDefinition;
@@ -38,6 +46,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +60,8 @@ public final class EnumGenerator {
     private static final String STRING_PARAMETER = "string";
     private static final String VISIT_METHOD_NAME = "visit";
     private static final String VISIT_UNKNOWN_METHOD_NAME = "visitUnknown";
+    private static final String UNKNOWN_VALUES_FIELD = "unknownValues";
+    private static final String DESERIALIZER_NAME = "JacksonDeserializer";
     private static final TypeVariableName TYPE_VARIABLE = TypeVariableName.get("T");
 
     private EnumGenerator() {}
@@ -64,16 +75,26 @@ public final class EnumGenerator {
                 prefixedTypeName.getPackage(), typeDef.getTypeName().getName(), "Visitor");
 
         return JavaFile.builder(
-                        prefixedTypeName.getPackage(), createSafeEnum(typeDef, thisClass, enumClass, visitorClass))
+                        prefixedTypeName.getPackage(),
+                        createSafeEnum(typeDef, thisClass, enumClass, visitorClass, options))
                 .skipJavaLangImports(true)
                 .indent("    ")
                 .build();
     }
 
     private static TypeSpec createSafeEnum(
-            EnumDefinition typeDef, ClassName thisClass, ClassName enumClass, ClassName visitorClass) {
-        TypeSpec.Builder wrapper = TypeSpec.classBuilder(typeDef.getTypeName().getName())
-                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(EnumGenerator.class))
+            EnumDefinition typeDef,
+            ClassName thisClass,
+            ClassName enumClass,
+            ClassName visitorClass,
+            Options options) {
+        TypeSpec.Builder wrapper = TypeSpec.classBuilder(typeDef.getTypeName().getName());
+        if (options.useGeneratedJacksonSerializers()) {
+            wrapper.addAnnotation(AnnotationSpec.builder(JsonDeserialize.class)
+                    .addMember("using", "$T.class", thisClass.nestedClass(DESERIALIZER_NAME))
+                    .build());
+        }
+        wrapper.addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(EnumGenerator.class))
                 .addAnnotation(Immutable.class)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addType(createEnum(enumClass, typeDef.getValues(), true))
@@ -82,6 +103,7 @@ public final class EnumGenerator {
                 .addField(ClassName.get(String.class), STRING_PARAMETER, Modifier.PRIVATE, Modifier.FINAL)
                 .addFields(createConstants(typeDef.getValues(), thisClass, enumClass))
                 .addField(createValuesList(thisClass, typeDef.getValues()))
+                .addField(createUnknownValues(thisClass, enumClass))
                 .addMethod(createConstructor(enumClass))
                 .addMethod(MethodSpec.methodBuilder("get")
                         .addModifiers(Modifier.PUBLIC)
@@ -116,9 +138,70 @@ public final class EnumGenerator {
                 thisClass,
                 enumClass);
 
+        if (options.useGeneratedJacksonSerializers()) {
+            wrapper.addType(createDeserializer(thisClass, typeDef.getValues()));
+        }
+
         return wrapper.build();
     }
 
+    /**
+     * Matches string tokens against each value using the parser's character buffer, so that only unknown values
+     * materialize a {@link String}.
+     */
+    private static TypeSpec createDeserializer(ClassName thisClass, List<EnumValueDefinition> values) {
+        boolean anyDeprecatedValues = values.stream()
+                .anyMatch(definition -> definition.getDeprecated().isPresent());
+        MethodSpec.Builder deserialize = MethodSpec.methodBuilder("deserialize")
+                .addAnnotation(Override.class)
+                .addAnnotations(
+                        anyDeprecatedValues
+                                ? ImmutableList.of(AnnotationSpec.builder(SuppressWarnings.class)
+                                        .addMember("value", "$S", "deprecation")
+                                        .build())
+                                : ImmutableList.of())
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .returns(thisClass)
+                .addException(IOException.class)
+                .beginControlFlow("if (!p.hasToken($T.VALUE_STRING))", JsonToken.class)
+                .addStatement(
+                        "return $T.valueOf($T.instance.deserialize(p, ctxt))", thisClass, StringDeserializer.class)
+                .endControlFlow()
+                .addStatement("char[] text = p.getTextCharacters()")
+                .addStatement("int offset = p.getTextOffset()")
+                .addStatement("int length = p.getTextLength()")
+                .beginControlFlow("if ($T.isAscii(text, offset, length))", ConjureEnums.class);
+        for (EnumValueDefinition value : values) {
+            deserialize
+                    .beginControlFlow(
+                            "if ($T.equalsIgnoreCaseAscii(text, offset, length, $S))",
+                            ConjureEnums.class,
+                            value.getValue())
+                    .addStatement("return $T.$N", thisClass, value.getValue())
+                    .endControlFlow();
+        }
+        // non-ASCII tokens may still match once upper-cased
+        deserialize.endControlFlow().addStatement("return $T.valueOf(p.getText())", thisClass);
+
+        return TypeSpec.classBuilder(DESERIALIZER_NAME)
+                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(EnumGenerator.class))
+                .addModifiers(Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(StdDeserializer.class), thisClass))
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($T.class)", thisClass)
+                        .build())
+                .addMethod(deserialize.build())
+                .addMethod(MethodSpec.methodBuilder("isCachable")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return true")
+                        .build())
+                .build();
+    }
+
     private static Iterable<FieldSpec> createConstants(
             Iterable<EnumValueDefinition> values, ClassName thisClass, ClassName enumClass) {
         return Iterables.transform(values, v -> {
@@ -240,7 +323,31 @@ public final class EnumGenerator {
                 .addAnnotation(Nonnull.class)
                 .build();
 
-        CodeBlock.Builder parser = CodeBlock.builder().beginControlFlow("switch (upperCasedValue)");
+        CodeBlock.Builder parser = CodeBlock.builder().beginControlFlow("switch ($N)", param);
+        for (EnumValueDefinition value : values) {
+            parser.add("case $S:\n", value.getValue())
+                    .indent()
+                    .addStatement("return $L", value.getValue())
+                    .unindent();
+        }
+        parser.add("default:\n")
+                .indent()
+                // unknown values are interned by their raw string, so are found without case folding
+                .addStatement("$T unknown = $N.getIfPresent($N)", thisClass, UNKNOWN_VALUES_FIELD, param)
+                .beginControlFlow("if (unknown != null)")
+                .addStatement("return unknown")
+                .endControlFlow();
+        // match case-insensitively for backwards compatibility, upper-casing a copy only of non-ASCII values
+        parser.beginControlFlow("if ($T.isAscii($N))", ConjureEnums.class, param);
+        for (EnumValueDefinition value : values) {
+            parser.beginControlFlow(
+                            "if ($T.equalsIgnoreCaseAscii($N, $S))", ConjureEnums.class, param, value.getValue())
+                    .addStatement("return $L", value.getValue())
+                    .endControlFlow();
+        }
+        parser.addStatement("return $N.get($N)", UNKNOWN_VALUES_FIELD, param).endControlFlow();
+        // non-ASCII characters may upper-case to ASCII, or to more than one character
+        parser.beginControlFlow("switch ($N.toUpperCase($T.ROOT))", param, Locale.class);
         for (EnumValueDefinition value : values) {
             parser.add("case $S:\n", value.getValue())
                     .indent()
@@ -249,7 +356,9 @@ public final class EnumGenerator {
         }
         parser.add("default:\n")
                 .indent()
-                .addStatement("return new $T(Value.UNKNOWN, upperCasedValue)", thisClass)
+                .addStatement("return $N.get($N)", UNKNOWN_VALUES_FIELD, param)
+                .unindent()
+                .endControlFlow()
                 .unindent()
                 .endControlFlow();
         boolean anyDeprecatedValues = values.stream()
@@ -266,8 +375,6 @@ public final class EnumGenerator {
                                 : ImmutableList.of())
                 .addParameter(param)
                 .addStatement("$L", Expressions.requireNonNull(param.name, param.name + " cannot be null"))
-                // uppercase param for backwards compatibility
-                .addStatement("String upperCasedValue = $N.toUpperCase($T.ROOT)", param, Locale.class)
                 .addCode(parser.build())
                 .build();
     }
@@ -295,6 +402,23 @@ public final class EnumGenerator {
                 .build();
     }
 
+    private static FieldSpec createUnknownValues(ClassName thisClass, ClassName enumClass) {
+        // unknown values are upper-cased for backwards compatibility
+        return FieldSpec.builder(
+                        ParameterizedTypeName.get(ClassName.get(UnknownEnumValues.class), thisClass),
+                        UNKNOWN_VALUES_FIELD,
+                        Modifier.PRIVATE,
+                        Modifier.STATIC,
+                        Modifier.FINAL)
+                .initializer(
+                        "$T.create(value -> new $T($T.UNKNOWN, value.toUpperCase($T.ROOT)))",
+                        UnknownEnumValues.class,
+                        thisClass,
+                        enumClass,
+                        Locale.class)
+                .build();
+    }
+
     private static MethodSpec createValues(ClassName thisClass) {
         return MethodSpec.methodBuilder("values")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
@@ -0,0 +1,304 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.types;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.palantir.conjure.java.ConjureAnnotations;
+import com.palantir.conjure.java.Options;
+import com.palantir.conjure.java.lib.internal.UnknownUnionProperties;
+import com.palantir.conjure.spec.FieldDefinition;
+import com.palantir.conjure.spec.FieldName;
+import com.palantir.conjure.spec.TypeDefinition;
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates a {@link JsonDeserializer} nested in each union which reads the {@code type} discriminator and dispatches
+ * to the member's deserializer with a switch, rather than through Jackson's polymorphic type handling. Properties are
+ * only buffered when they precede the discriminator.
+ */
+final class UnionDeserializerGenerator {
+
+    static final String DESERIALIZER_NAME = "JacksonDeserializer";
+
+    private static final String TYPE_PROPERTY = "type";
+    private static final String RESOLVED_FIELD = "resolved";
+    private static final String RESOLVE_METHOD = "resolveDeserializers";
+    private static final String FIND_DESERIALIZER_METHOD = "findDeserializer";
+    private static final String DESERIALIZE_MEMBER_METHOD = "deserializeMember";
+    private static final String READ_MEMBER_METHOD = "readMember";
+    private static final String READ_UNKNOWN_METHOD = "readUnknown";
+
+    private UnionDeserializerGenerator() {}
+
+    static TypeSpec generateDeserializer(
+            TypeMapper typeMapper,
+            Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap,
+            ClassName unionClass,
+            List<FieldDefinition> memberTypeDefs,
+            Options options) {
+        TypeSpec.Builder deserializer = TypeSpec.classBuilder(DESERIALIZER_NAME)
+                .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(UnionDeserializerGenerator.class))
+                .addModifiers(Modifier.STATIC, Modifier.FINAL)
+                .superclass(ParameterizedTypeName.get(ClassName.get(StdDeserializer.class), unionClass));
+        // Member deserializers are resolved on first use for the same reason as those of beans: Jackson resolves
+        // annotated deserializers as soon as they are instantiated, which would never terminate on recursive types.
+        MethodSpec.Builder resolve = MethodSpec.methodBuilder(RESOLVE_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.SYNCHRONIZED)
+                .addParameter(DeserializationContext.class, "ctxt")
+                .addException(JsonMappingException.class)
+                .beginControlFlow("if ($N)", RESOLVED_FIELD)
+                .addStatement("return")
+                .endControlFlow();
+        CodeBlock.Builder switchBlock = CodeBlock.builder().beginControlFlow("switch (type)");
+        for (FieldDefinition memberTypeDef : memberTypeDefs) {
+            String memberName = memberTypeDef.getFieldName().get();
+            FieldName sanitizedName = UnionGenerator.sanitizeUnknown(memberTypeDef.getFieldName());
+            TypeName memberType = typeMapper.getClassName(memberTypeDef.getType());
+            String memberDeserializer = sanitizedName.get() + "Deserializer";
+            deserializer.addField(
+                    ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class), memberType.box()),
+                    memberDeserializer,
+                    Modifier.PRIVATE);
+            resolve.addStatement(
+                    "this.$N = $N(ctxt, $L)", memberDeserializer, FIND_DESERIALIZER_METHOD, javaType(memberType));
+            switchBlock
+                    .add("case $S:\n", memberName)
+                    .indent()
+                    .addStatement(
+                            "return new $T(new $T($N(p, ctxt, $S, this.$N, $L)))",
+                            unionClass,
+                            UnionGenerator.wrapperClass(unionClass, sanitizedName),
+                            READ_MEMBER_METHOD,
+                            memberName,
+                            memberDeserializer,
+                            UnionGenerator.isDefaultable(memberTypeDef, typesMap))
+                    .unindent();
+        }
+        switchBlock.add("default:\n").indent().addStatement("break").unindent().endControlFlow();
+        resolve.addStatement("this.$N = true", RESOLVED_FIELD);
+
+        MethodSpec deserialize = MethodSpec.methodBuilder("deserialize")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .returns(unionClass)
+                .addException(IOException.class)
+                .beginControlFlow("if (!$N)", RESOLVED_FIELD)
+                .addStatement("$N(ctxt)", RESOLVE_METHOD)
+                .endControlFlow()
+                .addStatement("$T token = p.currentToken()", JsonToken.class)
+                .beginControlFlow("if (token == $T.START_OBJECT)", JsonToken.class)
+                .addStatement("token = p.nextToken()")
+                .nextControlFlow("else if (token != $1T.FIELD_NAME && token != $1T.END_OBJECT)", JsonToken.class)
+                .addStatement("return ($1T) ctxt.handleUnexpectedToken($1T.class, p)", unionClass)
+                .endControlFlow()
+                .addStatement("$T buffer = null", TokenBuffer.class)
+                .beginControlFlow("for (; token == $T.FIELD_NAME; token = p.nextToken())", JsonToken.class)
+                .addStatement("String fieldName = p.currentName()")
+                .addStatement("p.nextToken()")
+                .beginControlFlow("if (fieldName.equals($S))", TYPE_PROPERTY)
+                .addStatement(
+                        "String type = p.hasToken($T.VALUE_NULL) ? null : $T.instance.deserialize(p, ctxt)",
+                        JsonToken.class,
+                        StringDeserializer.class)
+                .beginControlFlow("if (buffer == null)")
+                .addStatement("p.nextToken()")
+                .addStatement("return $N(type, p, ctxt)", DESERIALIZE_MEMBER_METHOD)
+                .endControlFlow()
+                .addComment("Properties which preceded the discriminator are replayed ahead of the rest of the object")
+                .addStatement(
+                        "$T replay = $T.createFlattened(false, buffer.asParser(p), p)",
+                        JsonParser.class,
+                        JsonParserSequence.class)
+                .addStatement("replay.nextToken()")
+                .addStatement("return $N(type, replay, ctxt)", DESERIALIZE_MEMBER_METHOD)
+                .endControlFlow()
+                .beginControlFlow("if (buffer == null)")
+                .addStatement("buffer = new $T(p, ctxt)", TokenBuffer.class)
+                .endControlFlow()
+                .addStatement("buffer.writeFieldName(fieldName)")
+                .addStatement("buffer.copyCurrentStructure(p)")
+                .endControlFlow()
+                .addStatement("return $N(null, p, ctxt)", DESERIALIZE_MEMBER_METHOD)
+                .build();
+
+        MethodSpec deserializeMember = MethodSpec.methodBuilder(DESERIALIZE_MEMBER_METHOD)
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(String.class, "type")
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .returns(unionClass)
+                .addException(IOException.class)
+                .beginControlFlow("try")
+                .beginControlFlow("if (type != null)")
+                .addCode(switchBlock.build())
+                .endControlFlow()
+                .addComment("Unrecognized types are captured as unknown, and the wrapper rejects a missing type")
+                .addStatement(
+                        "return new $T(new $T(type, $L))",
+                        unionClass,
+                        unionClass.nestedClass(UnionGenerator.UNKNOWN_WRAPPER_CLASS_NAME),
+                        options.useBufferedUnknownUnionValues()
+                                ? CodeBlock.of("$T.read(p, ctxt)", UnknownUnionProperties.class)
+                                : CodeBlock.of("$N(p, ctxt)", READ_UNKNOWN_METHOD))
+                .nextControlFlow("catch ($T e)", RuntimeException.class)
+                .addStatement("return ($1T) ctxt.handleInstantiationProblem($1T.class, null, e)", unionClass)
+                .endControlFlow()
+                .build();
+
+        deserializer
+                .addField(FieldSpec.builder(boolean.class, RESOLVED_FIELD, Modifier.PRIVATE, Modifier.VOLATILE)
+                        .build())
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addStatement("super($T.class)", unionClass)
+                        .build())
+                .addMethod(deserialize)
+                .addMethod(MethodSpec.methodBuilder("isCachable")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(boolean.class)
+                        .addStatement("return true")
+                        .build())
+                .addMethod(deserializeMember)
+                .addMethod(resolve.build())
+                .addMethod(createFindDeserializer());
+        if (!memberTypeDefs.isEmpty()) {
+            deserializer.addMethod(createReadMember(unionClass));
+        }
+        if (!options.useBufferedUnknownUnionValues()) {
+            deserializer.addMethod(createReadUnknown());
+        }
+        return deserializer.build();
+    }
+
+    /**
+     * Reads the value of the named member and skips all other properties, as the wrappers' property-based creators
+     * would. Absent values are treated like explicit nulls.
+     */
+    private static MethodSpec createReadMember(ClassName unionClass) {
+        TypeVariableName typeVariable = TypeVariableName.get("T");
+        return MethodSpec.methodBuilder(READ_MEMBER_METHOD)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked")
+                        .build())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addTypeVariable(typeVariable)
+                .returns(typeVariable)
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .addParameter(String.class, "name")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class), typeVariable), "deser")
+                .addParameter(boolean.class, "asEmpty")
+                .addException(IOException.class)
+                .addStatement("$T value = null", typeVariable)
+                .beginControlFlow(
+                        "for ($1T token = p.currentToken(); token == $1T.FIELD_NAME; token = p.nextToken())",
+                        JsonToken.class)
+                .addStatement("String fieldName = p.currentName()")
+                .addStatement("p.nextToken()")
+                .beginControlFlow("if (!fieldName.equals(name))")
+                .addStatement("p.skipChildren()")
+                .nextControlFlow("else if (!p.hasToken($T.VALUE_NULL))", JsonToken.class)
+                .beginControlFlow("try")
+                .addStatement("value = deser.deserialize(p, ctxt)")
+                .nextControlFlow("catch ($T | $T e)", JsonMappingException.class, RuntimeException.class)
+                .addStatement("throw $T.wrapWithPath(e, $T.class, name)", JsonMappingException.class, unionClass)
+                .endControlFlow()
+                .endControlFlow()
+                .endControlFlow()
+                .beginControlFlow("if (value == null)")
+                .addStatement(
+                        "value = asEmpty ? ($T) deser.getEmptyValue(ctxt) : deser.getNullValue(ctxt)", typeVariable)
+                .endControlFlow()
+                .addStatement("return value")
+                .build();
+    }
+
+    /** Collects the properties of an unknown member as untyped values, as the unknown wrapper's any-setter would. */
+    private static MethodSpec createReadUnknown() {
+        TypeName mapType = ParameterizedTypeName.get(Map.class, String.class, Object.class);
+        return MethodSpec.methodBuilder(READ_UNKNOWN_METHOD)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(mapType)
+                .addParameter(JsonParser.class, "p")
+                .addParameter(DeserializationContext.class, "ctxt")
+                .addException(IOException.class)
+                .addStatement("$T value = new $T<>()", mapType, HashMap.class)
+                .beginControlFlow(
+                        "for ($1T token = p.currentToken(); token == $1T.FIELD_NAME; token = p.nextToken())",
+                        JsonToken.class)
+                .addStatement("String fieldName = p.currentName()")
+                .addStatement("p.nextToken()")
+                .beginControlFlow("if (fieldName.equals($S))", TYPE_PROPERTY)
+                .addStatement("p.skipChildren()")
+                .nextControlFlow("else")
+                .addStatement("value.put(fieldName, ctxt.readValue(p, $T.class))", Object.class)
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return value")
+                .build();
+    }
+
+    private static MethodSpec createFindDeserializer() {
+        TypeVariableName typeVariable = TypeVariableName.get("T");
+        TypeName deserializerType = ParameterizedTypeName.get(ClassName.get(JsonDeserializer.class), typeVariable);
+        return MethodSpec.methodBuilder(FIND_DESERIALIZER_METHOD)
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                        .addMember("value", "$S", "unchecked")
+                        .build())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addTypeVariable(typeVariable)
+                .returns(deserializerType)
+                .addParameter(DeserializationContext.class, "ctxt")
+                .addParameter(java.lang.reflect.Type.class, "type")
+                .addException(JsonMappingException.class)
+                .addStatement("$T javaType = ctxt.getTypeFactory().constructType(type)", JavaType.class)
+                .addStatement("return ($T) ctxt.findContextualValueDeserializer(javaType, null)", deserializerType)
+                .build();
+    }
+
+    private static CodeBlock javaType(TypeName typeName) {
+        if (typeName instanceof ParameterizedTypeName) {
+            return CodeBlock.of("new $T<$T>() {}.getType()", TypeReference.class, typeName);
+        }
+        return CodeBlock.of("$T.class", typeName);
+    }
+}
@@ -26,11 +26,17 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import com.palantir.conjure.java.ConjureAnnotations;
 import com.palantir.conjure.java.Options;
+import com.palantir.conjure.java.lib.internal.UnknownUnionProperties;
 import com.palantir.conjure.java.util.JavaNameSanitizer;
 import com.palantir.conjure.java.util.Javadoc;
 import com.palantir.conjure.java.util.Packages;
@@ -55,6 +61,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -76,7 +83,7 @@ public final class UnionGenerator {
     private static final String VALUE_FIELD_NAME = "value";
     public static final String UNKNOWN_TYPE_PARAM_NAME = "unknownType";
     public static final String UNKNOWN_VALUE_PARAM_NAME = "unknownValue";
-    private static final String UNKNOWN_WRAPPER_CLASS_NAME = "UnknownWrapper";
+    static final String UNKNOWN_WRAPPER_CLASS_NAME = "UnknownWrapper";
     private static final String VISIT_UNKNOWN_METHOD_NAME = "visitUnknown";
     private static final String COMPLETED = "completed_";
     private static final TypeVariableName TYPE_VARIABLE = TypeVariableName.get("T");
@@ -103,14 +110,22 @@ public final class UnionGenerator {
                 ImmutableList.of(FieldSpec.builder(baseClass, VALUE_FIELD_NAME, Modifier.PRIVATE, Modifier.FINAL)
                         .build());
 
-        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(
-                        typeDef.getTypeName().getName())
+        TypeSpec.Builder typeBuilder = TypeSpec.classBuilder(typeDef.getTypeName().getName());
+        boolean generateDeserializer =
+                options.useGeneratedJacksonSerializers() || options.useBufferedUnknownUnionValues();
+        if (generateDeserializer) {
+            ClassName deserializerClass = unionClass.nestedClass(UnionDeserializerGenerator.DESERIALIZER_NAME);
+            typeBuilder.addAnnotation(AnnotationSpec.builder(JsonDeserialize.class)
+                    .addMember("using", "$T.class", deserializerClass)
+                    .build());
+        }
+        typeBuilder
                 .addAnnotation(ConjureAnnotations.getConjureGeneratedAnnotation(UnionGenerator.class))
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addFields(fields)
                 .addMethod(generateConstructor(baseClass))
                 .addMethod(generateGetValue(baseClass))
-                .addMethods(generateStaticFactories(typeMapper, unionClass, typeDef.getUnion()))
+                .addMethods(generateStaticFactories(typeMapper, unionClass, typeDef.getUnion(), options))
                 .addMethod(generateAcceptVisitMethod(visitorClass))
                 .addType(generateVisitor(unionClass, visitorClass, memberTypes, visitorBuilderClass, options))
                 .addType(generateVisitorBuilder(unionClass, visitorClass, visitorBuilderClass, memberTypes, options))
@@ -118,7 +133,10 @@ public final class UnionGenerator {
                 .addType(generateBase(baseClass, visitorClass, memberTypes))
                 .addTypes(generateWrapperClasses(
                         typeMapper, typesMap, baseClass, visitorClass, typeDef.getUnion(), options))
-                .addType(generateUnknownWrapper(baseClass, visitorClass, options))
+                .addType(
+                        options.useBufferedUnknownUnionValues()
+                                ? generateBufferedUnknownWrapper(baseClass, visitorClass, options)
+                                : generateUnknownWrapper(baseClass, visitorClass, options))
                 .addMethod(generateEquals(unionClass))
                 .addMethod(MethodSpecs.createEqualTo(unionClass, fields))
                 .addMethod(MethodSpecs.createHashCode(fields))
@@ -127,6 +145,10 @@ public final class UnionGenerator {
                         fields.stream()
                                 .map(fieldSpec -> FieldName.of(fieldSpec.name))
                                 .collect(Collectors.toList())));
+        if (generateDeserializer) {
+            typeBuilder.addType(UnionDeserializerGenerator.generateDeserializer(
+                    typeMapper, typesMap, unionClass, typeDef.getUnion(), options));
+        }
 
         typeDef.getDocs().ifPresent(docs -> typeBuilder.addJavadoc("$L", Javadoc.render(docs)));
 
@@ -156,7 +178,7 @@ public final class UnionGenerator {
     }
 
     private static List<MethodSpec> generateStaticFactories(
-            TypeMapper typeMapper, ClassName unionClass, List<FieldDefinition> memberTypeDefs) {
+            TypeMapper typeMapper, ClassName unionClass, List<FieldDefinition> memberTypeDefs, Options options) {
         List<MethodSpec> staticFactories = memberTypeDefs.stream()
                 .map(memberTypeDef -> {
                     FieldName memberName = sanitizeUnknown(memberTypeDef.getFieldName());
@@ -179,11 +201,12 @@ public final class UnionGenerator {
                     return builder.build();
                 })
                 .collect(Collectors.toList());
-        staticFactories.add(generateUnknownStaticFactory(unionClass, memberTypeDefs));
+        staticFactories.add(generateUnknownStaticFactory(unionClass, memberTypeDefs, options));
         return staticFactories;
     }
 
-    private static MethodSpec generateUnknownStaticFactory(ClassName unionClass, List<FieldDefinition> memberTypeDefs) {
+    private static MethodSpec generateUnknownStaticFactory(
+            ClassName unionClass, List<FieldDefinition> memberTypeDefs, Options options) {
         String typeParam = "type";
         String valueParam = "value";
         MethodSpec.Builder builder = MethodSpec.methodBuilder("unknown")
@@ -203,13 +226,17 @@ public final class UnionGenerator {
                     "Unknown type cannot be created as the provided type is known: " + memberName);
         });
         // add default case, which actually builds the unknown
+        CodeBlock unknownValue = CodeBlock.of("$T.singletonMap($N, $N)", Collections.class, typeParam, valueParam);
+        if (options.useBufferedUnknownUnionValues()) {
+            unknownValue = CodeBlock.of("$T.of($L)", UnknownUnionProperties.class, unknownValue);
+        }
         builder.addCode("default:");
         builder.addStatement(
                 "return new $T(new $T($N, $L))",
                 unionClass,
                 wrapperClass(unionClass, FieldName.of("unknown")),
                 typeParam,
-                CodeBlock.of("$T.singletonMap($N, $N)", Collections.class, typeParam, valueParam));
+                unknownValue);
         builder.endControlFlow();
         return builder.build();
     }
@@ -764,13 +791,19 @@ public final class UnionGenerator {
             FieldDefinition field, Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap) {
         AnnotationSpec.Builder builder = AnnotationSpec.builder(JsonSetter.class)
                 .addMember("value", "$S", field.getFieldName().get());
-        Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(field.getType(), typesMap);
-        if (dealiased.accept(DefaultableTypeVisitor.INSTANCE)) {
+        if (isDefaultable(field, typesMap)) {
             builder.addMember("nulls", "$T.AS_EMPTY", Nulls.class);
         }
         return builder.build();
     }
 
+    /** Whether null values of the member are deserialized as its empty value. */
+    static boolean isDefaultable(
+            FieldDefinition field, Map<com.palantir.conjure.spec.TypeName, TypeDefinition> typesMap) {
+        Type dealiased = TypeFunctions.toConjureTypeWithoutAliases(field.getType(), typesMap);
+        return dealiased.accept(DefaultableTypeVisitor.INSTANCE);
+    }
+
     private static TypeSpec generateUnknownWrapper(ClassName baseClass, ClassName visitorClass, Options options) {
         ParameterizedTypeName genericMapType = ParameterizedTypeName.get(Map.class, String.class, Object.class);
         ParameterizedTypeName genericHashMapType = ParameterizedTypeName.get(HashMap.class, String.class, Object.class);
@@ -848,6 +881,76 @@ public final class UnionGenerator {
         return typeBuilder.build();
     }
 
+    /**
+     * Generates an unknown wrapper which holds its properties as {@link UnknownUnionProperties}. It serializes itself,
+     * writing buffered properties back verbatim, and is only ever created by the generated deserializer, so it needs
+     * none of the Jackson annotations of {@link #generateUnknownWrapper}.
+     */
+    private static TypeSpec generateBufferedUnknownWrapper(
+            ClassName baseClass, ClassName visitorClass, Options options) {
+        ParameterSpec typeParameter = ParameterSpec.builder(String.class, "type")
+                .addAnnotation(Nonnull.class)
+                .build();
+        ParameterSpec valueParameter = ParameterSpec.builder(UnknownUnionProperties.class, VALUE_FIELD_NAME)
+                .addAnnotation(Nonnull.class)
+                .build();
+        ClassName wrapperClass = baseClass.peerClass(UNKNOWN_WRAPPER_CLASS_NAME);
+        List<FieldSpec> fields = ImmutableList.of(
+                FieldSpec.builder(UNKNOWN_MEMBER_TYPE, "type", Modifier.PRIVATE, Modifier.FINAL)
+                        .build(),
+                FieldSpec.builder(UnknownUnionProperties.class, VALUE_FIELD_NAME, Modifier.PRIVATE, Modifier.FINAL)
+                        .build());
+        return TypeSpec.classBuilder(wrapperClass)
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addSuperinterface(baseClass)
+                .addSuperinterface(JsonSerializable.class)
+                .addFields(fields)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addModifiers(Modifier.PRIVATE)
+                        .addParameter(typeParameter)
+                        .addParameter(valueParameter)
+                        .addStatement("$L", Expressions.requireNonNull(typeParameter.name, "type cannot be null"))
+                        .addStatement(
+                                "$L",
+                                Expressions.requireNonNull(
+                                        VALUE_FIELD_NAME, String.format("%s cannot be null", VALUE_FIELD_NAME)))
+                        .addStatement("this.$1N = $1N", typeParameter)
+                        .addStatement("this.$1N = $1N", valueParameter)
+                        .build())
+                .addMethod(createWrapperAcceptMethod(
+                        visitorClass, VISIT_UNKNOWN_METHOD_NAME, typeParameter.name, false, options))
+                .addMethod(MethodSpec.methodBuilder("serialize")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(JsonGenerator.class, "gen")
+                        .addParameter(SerializerProvider.class, "serializers")
+                        .addException(IOException.class)
+                        .addStatement("gen.writeStartObject(this)")
+                        .addStatement("gen.writeStringField($S, type)", "type")
+                        .addStatement("$N.writeTo(gen, serializers)", VALUE_FIELD_NAME)
+                        .addStatement("gen.writeEndObject()")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("serializeWithType")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(JsonGenerator.class, "gen")
+                        .addParameter(SerializerProvider.class, "serializers")
+                        .addParameter(TypeSerializer.class, "typeSer")
+                        .addException(IOException.class)
+                        .addComment("The type is an existing property, so is written by serialize")
+                        .addStatement("serialize(gen, serializers)")
+                        .build())
+                .addMethod(MethodSpecs.createEquals(wrapperClass))
+                .addMethod(MethodSpecs.createEqualTo(wrapperClass, fields))
+                .addMethod(MethodSpecs.createHashCode(fields))
+                .addMethod(MethodSpecs.createToString(
+                        wrapperClass.simpleName(),
+                        fields.stream()
+                                .map(fieldSpec -> FieldName.of(fieldSpec.name))
+                                .collect(Collectors.toList())))
+                .build();
+    }
+
     private static MethodSpec createWrapperAcceptMethod(
             ClassName visitorClass, String visitMethodName, String valueName, boolean isDeprecated, Options options) {
         ParameterizedTypeName parameterizedVisitorClass = ParameterizedTypeName.get(visitorClass, TYPE_VARIABLE);
@@ -865,7 +968,9 @@ public final class UnionGenerator {
                     visitor,
                     visitMethodName,
                     "type",
-                    CodeBlock.of("$N.get($N)", VALUE_FIELD_NAME, "type"));
+                    options.useBufferedUnknownUnionValues()
+                            ? CodeBlock.of("$N.asMap().get($N)", VALUE_FIELD_NAME, "type")
+                            : CodeBlock.of("$N.get($N)", VALUE_FIELD_NAME, "type"));
         } else {
             methodBuilder.addStatement("return $N.$N($N)", visitor, visitMethodName, valueName);
         }
@@ -877,7 +982,7 @@ public final class UnionGenerator {
         return methodBuilder.build();
     }
 
-    private static ClassName wrapperClass(ClassName unionClass, FieldName memberTypeName) {
+    static ClassName wrapperClass(ClassName unionClass, FieldName memberTypeName) {
         return ClassName.get(
                 unionClass.packageName(),
                 unionClass.simpleName(),
@@ -904,7 +1009,7 @@ public final class UnionGenerator {
         return "unknown".equalsIgnoreCase(input) ? input + '_' : input;
     }
 
-    private static FieldName sanitizeUnknown(FieldName input) {
+    static FieldName sanitizeUnknown(FieldName input) {
         return "unknown".equalsIgnoreCase(input.get()) ? FieldName.of(input.get() + '_') : input;
     }
 
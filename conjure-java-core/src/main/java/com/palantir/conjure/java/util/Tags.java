@@ -22,10 +22,15 @@ public final class Tags {
 
     public static final String SERVER_REQUEST_CONTEXT_TAG = "server-request-context";
     public static final String SERVER_REQUEST_CONTEXT_PARAMETER = "requestContext";
+    public static final String SERVER_STREAMING_TAG = "server-streaming";
 
     public static boolean hasServerRequestContext(EndpointDefinition endpointDefinition) {
         return endpointDefinition.getTags().contains(SERVER_REQUEST_CONTEXT_TAG);
     }
 
+    public static boolean hasServerStreaming(EndpointDefinition endpointDefinition) {
+        return endpointDefinition.getTags().contains(SERVER_STREAMING_TAG);
+    }
+
     private Tags() {}
 }
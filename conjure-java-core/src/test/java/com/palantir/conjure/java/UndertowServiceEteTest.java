@@ -282,6 +282,30 @@ public final class UndertowServiceEteTest extends TestBase {
         connection.getInputStream().close();
     }
 
+    @Test
+    public void testContentLengthNotSetBeyondResponseBuffer() throws Exception {
+        // Responses are buffered in a single pooled buffer, larger responses are streamed using chunked encoding.
+        HttpURLConnection connection =
+                (HttpURLConnection) new URL("http://localhost:8080/test-example/api/base/notNullBody").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty(
+                HttpHeaders.AUTHORIZATION, AuthHeader.valueOf("authHeader").toString());
+        connection.setRequestProperty(HttpHeaders.CONTENT_TYPE, "application/json");
+        connection.setRequestProperty(HttpHeaders.ACCEPT, "application/json");
+        connection.setDoOutput(true);
+        String value = "a".repeat(64 * 1024);
+        byte[] contents = CLIENT_OBJECT_MAPPER.writeValueAsBytes(value);
+        try (OutputStream requestBody = connection.getOutputStream()) {
+            requestBody.write(contents);
+        }
+        assertThat(connection.getResponseCode()).isEqualTo(200);
+        assertThat(connection.getHeaderField(HttpHeaders.CONTENT_LENGTH)).isNull();
+        assertThat(connection.getHeaderField(HttpHeaders.TRANSFER_ENCODING)).isEqualTo("chunked");
+        try (InputStream responseBody = connection.getInputStream()) {
+            assertThat(CLIENT_OBJECT_MAPPER.readValue(responseBody, String.class)).isEqualTo(value);
+        }
+    }
+
     @Test
     public void testBinaryPost() throws Exception {
         byte[] expected = "Hello, World".getBytes(StandardCharsets.UTF_8);
@@ -81,6 +81,17 @@ public final class UndertowServiceGeneratorTests extends TestBase {
         validateGeneratorOutput(files, Paths.get("src/test/resources/test/api"), ".undertow.binary");
     }
 
+    @Test
+    public void testBinaryReturnAsync() throws IOException {
+        ConjureDefinition def = Conjure.parse(ImmutableList.of(new File("src/test/resources/example-binary.yml")));
+        List<Path> files = new GenerationCoordinator(
+                        MoreExecutors.directExecutor(),
+                        ImmutableSet.of(new UndertowServiceGenerator(
+                                Options.builder().undertowAsyncBinaryResponses(true).build())))
+                .emit(def, tempDir);
+        validateGeneratorOutput(files, Paths.get("src/test/resources/test/api"), ".undertow.async_binary");
+    }
+
     @Test
     public void testEndpointWithNameCollisions() throws IOException {
         ConjureDefinition def =
@@ -129,6 +140,16 @@ public final class UndertowServiceGeneratorTests extends TestBase {
         validateGeneratorOutput(files, Paths.get("src/test/resources/test/api"), ".undertow");
     }
 
+    @Test
+    public void testStreamingEndpoints() throws IOException {
+        ConjureDefinition def =
+                Conjure.parse(ImmutableList.of(new File("src/test/resources/undertow-streaming-endpoint.yml")));
+        List<Path> files = new GenerationCoordinator(
+                        MoreExecutors.directExecutor(), ImmutableSet.of(new UndertowServiceGenerator(Options.empty())))
+                .emit(def, tempDir);
+        validateGeneratorOutput(files, Paths.get("src/test/resources/test/api"), ".undertow.streaming");
+    }
+
     private void testServiceGeneration(String conjureFile) throws IOException {
         ConjureDefinition def = Conjure.parse(ImmutableList.of(new File("src/test/resources/" + conjureFile + ".yml")));
         List<Path> files = new GenerationCoordinator(
@@ -38,6 +38,26 @@ public class EnumTests {
         assertThat(EnumExample.valueOf("ONE")).isSameAs(EnumExample.ONE);
     }
 
+    @Test
+    public void testValueOfIsCaseInsensitive() {
+        assertThat(EnumExample.valueOf("one_hundred")).isSameAs(EnumExample.ONE_HUNDRED);
+        assertThat(EnumExample.valueOf("One")).isSameAs(EnumExample.ONE);
+    }
+
+    @Test
+    public void testNonAsciiUnknownValuesAreInterned() {
+        EnumExample enumExample = EnumExample.valueOf("\u00F6ne");
+        assertThat(enumExample.get()).isEqualTo(EnumExample.Value.UNKNOWN);
+        assertThat(enumExample).hasToString("\u00D6NE").isSameAs(EnumExample.valueOf("\u00F6ne"));
+    }
+
+    @Test
+    public void testUnknownValuesAreInterned() {
+        EnumExample enumExample = EnumExample.valueOf("some_value");
+        assertThat(enumExample).hasToString("SOME_VALUE").isSameAs(EnumExample.valueOf("some_value"));
+        assertThat(EnumExample.valueOf("SOME_VALUE")).isEqualTo(enumExample);
+    }
+
     @Test
     public void testUnknown() {
         EnumExample enumExample = EnumExample.valueOf("SOME_VALUE");
@@ -0,0 +1,241 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidNullException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.conjure.java.lib.SafeLong;
+import com.palantir.conjure.java.serialization.ObjectMappers;
+import com.palantir.serde.BufferedUnionExample;
+import com.palantir.serde.CollectionsTestAliasList;
+import com.palantir.serde.CollectionsTestObject;
+import com.palantir.serde.DoubleAliasExample;
+import com.palantir.serde.EnumExample;
+import com.palantir.serde.ExternalLongAliasExample;
+import com.palantir.serde.IntegerAliasExample;
+import com.palantir.serde.ManyFieldExample;
+import com.palantir.serde.SafeLongAliasExample;
+import com.palantir.serde.StringAliasExample;
+import com.palantir.serde.UnionExample;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+/** Verifies that generated Jackson serializers behave like the builder-based bindings they replace. */
+@Execution(ExecutionMode.CONCURRENT)
+public final class GeneratedJacksonSerializersTests {
+    private static final ObjectMapper mapper = ObjectMappers.newServerObjectMapper();
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testMatchesBuilderBasedSerialization() throws Exception {
+        ManyFieldExample generated = ManyFieldExample.builder()
+                .string("string")
+                .integer(1)
+                .doubleValue(Double.NaN)
+                .optionalItem("optional")
+                .items(ImmutableList.of("one", "two"))
+                .set(ImmutableSet.of("three"))
+                .map(ImmutableMap.of("key", "value"))
+                .alias(StringAliasExample.of("alias"))
+                .build();
+        com.palantir.product.ManyFieldExample reflective = com.palantir.product.ManyFieldExample.builder()
+                .string("string")
+                .integer(1)
+                .doubleValue(Double.NaN)
+                .optionalItem("optional")
+                .items(ImmutableList.of("one", "two"))
+                .set(ImmutableSet.of("three"))
+                .map(ImmutableMap.of("key", "value"))
+                .alias(com.palantir.product.StringAliasExample.of("alias"))
+                .build();
+
+        String json = mapper.writeValueAsString(generated);
+        assertThat(json).isEqualTo(mapper.writeValueAsString(reflective));
+        assertThat(mapper.readValue(json, ManyFieldExample.class)).isEqualTo(generated);
+    }
+
+    @Test
+    public void testExcludesEmptyOptionals() throws Exception {
+        ManyFieldExample example = mapper.readValue(
+                "{\"string\": \"s\", \"integer\": 1, \"doubleValue\": 1.5, \"optionalItem\": null, \"alias\": \"a\"}",
+                ManyFieldExample.class);
+        assertThat(mapper.writeValueAsString(example))
+                .isEqualTo("{\"string\":\"s\",\"integer\":1,\"doubleValue\":1.5,\"items\":[],\"set\":[],\"map\":{},"
+                        + "\"alias\":\"a\"}");
+    }
+
+    @Test
+    public void testFailsOnNullCollectionElements() {
+        assertThatThrownBy(() -> mapper.readValue(
+                        "{\"string\": \"s\", \"integer\": 1, \"doubleValue\": 1, \"alias\": \"a\", \"items\": [null]}",
+                        ManyFieldExample.class))
+                .isInstanceOf(InvalidNullException.class);
+    }
+
+    @Test
+    public void testFailsOnMissingFields() {
+        assertThatThrownBy(() -> mapper.readValue("{\"string\": \"s\"}", ManyFieldExample.class))
+                .isInstanceOf(ValueInstantiationException.class);
+    }
+
+    @Test
+    public void testFailsOnNullRequiredField() {
+        assertThatThrownBy(() -> mapper.readValue("{\"string\": null}", ManyFieldExample.class))
+                .isInstanceOf(JsonMappingException.class);
+    }
+
+    @Test
+    public void testUnknownProperties() throws Exception {
+        String json = "{\"string\": \"s\", \"integer\": 1, \"doubleValue\": 1, \"alias\": \"a\", \"unknown\": [{}]}";
+        assertThatThrownBy(() -> mapper.readValue(json, ManyFieldExample.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+        assertThat(ObjectMappers.newClientObjectMapper()
+                        .readValue(json, ManyFieldExample.class)
+                        .getString())
+                .isEqualTo("s");
+    }
+
+    @Test
+    public void testAbsentAndNullFieldsAreEmpty() throws Exception {
+        CollectionsTestObject example = mapper.readValue(
+                "{\"items\": null, \"alist\": null, \"aset\": [1]}", CollectionsTestObject.class);
+        assertThat(example.getItems()).isEmpty();
+        assertThat(example.getItemsMap()).isEmpty();
+        assertThat(example.getOptionalItem()).isEmpty();
+        assertThat(example.getAlist()).isEqualTo(CollectionsTestAliasList.empty());
+        assertThat(example.getAset().get()).containsExactly(1);
+        assertThat(mapper.writeValueAsString(example)).isEqualTo("{\"optionalItem\":null,\"aset\":[1]}");
+    }
+
+    @Test
+    public void testPreservesSetOrder() throws Exception {
+        CollectionsTestObject example =
+                mapper.readValue("{\"itemsSet\": [\"c\", \"a\", \"b\"]}", CollectionsTestObject.class);
+        assertThat(example.getItemsSet()).containsExactly("c", "a", "b");
+    }
+
+    @Test
+    public void testEnumDeserializer() throws Exception {
+        assertThat(mapper.readValue("\"ONE\"", EnumExample.class)).isSameAs(EnumExample.ONE);
+        assertThat(mapper.readValue("\"one_hundred\"", EnumExample.class)).isSameAs(EnumExample.ONE_HUNDRED);
+        assertThat(mapper.readValue("\"other\"", EnumExample.class))
+                .isEqualTo(EnumExample.valueOf("OTHER"))
+                .extracting(EnumExample::get)
+                .isEqualTo(EnumExample.Value.UNKNOWN);
+        assertThat(mapper.readValue("1", EnumExample.class)).hasToString("1");
+        assertThat(mapper.readValue("null", EnumExample.class)).isNull();
+    }
+
+    @Test
+    public void testPrimitiveAliases() throws Exception {
+        assertThat(mapper.readValue("[1, 2]", IntegerAliasExample[].class))
+                .containsExactly(IntegerAliasExample.of(1), IntegerAliasExample.of(2));
+        assertThat(mapper.readValue("1234567890123", ExternalLongAliasExample.class))
+                .isEqualTo(ExternalLongAliasExample.of(1234567890123L));
+        assertThat(mapper.readValue("12", SafeLongAliasExample.class))
+                .isEqualTo(SafeLongAliasExample.of(SafeLong.of(12)));
+        assertThat(mapper.readValue("1.5", DoubleAliasExample.class)).isEqualTo(DoubleAliasExample.of(1.5));
+        assertThat(mapper.readValue("3", DoubleAliasExample.class)).isEqualTo(DoubleAliasExample.of(3.0));
+        assertThat(mapper.readValue("\"NaN\"", DoubleAliasExample.class)).isEqualTo(DoubleAliasExample.of(Double.NaN));
+        assertThat(mapper.readValue("\"alias\"", StringAliasExample.class)).isEqualTo(StringAliasExample.of("alias"));
+        assertThat(mapper.readValue("null", IntegerAliasExample.class)).isNull();
+
+        assertThat(mapper.writeValueAsString(ImmutableList.of(
+                        IntegerAliasExample.of(1),
+                        ExternalLongAliasExample.of(2),
+                        SafeLongAliasExample.of(SafeLong.of(3)),
+                        DoubleAliasExample.of(Double.NaN),
+                        StringAliasExample.of("alias"))))
+                .isEqualTo("[1,2,3,\"NaN\",\"alias\"]");
+    }
+
+    @Test
+    public void testPrimitiveAliasFailures() {
+        assertThatThrownBy(() -> mapper.readValue("9007199254740993", SafeLongAliasExample.class))
+                .isInstanceOf(ValueInstantiationException.class);
+        assertThatThrownBy(() -> mapper.readValue("9007199254740993", DoubleAliasExample.class))
+                .isInstanceOf(ValueInstantiationException.class);
+        assertThatThrownBy(() -> mapper.readValue("\"1.5\"", DoubleAliasExample.class))
+                .isInstanceOf(ValueInstantiationException.class);
+        assertThatThrownBy(() -> mapper.readValue("{}", IntegerAliasExample.class))
+                .isInstanceOf(JsonMappingException.class);
+    }
+
+    @Test
+    public void testUnionDeserializer() throws Exception {
+        UnionExample foo = UnionExample.foo("a");
+        assertThat(mapper.readValue("{\"type\": \"foo\", \"foo\": \"a\"}", UnionExample.class)).isEqualTo(foo);
+        assertThat(mapper.readValue("{\"foo\": \"a\", \"type\": \"foo\"}", UnionExample.class)).isEqualTo(foo);
+        assertThat(mapper.readValue(
+                        "{\"baz\": [{}], \"type\": \"foo\", \"other\": 1, \"foo\": \"a\"}", UnionExample.class))
+                .isEqualTo(foo);
+        assertThat(mapper.readValue(mapper.writeValueAsString(foo), UnionExample.class)).isEqualTo(foo);
+        assertThat(mapper.readValue("{\"type\": \"baz\", \"baz\": null}", UnionExample.class))
+                .isEqualTo(UnionExample.baz(Collections.emptyList()));
+    }
+
+    @Test
+    public void testUnionDeserializerUnknown() throws Exception {
+        UnionExample unknown = UnionExample.unknown("other", Collections.singletonMap("key", 1));
+        assertThat(mapper.readValue("{\"type\": \"other\", \"other\": {\"key\": 1}}", UnionExample.class))
+                .isEqualTo(unknown);
+        assertThat(mapper.readValue("{\"other\": {\"key\": 1}, \"type\": \"other\"}", UnionExample.class))
+                .isEqualTo(unknown);
+        assertThat(mapper.writeValueAsString(unknown)).isEqualTo("{\"type\":\"other\",\"other\":{\"key\":1}}");
+    }
+
+    @Test
+    public void testBufferedUnknownUnionValues() throws Exception {
+        String json = "{\"type\":\"other\",\"other\":{\"b\":[1,2],\"a\":\"x\"},\"extra\":true}";
+        Object other = ImmutableMap.of("b", ImmutableList.of(1, 2), "a", "x");
+        BufferedUnionExample unknown = mapper.readValue(
+                "{\"other\": {\"b\": [1, 2], \"a\": \"x\"}, \"type\": \"other\", \"extra\": true}",
+                BufferedUnionExample.class);
+        assertThat(mapper.writeValueAsString(unknown)).isEqualTo(json);
+        assertThat(unknown.accept(BufferedUnionExample.Visitor.<Object>builder()
+                        .foo(value -> value)
+                        .unknown((_type, value) -> value)
+                        .build()))
+                .isEqualTo(other);
+        assertThat(mapper.readValue(json.replace(",\"extra\":true", ""), BufferedUnionExample.class))
+                .isEqualTo(BufferedUnionExample.unknown("other", other));
+        assertThat(mapper.readValue("{\"type\": \"foo\", \"foo\": \"a\"}", BufferedUnionExample.class))
+                .isEqualTo(BufferedUnionExample.foo("a"));
+    }
+
+    @Test
+    public void testUnionDeserializerFailures() {
+        assertThatThrownBy(() -> mapper.readValue("{\"foo\": \"a\"}", UnionExample.class))
+                .isInstanceOf(ValueInstantiationException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"type\": \"foo\"}", UnionExample.class))
+                .isInstanceOf(ValueInstantiationException.class);
+        assertThatThrownBy(() -> mapper.readValue("{\"type\": \"bar\", \"bar\": \"a\"}", UnionExample.class))
+                .isInstanceOf(JsonMappingException.class);
+        assertThatThrownBy(() -> mapper.readValue("[]", UnionExample.class)).isInstanceOf(JsonMappingException.class);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
+import com.palantir.logsafe.exceptions.SafeNullPointerException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import io.undertow.io.AsyncSenderImpl;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.StatusCodes;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import org.xnio.IoUtils;
+
+/**
+ * Sends {@link AsyncBinaryResponseBody} responses from the exchange's IO thread using an {@link AsyncSenderImpl}, so
+ * that no worker thread is held while waiting for chunks to be produced or for slow clients to read them.
+ *
+ * <h3>Thread Model</h3>
+ *
+ * <ul>
+ *   <li>The exchange is dispatched to its IO thread, which keeps the exchange open after the endpoint handler returns.
+ *   <li>Each chunk is written on the IO thread. When a chunk cannot be written immediately the sender resumes writes
+ *       and completes the write once the channel is writable again.
+ *   <li>The next chunk is requested only once the previous chunk has been written. Chunk futures may be completed on
+ *       any thread, writing always moves back to the IO thread.
+ * </ul>
+ */
+final class AsyncBinaryResponses {
+
+    private static final SafeLogger log = SafeLoggerFactory.get(AsyncBinaryResponses.class);
+    private static final Executor DIRECT_EXECUTOR = MoreExecutors.directExecutor();
+
+    private AsyncBinaryResponses() {}
+
+    static void send(AsyncBinaryResponseBody body, HttpServerExchange exchange) {
+        if (exchange.isComplete()) {
+            // The client is gone (http/2 rst_stream while processing), there is nothing to send.
+            body.close();
+            return;
+        }
+        ChunkWriter writer = new ChunkWriter(body, exchange);
+        exchange.addExchangeCompleteListener(SafeExchangeCompletionListener.of(_exchange -> writer.close()));
+        // Writing begins after the endpoint handler has returned, see ConjureAsyncRequestProcessing.
+        exchange.dispatch(exchange.getIoThread(), writer::requestChunk);
+    }
+
+    private static final class ChunkWriter implements IoCallback {
+
+        private final AsyncBinaryResponseBody body;
+        private final HttpServerExchange exchange;
+        private final Sender sender;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Nullable
+        private volatile ListenableFuture<?> pending;
+
+        ChunkWriter(AsyncBinaryResponseBody body, HttpServerExchange exchange) {
+            this.body = body;
+            this.exchange = exchange;
+            this.sender = new AsyncSenderImpl(exchange);
+        }
+
+        void requestChunk() {
+            ListenableFuture<Optional<ByteBuffer>> future;
+            try {
+                future = body.nextChunk();
+            } catch (RuntimeException | Error e) {
+                fail(e);
+                return;
+            }
+            pending = future;
+            if (closed.get()) {
+                future.cancel(false);
+            } else if (future.isDone() && exchange.isInIoThread()) {
+                // Optimization: chunks which are already available are written without a task per chunk. Recursion
+                // is bounded because the sender queues data passed to it from within a completion callback.
+                write(future);
+            } else {
+                future.addListener(() -> exchange.getIoThread().execute(() -> write(future)), DIRECT_EXECUTOR);
+            }
+        }
+
+        private void write(ListenableFuture<Optional<ByteBuffer>> future) {
+            if (closed.get()) {
+                return;
+            }
+            Optional<ByteBuffer> chunk;
+            try {
+                chunk = Futures.getDone(future);
+                if (chunk == null) {
+                    throw new SafeNullPointerException("AsyncBinaryResponseBody produced a null chunk");
+                }
+            } catch (ExecutionException e) {
+                fail(e.getCause());
+                return;
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            if (chunk.isPresent()) {
+                sender.send(chunk.get(), this);
+            } else {
+                sender.close(IoCallback.END_EXCHANGE);
+            }
+        }
+
+        @Override
+        public void onComplete(HttpServerExchange _exchange, Sender _sender) {
+            requestChunk();
+        }
+
+        @Override
+        public void onException(HttpServerExchange _exchange, Sender _sender, IOException exception) {
+            IoCallback.END_EXCHANGE.onException(exchange, sender, exception);
+        }
+
+        private void fail(Throwable throwable) {
+            log.warn("Failed to produce an asynchronous binary response", throwable);
+            if (exchange.isResponseStarted()) {
+                // Data may have been sent, the client must not mistake a truncated body for a complete response.
+                IoUtils.safeClose(exchange.getConnection());
+            } else {
+                exchange.setStatusCode(StatusCodes.INTERNAL_SERVER_ERROR);
+            }
+            exchange.endExchange();
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                ListenableFuture<?> current = pending;
+                if (current != null) {
+                    current.cancel(false);
+                }
+                body.close();
+            }
+        }
+    }
+}
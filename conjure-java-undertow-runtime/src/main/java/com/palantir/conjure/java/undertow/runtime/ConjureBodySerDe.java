@@ -16,12 +16,15 @@
 
 package com.palantir.conjure.java.undertow.runtime;
 
-import com.google.common.base.Splitter;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BodySerDe;
 import com.palantir.conjure.java.undertow.lib.Deserializer;
 import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.FileRegionResponseBody;
 import com.palantir.conjure.java.undertow.lib.Serializer;
 import com.palantir.conjure.java.undertow.lib.TypeMarker;
 import com.palantir.logsafe.Preconditions;
@@ -39,8 +42,14 @@ import io.undertow.util.Protocols;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 import org.xnio.IoUtils;
 
 /** Package private internal API. */
@@ -48,41 +57,121 @@ final class ConjureBodySerDe implements BodySerDe {
 
     private static final SafeLogger log = SafeLoggerFactory.get(ConjureBodySerDe.class);
     private static final String BINARY_CONTENT_TYPE = "application/octet-stream";
-    private static final Splitter ACCEPT_VALUE_SPLITTER =
-            Splitter.on(',').trimResults().omitEmptyStrings();
 
+    private final ImmutableList<LazilyInitializedEncoding> lazilyInitializedEncodings;
     private final List<Encoding> encodings;
+    private final EncodingResolver encodingResolver;
+    private final boolean nonBlockingDeserialization;
+    private final Optional<ResponseBuffer> responseBuffer;
+    private final Optional<RequestBodySpool> requestBodySpool;
+    private final ConcurrentMap<String, Optional<EncodingDeserializerRegistry<?>>> nonBlockingReaders =
+            new ConcurrentHashMap<>();
 
     /**
-     * Selects the first (based on input order) of the provided encodings that
-     * {@link Encoding#supportsContentType supports} the serialization format {@link Headers#ACCEPT accepted} by a given
-     * request, or the first serializer if no such serializer can be found.
+     * Selects the provided encoding with the highest quality in the {@link Headers#ACCEPT accepted} media ranges of a
+     * given request, preferring client order and then input order when qualities are equal, or the first serializer if
+     * no such serializer can be found. See {@link EncodingResolver}.
      */
     ConjureBodySerDe(List<Encoding> encodings) {
+        this(encodings, Options.DEFAULT);
+    }
+
+    /** As {@link #ConjureBodySerDe(List)}, reading and writing bodies as configured by the given {@link Options}. */
+    ConjureBodySerDe(List<Encoding> encodings, Options options) {
         // Defensive copy
-        this.encodings =
-                encodings.stream().map(LazilyInitializedEncoding::new).collect(ImmutableList.toImmutableList());
+        this.lazilyInitializedEncodings = encodings.stream()
+                .map(encoding -> new LazilyInitializedEncoding(encoding, options.primeEncodings))
+                .collect(ImmutableList.toImmutableList());
+        this.encodings = ImmutableList.copyOf(lazilyInitializedEncodings);
         Preconditions.checkArgument(encodings.size() > 0, "At least one Encoding is required");
+        this.encodingResolver = new EncodingResolver(this.encodings);
+        this.nonBlockingDeserialization = options.nonBlockingDeserialization;
+        this.responseBuffer = options.responseBufferSize > 0
+                ? Optional.of(new ResponseBuffer(options.responseBufferSize))
+                : Optional.empty();
+        this.requestBodySpool = options.binaryRequestSpoolThreshold > 0
+                ? Optional.of(new RequestBodySpool(options.binaryRequestSpoolThreshold))
+                : Optional.empty();
+    }
+
+    /**
+     * Initializes the serializers and deserializers created before the first call if priming is enabled, so the first
+     * request to each endpoint does not pay for Jackson to resolve serializers for its types. Serializers created after
+     * the first call are not recorded, and are initialized on first use. The time taken for each type is logged at
+     * debug level.
+     */
+    ImmutableList<LazilyInitializedEncoding.Initialization> prime() {
+        long start = System.nanoTime();
+        ImmutableList<LazilyInitializedEncoding.Initialization> initialized = lazilyInitializedEncodings.stream()
+                .flatMap(encoding -> encoding.prime().stream())
+                .collect(ImmutableList.toImmutableList());
+        if (initialized.isEmpty()) {
+            return initialized;
+        }
+        if (log.isDebugEnabled()) {
+            for (LazilyInitializedEncoding.Initialization initialization : initialized) {
+                log.debug(
+                        "Primed encoding",
+                        SafeArg.of("type", TracedEncoding.toString(initialization.type())),
+                        SafeArg.of("contentType", initialization.contentType()),
+                        SafeArg.of("operation", initialization.operation()),
+                        SafeArg.of("durationMicros", initialization.duration().toNanos() / 1000));
+            }
+        }
+        log.info(
+                "Primed encodings",
+                SafeArg.of("count", initialized.size()),
+                SafeArg.of("durationMillis", Duration.ofNanos(System.nanoTime() - start).toMillis()));
+        return initialized;
     }
 
     @Override
     public <T> Serializer<T> serializer(TypeMarker<T> token) {
-        return new EncodingSerializerRegistry<>(encodings, token, Optional.empty());
+        return new EncodingSerializerRegistry<>(encodings, encodingResolver, responseBuffer, token, Optional.empty());
     }
 
     @Override
     public <T> Serializer<T> serializer(TypeMarker<T> token, Endpoint endpoint) {
-        return new EncodingSerializerRegistry<>(encodings, token, Optional.of(endpoint));
+        return new EncodingSerializerRegistry<>(
+                encodings, encodingResolver, responseBuffer, token, Optional.of(endpoint));
     }
 
     @Override
     public <T> Deserializer<T> deserializer(TypeMarker<T> token) {
-        return new EncodingDeserializerRegistry<>(encodings, token, Optional.empty());
+        return new EncodingDeserializerRegistry<>(encodings, encodingResolver, token, Optional.empty());
     }
 
     @Override
     public <T> Deserializer<T> deserializer(TypeMarker<T> token, Endpoint endpoint) {
-        return new EncodingDeserializerRegistry<>(encodings, token, Optional.of(endpoint));
+        EncodingDeserializerRegistry<T> registry =
+                new EncodingDeserializerRegistry<>(encodings, encodingResolver, token, Optional.of(endpoint));
+        if (nonBlockingDeserialization) {
+            // Endpoint handlers are wrapped before they're registered, so registries are found by endpoint metadata
+            // rather than identity. Conflicting registrations are ambiguous and always use blocking reads.
+            nonBlockingReaders.merge(
+                    nonBlockingReaderKey(endpoint),
+                    Optional.of(registry),
+                    (existing, duplicate) -> existing.isPresent()
+                                    && duplicate.isPresent()
+                                    && existing.get().type().equals(duplicate.get().type())
+                            ? existing
+                            : Optional.empty());
+        }
+        return registry;
+    }
+
+    /**
+     * Returns the reader used to receive request bodies for the given endpoint without blocking, if non-blocking
+     * deserialization is enabled and the endpoint has a request body.
+     */
+    Optional<NonBlockingBodyHandler.NonBlockingBodyReader<?>> nonBlockingBodyReader(Endpoint endpoint) {
+        return nonBlockingReaders
+                .getOrDefault(nonBlockingReaderKey(endpoint), Optional.empty())
+                .map(registry -> registry);
+    }
+
+    private static String nonBlockingReaderKey(Endpoint endpoint) {
+        return endpoint.serviceName() + '.' + endpoint.name() + ' ' + endpoint.method() + ' ' + endpoint.template();
     }
 
     @Override
@@ -91,12 +180,23 @@ final class ConjureBodySerDe implements BodySerDe {
         exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, BINARY_CONTENT_TYPE);
         Tracer.fastStartSpan(TracedEncoding.SERIALIZE_OPERATION);
         try {
-            value.write(exchange.getOutputStream());
+            if (value instanceof FileRegionResponseBody) {
+                FileRegionResponses.send((FileRegionResponseBody) value, exchange);
+            } else {
+                value.write(exchange.getOutputStream());
+            }
         } finally {
             Tracer.fastCompleteSpan(SerializeBinaryTagTranslator.INSTANCE, SerializeBinaryTagTranslator.INSTANCE);
         }
     }
 
+    @Override
+    public void serializeAsync(AsyncBinaryResponseBody value, HttpServerExchange exchange) {
+        Preconditions.checkNotNull(value, "An AsyncBinaryResponseBody value is required");
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, BINARY_CONTENT_TYPE);
+        AsyncBinaryResponses.send(value, exchange);
+    }
+
     @Override
     public InputStream deserializeInputStream(HttpServerExchange exchange) {
         String contentType = getContentType(exchange);
@@ -104,19 +204,33 @@ final class ConjureBodySerDe implements BodySerDe {
             throw FrameworkException.unsupportedMediaType(
                     "Unsupported Content-Type", SafeArg.of("Content-Type", contentType));
         }
+        if (requestBodySpool.isPresent()) {
+            try {
+                return requestBodySpool.get().spool(exchange);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to spool binary request body", e);
+            }
+        }
         return exchange.getInputStream();
     }
 
     private static final class EncodingSerializerRegistry<T> implements Serializer<T> {
 
-        private final EncodingSerializerContainer<T> defaultEncoding;
         private final List<EncodingSerializerContainer<T>> encodings;
-
-        EncodingSerializerRegistry(List<Encoding> encodings, TypeMarker<T> token, Optional<Endpoint> endpoint) {
+        private final EncodingResolver encodingResolver;
+        private final Optional<ResponseBuffer> responseBuffer;
+
+        EncodingSerializerRegistry(
+                List<Encoding> encodings,
+                EncodingResolver encodingResolver,
+                Optional<ResponseBuffer> responseBuffer,
+                TypeMarker<T> token,
+                Optional<Endpoint> endpoint) {
             this.encodings = encodings.stream()
                     .map(encoding -> new EncodingSerializerContainer<>(encoding, token, endpoint))
                     .collect(ImmutableList.toImmutableList());
-            this.defaultEncoding = this.encodings.get(0);
+            this.encodingResolver = encodingResolver;
+            this.responseBuffer = responseBuffer;
         }
 
         @Override
@@ -125,28 +239,22 @@ final class ConjureBodySerDe implements BodySerDe {
             safelyDrainRequestBody(exchange);
             EncodingSerializerContainer<T> container = getResponseSerializer(exchange);
             exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, container.encoding.getContentType());
-            container.serializer.serialize(value, exchange.getOutputStream());
+            if (responseBuffer.isPresent()) {
+                responseBuffer.get().serialize(container.serializer, value, exchange);
+            } else {
+                // The exchange output stream buffers into a single buffer from the connection pool, and sets an
+                // exact Content-Length on close when the response fits in that buffer. Serializers must not flush,
+                // otherwise the response is committed with chunked encoding.
+                container.serializer.serialize(value, exchange.getOutputStream());
+            }
         }
 
-        /** Returns the {@link EncodingSerializerContainer} to use for the exchange response. */
-        @SuppressWarnings("ForLoopReplaceableByForEach") // performance sensitive code avoids iterator allocation
+        /**
+         * Returns the {@link EncodingSerializerContainer} to use for the exchange response. Falls back to the first
+         * encoding if none support the {@link Headers#ACCEPT accepted} types.
+         */
         EncodingSerializerContainer<T> getResponseSerializer(HttpServerExchange exchange) {
-            HeaderValues acceptValues = exchange.getRequestHeaders().get(Headers.ACCEPT);
-            if (acceptValues != null) {
-                // This implementation prefers the client "Accept" order
-                for (int i = 0; i < acceptValues.size(); i++) {
-                    for (String acceptValue : ACCEPT_VALUE_SPLITTER.split(acceptValues.get(i))) {
-                        for (int j = 0; j < encodings.size(); j++) {
-                            EncodingSerializerContainer<T> container = encodings.get(j);
-                            if (container.encoding.supportsContentType(acceptValue)) {
-                                return container;
-                            }
-                        }
-                    }
-                }
-            }
-            // Fall back to the default
-            return defaultEncoding;
+            return encodings.get(encodingResolver.forAccept(exchange.getRequestHeaders().get(Headers.ACCEPT)));
         }
     }
 
@@ -163,22 +271,34 @@ final class ConjureBodySerDe implements BodySerDe {
         }
     }
 
-    private static final class EncodingDeserializerRegistry<T> implements Deserializer<T> {
+    private static final class EncodingDeserializerRegistry<T>
+            implements Deserializer<T>, NonBlockingBodyHandler.NonBlockingBodyReader<T> {
 
         private final List<EncodingDeserializerContainer<T>> encodings;
+        private final EncodingResolver encodingResolver;
         private final boolean optionalType;
         private final TypeMarker<T> marker;
 
-        EncodingDeserializerRegistry(List<Encoding> encodings, TypeMarker<T> token, Optional<Endpoint> endpoint) {
+        EncodingDeserializerRegistry(
+                List<Encoding> encodings,
+                EncodingResolver encodingResolver,
+                TypeMarker<T> token,
+                Optional<Endpoint> endpoint) {
             this.encodings = encodings.stream()
                     .map(encoding -> new EncodingDeserializerContainer<>(encoding, token, endpoint))
                     .collect(ImmutableList.toImmutableList());
+            this.encodingResolver = encodingResolver;
             this.optionalType = TypeMarkers.isOptional(token);
             this.marker = token;
         }
 
         @Override
         public T deserialize(HttpServerExchange exchange) throws IOException {
+            NonBlockingBodyHandler.ReceivedBody receivedBody =
+                    exchange.removeAttachment(NonBlockingBodyHandler.RECEIVED_BODY);
+            if (receivedBody != null) {
+                return receivedBody.complete(this);
+            }
             // If this deserializer is built for an optional root type, Optional<?>, OptionalInt, etc,
             // and the incoming request body might be empty (does not have a content-length greater than zero)
             // we must map from an empty request body to an empty optional.
@@ -214,18 +334,36 @@ final class ConjureBodySerDe implements BodySerDe {
             return contentLength == null || "0".equals(contentLength);
         }
 
+        @Override
+        public Type type() {
+            return marker.getType();
+        }
+
+        @Override
+        public Optional<Encoding.NonBlockingParser<T>> newParser(HttpServerExchange exchange) throws IOException {
+            // Empty optional bodies, missing and unsupported content types are all handled by the blocking path.
+            String contentType = exchange.getRequestHeaders().getFirst(Headers.CONTENT_TYPE);
+            if ((optionalType && maybeEmptyBody(exchange)) || contentType == null) {
+                return Optional.empty();
+            }
+            int index = encodingResolver.forContentType(contentType);
+            if (index == EncodingResolver.NO_MATCH) {
+                return Optional.empty();
+            }
+            Optional<Encoding.NonBlockingDeserializer<T>> deserializer =
+                    encodings.get(index).nonBlockingDeserializer.get();
+            return deserializer.isPresent() ? Optional.of(deserializer.get().newParser()) : Optional.empty();
+        }
+
         /** Returns the {@link EncodingDeserializerContainer} to use to deserialize the request body. */
-        @SuppressWarnings("ForLoopReplaceableByForEach") // performance sensitive code avoids iterator allocation
         EncodingDeserializerContainer<T> getRequestDeserializer(HttpServerExchange exchange) {
             String contentType = getContentType(exchange);
-            for (int i = 0; i < encodings.size(); i++) {
-                EncodingDeserializerContainer<T> container = encodings.get(i);
-                if (container.encoding.supportsContentType(contentType)) {
-                    return container;
-                }
+            int index = encodingResolver.forContentType(contentType);
+            if (index == EncodingResolver.NO_MATCH) {
+                throw FrameworkException.unsupportedMediaType(
+                        "Unsupported Content-Type", SafeArg.of("Content-Type", contentType));
             }
-            throw FrameworkException.unsupportedMediaType(
-                    "Unsupported Content-Type", SafeArg.of("Content-Type", contentType));
+            return encodings.get(index);
         }
     }
 
@@ -233,12 +371,18 @@ final class ConjureBodySerDe implements BodySerDe {
 
         private final Encoding encoding;
         private final Encoding.Deserializer<T> deserializer;
+        private final Supplier<Optional<Encoding.NonBlockingDeserializer<T>>> nonBlockingDeserializer;
 
         EncodingDeserializerContainer(Encoding encoding, TypeMarker<T> token, Optional<Endpoint> endpoint) {
             this.encoding = encoding;
             this.deserializer = endpoint.isPresent()
                     ? TracedEncoding.wrap(encoding).deserializer(token, endpoint.get())
                     : TracedEncoding.wrap(encoding).deserializer(token);
+            // Created on first use, similar to LazilyInitializedEncoding, most endpoints are not used with every
+            // encoding and many are never used with non-blocking deserialization.
+            this.nonBlockingDeserializer = Suppliers.memoize(() -> endpoint.isPresent()
+                    ? TracedEncoding.wrap(encoding).nonBlockingDeserializer(token, endpoint.get())
+                    : TracedEncoding.wrap(encoding).nonBlockingDeserializer(token));
         }
     }
 
@@ -284,4 +428,76 @@ final class ConjureBodySerDe implements BodySerDe {
         }
         return contentTypeValues.get(0);
     }
+
+    /** Options which configure how a {@link ConjureBodySerDe} reads and writes bodies. All are disabled by default. */
+    static final class Options {
+        static final Options DEFAULT = builder().build();
+
+        private final boolean nonBlockingDeserialization;
+        private final int responseBufferSize;
+        private final boolean primeEncodings;
+        private final int binaryRequestSpoolThreshold;
+
+        private Options(Builder builder) {
+            this.nonBlockingDeserialization = builder.nonBlockingDeserialization;
+            this.responseBufferSize = builder.responseBufferSize;
+            this.primeEncodings = builder.primeEncodings;
+            this.binaryRequestSpoolThreshold = builder.binaryRequestSpoolThreshold;
+        }
+
+        static Builder builder() {
+            return new Builder();
+        }
+
+        static final class Builder {
+            private boolean nonBlockingDeserialization = false;
+            private int responseBufferSize = 0;
+            private boolean primeEncodings = false;
+            private int binaryRequestSpoolThreshold = 0;
+
+            private Builder() {}
+
+            /**
+             * Receives request bodies of endpoints on the IO thread using a {@link NonBlockingBodyHandler} if the
+             * request encoding supports {@link Encoding#nonBlockingDeserializer(TypeMarker) non-blocking
+             * deserialization}.
+             */
+            @CanIgnoreReturnValue
+            Builder nonBlockingDeserialization(boolean value) {
+                nonBlockingDeserialization = value;
+                return this;
+            }
+
+            /**
+             * Buffers responses up to the given number of bytes using a {@link ResponseBuffer} to set an exact
+             * Content-Length. Zero disables response buffering.
+             */
+            @CanIgnoreReturnValue
+            Builder responseBufferSize(int value) {
+                responseBufferSize = value;
+                return this;
+            }
+
+            /** Initializes serializers and deserializers in {@link ConjureBodySerDe#prime()}, not on first use. */
+            @CanIgnoreReturnValue
+            Builder primeEncodings(boolean value) {
+                primeEncodings = value;
+                return this;
+            }
+
+            /**
+             * Spools binary request bodies larger than the given number of bytes to disk using a
+             * {@link RequestBodySpool}. Zero disables spooling.
+             */
+            @CanIgnoreReturnValue
+            Builder binaryRequestSpoolThreshold(int value) {
+                binaryRequestSpoolThreshold = value;
+                return this;
+            }
+
+            Options build() {
+                return new Options(this);
+            }
+        }
+    }
 }
@@ -204,6 +204,10 @@ public final class ConjureHandler implements HttpHandler {
                     .addAll(serviceEndpoints)
                     .build();
             checkOverlappingPaths(allEndpoints);
+            // Serializers are created by endpoints, so encodings must be primed after all endpoints have been created.
+            if (runtime.bodySerDe() instanceof ConjureBodySerDe) {
+                ((ConjureBodySerDe) runtime.bodySerDe()).prime();
+            }
 
             ImmutableList<EndpointHandlerWrapper> wrappers = ImmutableList.<EndpointHandlerWrapper>builder()
                     .add(
@@ -229,6 +233,9 @@ public final class ConjureHandler implements HttpHandler {
                                     .map(_reason -> new DeprecationReportingResponseHandler(endpoint.handler())))
                     // Apply custom non-blocking handlers just before the BlockingHandler
                     .addAll(wrappersJustBeforeBlocking)
+                    // Request bodies may be received on the IO thread when enabled by the runtime, so this must
+                    // be the last handler before the BlockingHandler.
+                    .add(endpoint -> NonBlockingBodyHandler.wrap(runtime, endpoint))
                     // It is vitally important to never run blocking operations on the initial IO thread otherwise
                     // the server will not process new requests. all handlers executed after BlockingHandler
                     // use the larger task pool which is allowed to block. Any operation which sets thread
@@ -41,7 +41,15 @@ import javax.annotation.Nullable;
 
 /** Package private internal API. */
 enum ConjurePlainSerDe implements PlainSerDe {
-    INSTANCE;
+    INSTANCE(false),
+    /** Shares equal {@link ResourceIdentifier} values using {@link InternedResourceIdentifiers}. */
+    INTERNING(true);
+
+    private final boolean internResourceIdentifiers;
+
+    ConjurePlainSerDe(boolean internResourceIdentifiers) {
+        this.internResourceIdentifiers = internResourceIdentifiers;
+    }
 
     @Override
     public BearerToken deserializeBearerToken(@Nullable String in) {
@@ -324,7 +332,9 @@ enum ConjurePlainSerDe implements PlainSerDe {
     public ResourceIdentifier deserializeRid(@Nullable String in) {
         checkArgumentNotNull(in);
         try {
-            return ResourceIdentifier.valueOf(in);
+            return internResourceIdentifiers
+                    ? InternedResourceIdentifiers.valueOf(in)
+                    : ResourceIdentifier.valueOf(in);
         } catch (RuntimeException ex) {
             throw new SafeIllegalArgumentException("failed to deserialize rid", ex);
         }
@@ -16,7 +16,6 @@
 
 package com.palantir.conjure.java.undertow.runtime;
 
-import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import com.palantir.conjure.java.undertow.lib.AsyncRequestProcessing;
 import com.palantir.conjure.java.undertow.lib.AuthorizationExtractor;
@@ -35,6 +34,7 @@ import java.util.List;
 public final class ConjureUndertowRuntime implements UndertowRuntime {
 
     private final BodySerDe bodySerDe;
+    private final PlainSerDe plainSerDe;
     private final AuthorizationExtractor auth;
     private final MarkerCallback markerCallback;
     private final AsyncRequestProcessing async;
@@ -44,9 +44,11 @@ public final class ConjureUndertowRuntime implements UndertowRuntime {
     private ConjureUndertowRuntime(Builder builder) {
         this.bodySerDe = new ConjureBodySerDe(
                 builder.encodings.isEmpty()
-                        ? ImmutableList.of(Encodings.json(), Encodings.smile(), Encodings.cbor())
-                        : builder.encodings);
-        this.auth = new ConjureAuthorizationExtractor(plainSerDe());
+                        ? Encodings.defaults(builder.internResourceIdentifiers)
+                        : builder.encodings,
+                builder.bodySerDeOptions.build());
+        this.plainSerDe = builder.internResourceIdentifiers ? ConjurePlainSerDe.INTERNING : ConjurePlainSerDe.INSTANCE;
+        this.auth = new ConjureAuthorizationExtractor(plainSerDe);
         this.exceptionHandler = builder.exceptionHandler;
         this.markerCallback = MarkerCallbacks.fold(builder.paramMarkers);
         this.async = new ConjureAsyncRequestProcessing(builder.asyncTimeout, builder.exceptionHandler);
@@ -64,7 +66,7 @@ public final class ConjureUndertowRuntime implements UndertowRuntime {
 
     @Override
     public PlainSerDe plainSerDe() {
-        return ConjurePlainSerDe.INSTANCE;
+        return plainSerDe;
     }
 
     @Override
@@ -97,6 +99,8 @@ public final class ConjureUndertowRuntime implements UndertowRuntime {
         private Duration asyncTimeout = Duration.ofMinutes(3);
         private ExceptionHandler exceptionHandler = ConjureExceptions.INSTANCE;
         private RequestArgHandler requestArgHandler = DefaultRequestArgHandler.INSTANCE;
+        private boolean internResourceIdentifiers = false;
+        private final ConjureBodySerDe.Options.Builder bodySerDeOptions = ConjureBodySerDe.Options.builder();
         private final List<Encoding> encodings = new ArrayList<>();
         private final List<ParamMarker> paramMarkers = new ArrayList<>();
 
@@ -132,6 +136,73 @@ public final class ConjureUndertowRuntime implements UndertowRuntime {
             return this;
         }
 
+        /**
+         * Enables receiving request bodies on the IO thread, only dispatching to a worker thread once the entire body
+         * has been parsed. This is disabled by default, and only applies to encodings which support
+         * {@link Encoding#nonBlockingDeserializer non-blocking deserialization}, other request bodies are read using
+         * blocking IO on a worker thread.
+         */
+        @CanIgnoreReturnValue
+        public Builder nonBlockingDeserialization(boolean value) {
+            bodySerDeOptions.nonBlockingDeserialization(value);
+            return this;
+        }
+
+        /**
+         * Buffers serialized response bodies up to the given number of bytes, allowing responses larger than
+         * Undertow's pooled buffers to be sent with an exact Content-Length in a single write rather than using
+         * chunked encoding. Larger responses are streamed. Each worker thread retains a buffer of up to this size.
+         * Zero, the default, disables response buffering.
+         */
+        @CanIgnoreReturnValue
+        public Builder responseBufferSize(int value) {
+            Preconditions.checkArgument(value >= 0, "responseBufferSize must not be negative");
+            bodySerDeOptions.responseBufferSize(value);
+            return this;
+        }
+
+        /**
+         * Initializes the serializers and deserializers used by endpoints when {@link ConjureHandler} is built, rather
+         * than on the first request to each endpoint. This increases startup time in exchange for consistent latency
+         * on the first requests after a deployment. The time taken to prime each type is logged at debug level. Only
+         * the first {@link ConjureHandler} built with this runtime is primed.
+         */
+        @CanIgnoreReturnValue
+        public Builder primeEncodings(boolean value) {
+            bodySerDeOptions.primeEncodings(value);
+            return this;
+        }
+
+        /**
+         * Spools {@code application/octet-stream} request bodies larger than the given number of bytes to a temporary
+         * file, which endpoints receive as a memory-mapped
+         * {@link com.palantir.conjure.java.undertow.lib.RandomAccessRequestBody} rather than the exchange stream. This
+         * keeps large uploads off the heap and allows endpoints to read them randomly. Bodies without a Content-Length
+         * are read into memory until they exceed the threshold. Files are deleted when the exchange completes. Zero,
+         * the default, disables spooling.
+         */
+        @CanIgnoreReturnValue
+        public Builder binaryRequestSpoolThreshold(int value) {
+            Preconditions.checkArgument(
+                    value >= 0 && value < Integer.MAX_VALUE,
+                    "binaryRequestSpoolThreshold must not be negative or Integer.MAX_VALUE");
+            bodySerDeOptions.binaryRequestSpoolThreshold(value);
+            return this;
+        }
+
+        /**
+         * Shares a single instance between equal {@link com.palantir.ri.ResourceIdentifier} values read from path,
+         * query and header parameters, and from request bodies of the default encodings. This reduces the heap used
+         * by requests and cached values which repeat the same identifiers. Interned values are held weakly in a
+         * bounded cache. Encodings configured using {@link #encodings(Encoding)} are not affected. This is disabled
+         * by default.
+         */
+        @CanIgnoreReturnValue
+        public Builder internResourceIdentifiers(boolean value) {
+            internResourceIdentifiers = value;
+            return this;
+        }
+
         public ConjureUndertowRuntime build() {
             return new ConjureUndertowRuntime(this);
         }
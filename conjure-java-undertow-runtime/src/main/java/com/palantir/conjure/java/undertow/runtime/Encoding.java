@@ -21,6 +21,7 @@ import com.palantir.conjure.java.undertow.lib.TypeMarker;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Optional;
 
 /**
  * An encoding provides support for a
@@ -55,6 +56,20 @@ public interface Encoding {
         return deserializer(type);
     }
 
+    /**
+     * Creates a new {@link NonBlockingDeserializer} for the requested type if this encoding is able to parse input
+     * incrementally as it arrives, otherwise empty. Request bodies read using the non-blocking deserializer do not
+     * occupy a worker thread while they are received. It is recommended to reuse instances over requesting new ones
+     * for each request.
+     */
+    default <T> Optional<NonBlockingDeserializer<T>> nonBlockingDeserializer(TypeMarker<T> _type) {
+        return Optional.empty();
+    }
+
+    default <T> Optional<NonBlockingDeserializer<T>> nonBlockingDeserializer(TypeMarker<T> type, Endpoint _endpoint) {
+        return nonBlockingDeserializer(type);
+    }
+
     /**
      * Returns the value used in response
      *
@@ -98,6 +113,29 @@ public interface Encoding {
         T deserialize(InputStream input) throws IOException;
     }
 
+    interface NonBlockingDeserializer<T> {
+
+        /** Creates a parser for a single request body. Parsers are not thread safe and must not be reused. */
+        NonBlockingParser<T> newParser() throws IOException;
+    }
+
+    interface NonBlockingParser<T> {
+
+        /**
+         * Consumes the next chunk of the serialized representation. This is invoked on IO threads, so implementations
+         * must not block. Failures are retained and reported by {@link #complete()} rather than thrown. The array
+         * may be reused by the caller once this method returns.
+         */
+        void feed(byte[] bytes, int offset, int length);
+
+        /**
+         * Signals that the entire serialized representation has been fed and returns the corresponding object. This
+         * follows the contract of {@link Deserializer#deserialize(InputStream)}: format-related deserialization errors
+         * surface as {@link IllegalArgumentException}, and the result must never be null.
+         */
+        T complete() throws IOException;
+    }
+
     interface Serializer<T> {
 
         /**
@@ -0,0 +1,181 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.logsafe.Preconditions;
+import io.undertow.util.HeaderValues;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves {@code Accept} and {@code Content-Type} header values to the index of the {@link Encoding} which should be
+ * used to serialize a response or deserialize a request. Clients tend to send a small number of distinct values, so
+ * resolved indexes are interned by the raw header value. Each cache is bounded in both the number of entries and the
+ * length of each key, values beyond either limit are resolved on every request to avoid unbounded growth when clients
+ * send arbitrary headers.
+ *
+ * <p>Results only depend on the ordered list of encodings, so a single instance is shared by all serializers and
+ * deserializers created by a {@link ConjureBodySerDe}.
+ */
+final class EncodingResolver {
+
+    /** Index of the encoding used when no encoding is acceptable to the client. */
+    static final int DEFAULT_INDEX = 0;
+    /** Returned by {@link #forContentType(String)} when no encoding supports the request body. */
+    static final int NO_MATCH = -1;
+
+    static final int MAX_ENTRIES = 128;
+    static final int MAX_KEY_LENGTH = 256;
+
+    private final ImmutableList<Encoding> encodings;
+    private final ConcurrentMap<String, Integer> acceptCache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Integer> contentTypeCache = new ConcurrentHashMap<>();
+
+    EncodingResolver(List<Encoding> encodings) {
+        Preconditions.checkArgument(!encodings.isEmpty(), "At least one Encoding is required");
+        this.encodings = ImmutableList.copyOf(encodings);
+    }
+
+    /**
+     * Returns the index of the encoding which should be used to respond to a request with the given {@code Accept}
+     * header values. The acceptable encoding with the highest quality is selected, preferring the order provided by
+     * the client when qualities are equal. Falls back to {@link #DEFAULT_INDEX} if no encoding is acceptable.
+     */
+    int forAccept(HeaderValues acceptValues) {
+        if (acceptValues == null || acceptValues.isEmpty()) {
+            return DEFAULT_INDEX;
+        }
+        if (acceptValues.size() == 1) {
+            return forAccept(acceptValues.getFirst());
+        }
+        // Multiple Accept headers are rare, they are negotiated together as a single list of ranges without caching.
+        int index = negotiate(encodings, acceptValues);
+        return index == NO_MATCH ? DEFAULT_INDEX : index;
+    }
+
+    /** Returns the index of the encoding to use for a single {@code Accept} header value. */
+    int forAccept(String acceptValue) {
+        Integer cached = acceptCache.get(acceptValue);
+        if (cached != null) {
+            return cached;
+        }
+        int index = negotiate(encodings, acceptValue);
+        int result = index == NO_MATCH ? DEFAULT_INDEX : index;
+        intern(acceptCache, acceptValue, result);
+        return result;
+    }
+
+    /**
+     * Returns the index of the first encoding which {@link Encoding#supportsContentType supports} the request
+     * {@code Content-Type}, or {@link #NO_MATCH}.
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach") // performance sensitive code avoids iterator allocation
+    int forContentType(String contentType) {
+        Integer cached = contentTypeCache.get(contentType);
+        if (cached != null) {
+            return cached;
+        }
+        int result = NO_MATCH;
+        for (int i = 0; i < encodings.size(); i++) {
+            if (encodings.get(i).supportsContentType(contentType)) {
+                result = i;
+                break;
+            }
+        }
+        intern(contentTypeCache, contentType, result);
+        return result;
+    }
+
+    int size() {
+        return acceptCache.size() + contentTypeCache.size();
+    }
+
+    private static void intern(ConcurrentMap<String, Integer> cache, String key, int value) {
+        // The size check is racy, concurrent misses may exceed the limit by the number of racing threads.
+        if (key.length() <= MAX_KEY_LENGTH && cache.size() < MAX_ENTRIES) {
+            cache.putIfAbsent(key, value);
+        }
+    }
+
+    /**
+     * Returns the index of the encoding with the highest quality in the comma-delimited {@code Accept} header, or
+     * {@link #NO_MATCH} if no encodings are acceptable. Each encoding takes the quality of the most specific range
+     * which matches it, so {@code application/json;q=0, *}{@code /*} excludes only JSON. Ties are broken by the
+     * position of the range in the header, then by the order of encodings.
+     */
+    static int negotiate(List<Encoding> encodings, String acceptHeaderValue) {
+        return negotiate(encodings, Collections.singletonList(acceptHeaderValue));
+    }
+
+    /**
+     * As {@link #negotiate(List, String)} for the ranges of several {@code Accept} header values, in the order they
+     * were received, as though they were a single comma-delimited value.
+     */
+    @SuppressWarnings("ForLoopReplaceableByForEach") // performance sensitive code avoids iterator allocation
+    static int negotiate(List<Encoding> encodings, List<String> acceptHeaderValues) {
+        int bestIndex = NO_MATCH;
+        int bestQuality = 0;
+        int bestPosition = Integer.MAX_VALUE;
+        for (int i = 0; i < encodings.size(); i++) {
+            Encoding encoding = encodings.get(i);
+            int specificity = MediaTypes.NO_MATCH;
+            int quality = 0;
+            int position = 0;
+            int rangePosition = 0;
+            for (int j = 0; j < acceptHeaderValues.size(); j++) {
+                String acceptHeaderValue = acceptHeaderValues.get(j);
+                int rangeStart = 0;
+                while (rangeStart <= acceptHeaderValue.length()) {
+                    int comma = acceptHeaderValue.indexOf(',', rangeStart);
+                    int rangeEnd = comma < 0 ? acceptHeaderValue.length() : comma;
+                    int rangeSpecificity = specificity(encoding, acceptHeaderValue, rangeStart, rangeEnd);
+                    if (rangeSpecificity > specificity) {
+                        specificity = rangeSpecificity;
+                        quality = MediaTypes.quality(acceptHeaderValue, rangeStart, rangeEnd);
+                        position = rangePosition;
+                    }
+                    rangeStart = rangeEnd + 1;
+                    rangePosition++;
+                }
+            }
+            if (specificity != MediaTypes.NO_MATCH
+                    && quality > 0
+                    && (quality > bestQuality || (quality == bestQuality && position < bestPosition))) {
+                bestIndex = i;
+                bestQuality = quality;
+                bestPosition = position;
+            }
+        }
+        return bestIndex;
+    }
+
+    private static int specificity(Encoding encoding, String value, int start, int end) {
+        if (MediaTypes.isEmpty(value, start, end)) {
+            return MediaTypes.NO_MATCH;
+        }
+        if (MediaTypes.isWildcard(value, start, end)) {
+            return MediaTypes.specificity(value, start, end, encoding.getContentType());
+        }
+        // Concrete types are delegated to the encoding, results are interned so this allocation is uncommon.
+        return encoding.supportsContentType(value.substring(start, end).trim())
+                ? MediaTypes.MATCHES_EXACTLY
+                : MediaTypes.NO_MATCH;
+    }
+}
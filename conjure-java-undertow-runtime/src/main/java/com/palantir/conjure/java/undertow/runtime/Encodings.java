@@ -18,10 +18,15 @@ package com.palantir.conjure.java.undertow.runtime;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.collect.ImmutableList;
 import com.palantir.conjure.java.serialization.ObjectMappers;
 import com.palantir.conjure.java.undertow.lib.TypeMarker;
 import com.palantir.logsafe.Preconditions;
@@ -29,10 +34,17 @@ import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.logsafe.exceptions.SafeIoException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
 
-// TODO(rfink): Consider async Jackson, see
-//              https://github.com/spring-projects/spring-framework/commit/31e0e537500c0763a36d3af2570d5c253a374690
-//              and https://groups.google.com/forum/#!topic/jackson-user/m_prSo8d_Pw
 public final class Encodings {
 
     private Encodings() {}
@@ -47,23 +59,7 @@ public final class Encodings {
 
         @Override
         public final boolean supportsContentType(String contentType) {
-            // TODO(ckozak): support wildcards? See javax.ws.rs.core.MediaType.isCompatible
-            if (contentType == null) {
-                return false;
-            }
-
-            String supportedContentType = getContentType();
-            if (contentType.length() < supportedContentType.length()) {
-                return false;
-            }
-
-            for (int i = 0; i < supportedContentType.length(); i++) {
-                if (Character.toLowerCase(contentType.charAt(i)) != supportedContentType.charAt(i)) {
-                    return false;
-                }
-            }
-
-            return true;
+            return contentType != null && MediaTypes.matches(contentType, 0, contentType.length(), getContentType());
         }
 
         @Override
@@ -77,44 +73,228 @@ public final class Encodings {
 
         @Override
         public final <T> Deserializer<T> deserializer(TypeMarker<T> type) {
+            Optional<Type> streamElementType = TypeMarkers.streamElementType(type);
+            if (streamElementType.isPresent()) {
+                return streamDeserializer(mapper.readerFor(mapper.constructType(streamElementType.get())), type);
+            }
             ObjectReader reader = mapper.readerFor(mapper.constructType(type.getType()));
             return input -> {
                 try {
-                    T value = reader.readValue(input);
-                    // Bad input should result in a 4XX response status, throw IAE rather than NPE.
-                    Preconditions.checkArgument(value != null, "cannot deserialize a JSON null value");
-                    return value;
-                } catch (JsonMappingException e) {
-                    // JsonMappingException includes both MismatchedInputException and InvalidDefinitionException
-                    // which is important for us to detect when both parsing fails (in jackson code) and when object
-                    // validation (setter null checks) fail in our objects.
-                    throw FrameworkException.unprocessableEntity(
-                            "Failed to deserialize request",
-                            e,
-                            SafeArg.of("contentType", getContentType()),
-                            SafeArg.of("type", type));
-                } catch (JsonParseException | NullPointerException e) {
-                    // JsonParseException is thrown when the input cannot be parsed as JSON, for example '{"value"}'.
-                    // NPE is often thrown when an unexpected `null` is contained within the request, e.g. '[null]'.
-                    throw new SafeIllegalArgumentException(
-                            "Failed to parse request due to malformed content",
-                            e,
-                            SafeArg.of("contentType", getContentType()),
-                            SafeArg.of("type", type));
+                    return checkDeserialized(reader.readValue(input));
+                } catch (IOException | NullPointerException e) {
+                    throw deserializationFailure(e, type);
+                }
+            };
+        }
+
+        /**
+         * Returns a deserializer for a {@link Stream} of the elements of an array. Unlike other deserializers the input
+         * is not read up front: each element is read when the stream requests it, so the input must remain open until
+         * the stream has been consumed. Deserialization failures surface from the stream as they are encountered.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> Deserializer<T> streamDeserializer(ObjectReader elementReader, TypeMarker<T> type) {
+            return input -> {
+                JsonParser parser;
+                JsonToken first;
+                try {
+                    parser = elementReader.createParser(input);
+                    // Closing the stream releases the parser, but the input belongs to the caller.
+                    parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+                    first = parser.nextToken();
                 } catch (IOException e) {
-                    throw new SafeIoException(
-                            "Failed to deserialize request",
-                            e,
+                    throw deserializationFailure(e, type);
+                }
+                if (first != JsonToken.START_ARRAY) {
+                    throw new SafeIllegalArgumentException(
+                            "Failed to parse request, expected an array",
                             SafeArg.of("contentType", getContentType()),
                             SafeArg.of("type", type));
                 }
+                return (T) StreamSupport.stream(new ArrayElementSpliterator<>(this, parser, elementReader, type), false)
+                        .onClose(() -> {
+                            try {
+                                parser.close();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException("Failed to close request parser", e);
+                            }
+                        });
             };
         }
+
+        @Override
+        public final <T> Optional<NonBlockingDeserializer<T>> nonBlockingDeserializer(TypeMarker<T> type) {
+            // CBOR does not support non-blocking parsing, and streams are read as they are consumed
+            if (!mapper.getFactory().canParseAsync() || TypeMarkers.streamElementType(type).isPresent()) {
+                return Optional.empty();
+            }
+            ObjectReader reader = mapper.readerFor(mapper.constructType(type.getType()));
+            return Optional.of(() -> new JacksonNonBlockingParser<>(
+                    this, mapper.getFactory().createNonBlockingByteArrayParser(), reader, type));
+        }
+
+        private static <T> T checkDeserialized(T value) {
+            // Bad input should result in a 4XX response status, throw IAE rather than NPE.
+            Preconditions.checkArgument(value != null, "cannot deserialize a JSON null value");
+            return value;
+        }
+
+        /**
+         * Maps a deserialization failure to the exception types described by {@link Deserializer}. Runtime exceptions
+         * are thrown directly, otherwise the {@link IOException} to throw is returned.
+         */
+        private IOException deserializationFailure(Exception exception, TypeMarker<?> type) {
+            if (exception instanceof JsonMappingException) {
+                // JsonMappingException includes both MismatchedInputException and InvalidDefinitionException
+                // which is important for us to detect when both parsing fails (in jackson code) and when object
+                // validation (setter null checks) fail in our objects.
+                throw FrameworkException.unprocessableEntity(
+                        "Failed to deserialize request",
+                        exception,
+                        SafeArg.of("contentType", getContentType()),
+                        SafeArg.of("type", type));
+            }
+            if (exception instanceof JsonParseException || exception instanceof NullPointerException) {
+                // JsonParseException is thrown when the input cannot be parsed as JSON, for example '{"value"}'.
+                // NPE is often thrown when an unexpected `null` is contained within the request, e.g. '[null]'.
+                throw new SafeIllegalArgumentException(
+                        "Failed to parse request due to malformed content",
+                        exception,
+                        SafeArg.of("contentType", getContentType()),
+                        SafeArg.of("type", type));
+            }
+            return new SafeIoException(
+                    "Failed to deserialize request",
+                    exception,
+                    SafeArg.of("contentType", getContentType()),
+                    SafeArg.of("type", type));
+        }
+    }
+
+    /**
+     * Tokenizes input into a {@link TokenBuffer} as it is fed, which is cheap enough to run on IO threads. Binding the
+     * buffered tokens to the target type is deferred to {@link #complete()}, which runs on a worker thread because
+     * it may execute arbitrary validation logic in generated builders.
+     */
+    private static final class JacksonNonBlockingParser<T> implements NonBlockingParser<T> {
+
+        private final AbstractJacksonEncoding encoding;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final TokenBuffer tokens;
+        private final ObjectReader reader;
+        private final TypeMarker<T> type;
+
+        @Nullable
+        private Exception failure;
+
+        JacksonNonBlockingParser(
+                AbstractJacksonEncoding encoding, JsonParser parser, ObjectReader reader, TypeMarker<T> type) {
+            this.encoding = encoding;
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            // Retain the exact textual representation of floating point values, conversion happens when binding.
+            this.tokens = new TokenBuffer(parser).forceUseOfBigDecimal(true);
+            this.reader = reader;
+            this.type = type;
+        }
+
+        @Override
+        public void feed(byte[] bytes, int offset, int length) {
+            if (failure != null) {
+                return;
+            }
+            try {
+                feeder.feedInput(bytes, offset, offset + length);
+                drain();
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        @Override
+        public T complete() throws IOException {
+            try (JsonParser _closeable = parser) {
+                if (failure == null) {
+                    feeder.endOfInput();
+                    drain();
+                }
+            } catch (IOException | RuntimeException e) {
+                failure = e;
+            }
+            if (failure != null) {
+                throw encoding.deserializationFailure(failure, type);
+            }
+            try (JsonParser buffered = tokens.asParser()) {
+                return AbstractJacksonEncoding.checkDeserialized(reader.readValue(buffered));
+            } catch (IOException | NullPointerException e) {
+                throw encoding.deserializationFailure(e, type);
+            }
+        }
+
+        /** Copies all tokens which are available without additional input. */
+        private void drain() throws IOException {
+            JsonToken token = parser.nextToken();
+            while (token != null && token != JsonToken.NOT_AVAILABLE) {
+                tokens.copyCurrentEvent(parser);
+                token = parser.nextToken();
+            }
+        }
+    }
+
+    /** Reads the elements of an array as they are requested, without buffering the array. */
+    private static final class ArrayElementSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final AbstractJacksonEncoding encoding;
+        private final JsonParser parser;
+        private final ObjectReader reader;
+        private final TypeMarker<?> type;
+        private boolean complete;
+
+        ArrayElementSpliterator(
+                AbstractJacksonEncoding encoding, JsonParser parser, ObjectReader reader, TypeMarker<?> type) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.encoding = encoding;
+            this.parser = parser;
+            this.reader = reader;
+            this.type = type;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (complete) {
+                return false;
+            }
+            T element;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY) {
+                    complete = true;
+                    return false;
+                }
+                if (token == null) {
+                    throw new SafeIllegalArgumentException(
+                            "Failed to parse request due to malformed content, the array is incomplete",
+                            SafeArg.of("contentType", encoding.getContentType()),
+                            SafeArg.of("type", type));
+                }
+                element = AbstractJacksonEncoding.checkDeserialized(reader.readValue(parser));
+            } catch (IOException | NullPointerException e) {
+                throw new UncheckedIOException(
+                        "Failed to deserialize request", encoding.deserializationFailure(e, type));
+            }
+            action.accept(element);
+            return true;
+        }
     }
 
     /** Returns a serializer for the Conjure JSON wire format. */
     public static Encoding json() {
-        return new AbstractJacksonEncoding(configure(ObjectMappers.newServerObjectMapper())) {
+        return json(ObjectMappers.newServerObjectMapper());
+    }
+
+    private static Encoding json(ObjectMapper mapper) {
+        return new AbstractJacksonEncoding(configure(mapper)) {
             private static final String CONTENT_TYPE = "application/json";
 
             @Override
@@ -126,7 +306,11 @@ public final class Encodings {
 
     /** Returns a serializer for the Conjure CBOR wire format. */
     public static Encoding cbor() {
-        return new AbstractJacksonEncoding(configure(ObjectMappers.newCborServerObjectMapper())) {
+        return cbor(ObjectMappers.newCborServerObjectMapper());
+    }
+
+    private static Encoding cbor(ObjectMapper mapper) {
+        return new AbstractJacksonEncoding(configure(mapper)) {
             private static final String CONTENT_TYPE = "application/cbor";
 
             @Override
@@ -138,7 +322,11 @@ public final class Encodings {
 
     /** Returns a serializer for the Conjure Smile wire format. */
     public static Encoding smile() {
-        return new AbstractJacksonEncoding(configure(ObjectMappers.newSmileServerObjectMapper())) {
+        return smile(ObjectMappers.newSmileServerObjectMapper());
+    }
+
+    private static Encoding smile(ObjectMapper mapper) {
+        return new AbstractJacksonEncoding(configure(mapper)) {
             private static final String CONTENT_TYPE = "application/x-jackson-smile";
 
             @Override
@@ -148,6 +336,20 @@ public final class Encodings {
         };
     }
 
+    /**
+     * Returns the JSON, Smile and CBOR encodings used when none are configured, optionally interning
+     * {@link com.palantir.ri.ResourceIdentifier} values read from request bodies.
+     */
+    static List<Encoding> defaults(boolean internResourceIdentifiers) {
+        if (!internResourceIdentifiers) {
+            return ImmutableList.of(json(), smile(), cbor());
+        }
+        return ImmutableList.of(
+                json(ObjectMappers.newServerObjectMapper().registerModule(InternedResourceIdentifiers.module())),
+                smile(ObjectMappers.newSmileServerObjectMapper().registerModule(InternedResourceIdentifiers.module())),
+                cbor(ObjectMappers.newCborServerObjectMapper().registerModule(InternedResourceIdentifiers.module())));
+    }
+
     private static ObjectMapper configure(ObjectMapper mapper) {
         // See documentation on Encoding.Serializer#serialize: Implementations must not close the stream.
         return mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
@@ -0,0 +1,166 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.palantir.conjure.java.undertow.lib.FileRegionResponseBody;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIoException;
+import io.undertow.io.BufferWritableOutputStream;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends {@link FileRegionResponseBody} responses with an exact Content-Length, serving single-range {@code Range}
+ * requests to GET endpoints. Regions which extend to the end of their file are handed to Undertow's
+ * {@link BufferWritableOutputStream#transferFrom(FileChannel) file transfer}, which uses {@code sendfile} where the
+ * connection allows rather than copying through the heap.
+ */
+final class FileRegionResponses {
+
+    private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    private FileRegionResponses() {}
+
+    static void send(FileRegionResponseBody body, HttpServerExchange exchange) throws IOException {
+        try (FileChannel file = FileChannel.open(body.file(), StandardOpenOption.READ)) {
+            long length = body.count();
+            if (file.size() < body.position() + length) {
+                // Checked before the response is committed so that a conjure error can be sent
+                throw new SafeIoException(
+                        "File is smaller than the response region",
+                        UnsafeArg.of("file", body.file()),
+                        SafeArg.of("position", body.position()),
+                        SafeArg.of("count", length),
+                        SafeArg.of("size", file.size()));
+            }
+            exchange.getResponseHeaders().put(Headers.ACCEPT_RANGES, "bytes");
+            long start = 0;
+            long count = length;
+            Matcher range = requestedRange(exchange);
+            if (range != null) {
+                long[] bounds = bounds(range, length);
+                if (bounds == null) {
+                    exchange.setStatusCode(StatusCodes.REQUEST_RANGE_NOT_SATISFIABLE);
+                    exchange.getResponseHeaders().put(Headers.CONTENT_RANGE, "bytes */" + length);
+                    exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, 0);
+                    return;
+                }
+                start = bounds[0];
+                count = bounds[1] - bounds[0] + 1;
+                exchange.setStatusCode(StatusCodes.PARTIAL_CONTENT);
+                exchange.getResponseHeaders()
+                        .put(Headers.CONTENT_RANGE, "bytes " + bounds[0] + '-' + bounds[1] + '/' + length);
+            }
+            exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, count);
+            if (count > 0) {
+                transfer(file, body.position() + start, count, exchange.getOutputStream());
+            }
+        }
+    }
+
+    private static void transfer(FileChannel file, long position, long count, OutputStream output)
+            throws IOException {
+        if (output instanceof BufferWritableOutputStream && position + count == file.size()) {
+            // Undertow transfers from the current position of the channel to the end of the file
+            file.position(position);
+            ((BufferWritableOutputStream) output).transferFrom(file);
+            return;
+        }
+        WritableByteChannel target = Channels.newChannel(output);
+        long written = 0;
+        while (written < count) {
+            long transferred = file.transferTo(position + written, count - written, target);
+            if (transferred <= 0) {
+                throw new SafeIoException(
+                        "File ended before the response region",
+                        SafeArg.of("position", position),
+                        SafeArg.of("count", count),
+                        SafeArg.of("written", written));
+            }
+            written += transferred;
+        }
+    }
+
+    /**
+     * Returns the single byte range requested by a GET request, if any. Requests for multiple ranges or with an
+     * {@code If-Range} precondition, which cannot be evaluated without validators, are served in full, as are
+     * syntactically invalid ranges.
+     */
+    private static Matcher requestedRange(HttpServerExchange exchange) {
+        if (!Methods.GET.equals(exchange.getRequestMethod())
+                || exchange.getRequestHeaders().contains(Headers.IF_RANGE)) {
+            return null;
+        }
+        HeaderValues values = exchange.getRequestHeaders().get(Headers.RANGE);
+        if (values == null || values.size() != 1) {
+            return null;
+        }
+        Matcher matcher = SINGLE_BYTE_RANGE.matcher(values.getFirst().trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String first = matcher.group(1);
+        String last = matcher.group(2);
+        if (first.isEmpty()) {
+            return last.isEmpty() ? null : matcher;
+        }
+        return last.isEmpty() || parse(first) <= parse(last) ? matcher : null;
+    }
+
+    /**
+     * Returns the inclusive {@code [first, last]} bounds of a valid range within content of the given length, or
+     * null if the range cannot be satisfied.
+     */
+    private static long[] bounds(Matcher range, long length) {
+        String first = range.group(1);
+        String last = range.group(2);
+        if (first.isEmpty()) {
+            long suffix = parse(last);
+            return suffix == 0 || length == 0 ? null : new long[] {Math.max(0, length - suffix), length - 1};
+        }
+        long start = parse(first);
+        if (start >= length) {
+            return null;
+        }
+        return new long[] {start, last.isEmpty() ? length - 1 : Math.min(parse(last), length - 1)};
+    }
+
+    /** Parses a run of digits, saturating at {@link Long#MAX_VALUE} rather than overflowing. */
+    private static long parse(String digits) {
+        long value = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int digit = digits.charAt(i) - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                return Long.MAX_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.palantir.conjure.java.lib.internal.WeakInterner;
+import com.palantir.ri.ResourceIdentifier;
+import java.io.IOException;
+
+/**
+ * Deduplicates equal {@link ResourceIdentifier} values read from requests, which are frequently repeated within and
+ * across requests. Values are held weakly in a bounded cache, so interning never retains identifiers which are no
+ * longer referenced elsewhere.
+ */
+final class InternedResourceIdentifiers {
+
+    private static final WeakInterner<ResourceIdentifier> interner =
+            WeakInterner.create(ResourceIdentifier::valueOf, ResourceIdentifier::toString);
+
+    private InternedResourceIdentifiers() {}
+
+    /** Equivalent to {@link ResourceIdentifier#valueOf(String)}, returning a shared instance where possible. */
+    static ResourceIdentifier valueOf(String value) {
+        return interner.intern(value);
+    }
+
+    /** Returns a module which interns {@link ResourceIdentifier} values in request bodies. */
+    static Module module() {
+        return new SimpleModule(InternedResourceIdentifiers.class.getSimpleName())
+                .addDeserializer(ResourceIdentifier.class, new InterningDeserializer());
+    }
+
+    private static final class InterningDeserializer extends StdScalarDeserializer<ResourceIdentifier> {
+
+        InterningDeserializer() {
+            super(ResourceIdentifier.class);
+        }
+
+        @Override
+        public ResourceIdentifier deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            String value = parser.currentToken() == JsonToken.VALUE_STRING
+                    ? parser.getText()
+                    : StringDeserializer.instance.deserialize(parser, ctxt);
+            try {
+                return valueOf(value);
+            } catch (RuntimeException e) {
+                return (ResourceIdentifier) ctxt.handleInstantiationProblem(ResourceIdentifier.class, value, e);
+            }
+        }
+    }
+}
@@ -17,11 +17,16 @@
 package com.palantir.conjure.java.undertow.runtime;
 
 import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
 import com.palantir.conjure.java.undertow.lib.TypeMarker;
 import com.palantir.logsafe.Preconditions;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Supplier;
 
 /**
@@ -31,23 +36,72 @@ import java.util.function.Supplier;
  * startup when many endpoints are only used with one encoding based on the clients that make requests.
  * Note that this results in the first request to a given endpoint being more expensive than it would be
  * otherwise, though this is already the case to an extent before the JIT compiler can optimize the path.
+ *
+ * <p>When priming is enabled, serializers and deserializers are recorded as they're created so they can be initialized
+ * eagerly by {@link #prime()} once all endpoints have been created, rather than on the first request. Recording stops
+ * once {@link #prime()} has run, so serializers created later, for example per request, are not retained.
  */
 final class LazilyInitializedEncoding implements Encoding {
 
     private final Encoding delegate;
+    private final Optional<Queue<PendingInitialization>> pending;
+    private volatile boolean primed;
 
     LazilyInitializedEncoding(Encoding delegate) {
+        this(delegate, false);
+    }
+
+    LazilyInitializedEncoding(Encoding delegate, boolean priming) {
         this.delegate = Preconditions.checkNotNull(delegate, "Encoding is required");
+        this.pending = priming ? Optional.of(new ConcurrentLinkedQueue<>()) : Optional.empty();
     }
 
     @Override
     public <T> Serializer<T> serializer(TypeMarker<T> type) {
-        return new LazilyInitializedSerializer<>(() -> delegate.serializer(type));
+        LazilyInitializedSerializer<T> serializer = new LazilyInitializedSerializer<>(() -> delegate.serializer(type));
+        record(new PendingInitialization(type, "serializer", serializer.delegate));
+        return serializer;
     }
 
     @Override
     public <T> Deserializer<T> deserializer(TypeMarker<T> type) {
-        return new LazilyInitializedDeserializer<>(() -> delegate.deserializer(type));
+        LazilyInitializedDeserializer<T> deserializer =
+                new LazilyInitializedDeserializer<>(() -> delegate.deserializer(type));
+        record(new PendingInitialization(type, "deserializer", deserializer.delegate));
+        return deserializer;
+    }
+
+    private void record(PendingInitialization initialization) {
+        if (!primed) {
+            // Creations racing with the first prime may be recorded after it drains, retaining at most those few
+            pending.ifPresent(queue -> queue.add(initialization));
+        }
+    }
+
+    /**
+     * Initializes all serializers and deserializers created before the first call, returning the time taken to
+     * initialize each. Returns nothing unless priming was enabled, or on subsequent calls.
+     */
+    ImmutableList<Initialization> prime() {
+        if (pending.isEmpty()) {
+            return ImmutableList.of();
+        }
+        primed = true;
+        Queue<PendingInitialization> queue = pending.get();
+        ImmutableList.Builder<Initialization> initialized = ImmutableList.builder();
+        for (PendingInitialization next = queue.poll(); next != null; next = queue.poll()) {
+            long start = System.nanoTime();
+            next.supplier.get();
+            initialized.add(new Initialization(
+                    next.type, getContentType(), next.operation, Duration.ofNanos(System.nanoTime() - start)));
+        }
+        return initialized.build();
+    }
+
+    @Override
+    public <T> Optional<NonBlockingDeserializer<T>> nonBlockingDeserializer(TypeMarker<T> type) {
+        // Callers are expected to request non-blocking deserializers lazily, only when a request may use them.
+        return delegate.nonBlockingDeserializer(type);
     }
 
     @Override
@@ -65,6 +119,52 @@ final class LazilyInitializedEncoding implements Encoding {
         return "LazilyInitializedEncoding{delegate=" + delegate + '}';
     }
 
+    /** Time taken to initialize a serializer or deserializer for a single type. */
+    static final class Initialization {
+
+        private final TypeMarker<?> type;
+        private final String contentType;
+        private final String operation;
+        private final Duration duration;
+
+        Initialization(TypeMarker<?> type, String contentType, String operation, Duration duration) {
+            this.type = type;
+            this.contentType = contentType;
+            this.operation = operation;
+            this.duration = duration;
+        }
+
+        TypeMarker<?> type() {
+            return type;
+        }
+
+        String contentType() {
+            return contentType;
+        }
+
+        /** Either {@code serializer} or {@code deserializer}. */
+        String operation() {
+            return operation;
+        }
+
+        Duration duration() {
+            return duration;
+        }
+    }
+
+    private static final class PendingInitialization {
+
+        private final TypeMarker<?> type;
+        private final String operation;
+        private final Supplier<?> supplier;
+
+        PendingInitialization(TypeMarker<?> type, String operation, Supplier<?> supplier) {
+            this.type = type;
+            this.operation = operation;
+            this.supplier = supplier;
+        }
+    }
+
     private static final class LazilyInitializedSerializer<T> implements Serializer<T> {
 
         private final Supplier<Serializer<T>> delegate;
@@ -0,0 +1,170 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+/**
+ * Allocation-free parsing of media types and media ranges, see
+ * <a href="https://tools.ietf.org/html/rfc7231#section-3.1.1.1">RFC 7231 section 3.1.1.1</a> and
+ * <a href="https://tools.ietf.org/html/rfc7231#section-5.3.2">section 5.3.2</a>. Methods operate on a region of a
+ * header value, for example a single element of a comma-delimited {@code Accept} header, to avoid substring
+ * allocation.
+ */
+final class MediaTypes {
+
+    /** The range does not match the media type. */
+    static final int NO_MATCH = -1;
+    /** The range is {@code *}{@code /*}. */
+    static final int MATCHES_ANY = 0;
+    /** The range is {@code type/*} where the type matches. */
+    static final int MATCHES_SUBTYPE_WILDCARD = 1;
+    /** The range has the same type and subtype. */
+    static final int MATCHES_EXACTLY = 2;
+
+    /** Quality values are represented in thousandths, from zero (not acceptable) to one thousand. */
+    static final int MAX_QUALITY = 1000;
+
+    private static final int MAX_QUALITY_DECIMALS = 3;
+
+    private MediaTypes() {}
+
+    /**
+     * Returns true if the type and subtype of the media type in {@code value[start, end)} are equal to
+     * {@code supported}, ignoring case and parameters. {@code supported} must be of the form {@code type/subtype}.
+     */
+    static boolean matches(String value, int start, int end, String supported) {
+        int typeStart = skipWhitespace(value, start, end);
+        int typeEnd = typeEnd(value, typeStart, end);
+        return typeEnd - typeStart == supported.length()
+                && value.regionMatches(true, typeStart, supported, 0, supported.length());
+    }
+
+    /**
+     * Returns the specificity with which the media range in {@code value[start, end)} matches {@code supported},
+     * one of {@link #NO_MATCH}, {@link #MATCHES_ANY}, {@link #MATCHES_SUBTYPE_WILDCARD} or {@link #MATCHES_EXACTLY}.
+     */
+    static int specificity(String value, int start, int end, String supported) {
+        int typeStart = skipWhitespace(value, start, end);
+        int typeEnd = typeEnd(value, typeStart, end);
+        int length = typeEnd - typeStart;
+        if (length >= 2 && value.charAt(typeEnd - 2) == '/' && value.charAt(typeEnd - 1) == '*') {
+            if (length == 3 && value.charAt(typeStart) == '*') {
+                return MATCHES_ANY;
+            }
+            // Compare the type including the trailing slash, e.g. 'application/'
+            int typeLength = length - 1;
+            return supported.length() > typeLength
+                            && supported.charAt(typeLength - 1) == '/'
+                            && value.regionMatches(true, typeStart, supported, 0, typeLength)
+                    ? MATCHES_SUBTYPE_WILDCARD
+                    : NO_MATCH;
+        }
+        return length == supported.length() && value.regionMatches(true, typeStart, supported, 0, length)
+                ? MATCHES_EXACTLY
+                : NO_MATCH;
+    }
+
+    /** Returns true if {@code value[start, end)} contains a wildcard type or subtype. */
+    static boolean isWildcard(String value, int start, int end) {
+        int typeStart = skipWhitespace(value, start, end);
+        int typeEnd = typeEnd(value, typeStart, end);
+        return typeEnd > typeStart && value.charAt(typeEnd - 1) == '*';
+    }
+
+    /** Returns true if {@code value[start, end)} contains no media type, for example between two commas. */
+    static boolean isEmpty(String value, int start, int end) {
+        int typeStart = skipWhitespace(value, start, end);
+        return typeEnd(value, typeStart, end) == typeStart;
+    }
+
+    /**
+     * Returns the quality value of the media range in {@code value[start, end)} in thousandths. Ranges without a
+     * {@code q} parameter have {@link #MAX_QUALITY}, as do ranges with a malformed value.
+     */
+    static int quality(String value, int start, int end) {
+        int paramStart = value.indexOf(';', start);
+        while (paramStart >= 0 && paramStart < end) {
+            int nextParam = value.indexOf(';', paramStart + 1);
+            int paramEnd = nextParam < 0 || nextParam > end ? end : nextParam;
+            int nameStart = skipWhitespace(value, paramStart + 1, paramEnd);
+            int equals = value.indexOf('=', nameStart);
+            if (equals > 0 && equals < paramEnd) {
+                int nameEnd = trimTrailingWhitespace(value, nameStart, equals);
+                if (nameEnd - nameStart == 1 && (value.charAt(nameStart) == 'q' || value.charAt(nameStart) == 'Q')) {
+                    int qualityStart = skipWhitespace(value, equals + 1, paramEnd);
+                    return parseQuality(value, qualityStart, trimTrailingWhitespace(value, qualityStart, paramEnd));
+                }
+            }
+            paramStart = nextParam;
+        }
+        return MAX_QUALITY;
+    }
+
+    /** Parses {@code qvalue = ( "0" [ "." 0*3DIGIT ] ) / ( "1" [ "." 0*3("0") ] )}. */
+    private static int parseQuality(String value, int start, int end) {
+        if (start >= end) {
+            return MAX_QUALITY;
+        }
+        char integer = value.charAt(start);
+        if (integer != '0' && integer != '1') {
+            return MAX_QUALITY;
+        }
+        int result = integer == '1' ? MAX_QUALITY : 0;
+        if (start + 1 == end) {
+            return result;
+        }
+        if (value.charAt(start + 1) != '.' || end - start - 2 > MAX_QUALITY_DECIMALS) {
+            return MAX_QUALITY;
+        }
+        int multiplier = MAX_QUALITY / 10;
+        for (int i = start + 2; i < end; i++) {
+            char digit = value.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return MAX_QUALITY;
+            }
+            result += (digit - '0') * multiplier;
+            multiplier /= 10;
+        }
+        return Math.min(result, MAX_QUALITY);
+    }
+
+    /** Returns the end of the {@code type/subtype} token, excluding parameters and trailing whitespace. */
+    private static int typeEnd(String value, int start, int end) {
+        int semicolon = value.indexOf(';', start);
+        int typeEnd = semicolon < 0 || semicolon > end ? end : semicolon;
+        return trimTrailingWhitespace(value, start, typeEnd);
+    }
+
+    private static int skipWhitespace(String value, int start, int end) {
+        int index = start;
+        while (index < end && isWhitespace(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimTrailingWhitespace(String value, int start, int end) {
+        int index = end;
+        while (index > start && isWhitespace(value.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    private static boolean isWhitespace(char character) {
+        return character == ' ' || character == '\t';
+    }
+}
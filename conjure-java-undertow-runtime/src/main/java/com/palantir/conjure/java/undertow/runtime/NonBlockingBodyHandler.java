@@ -0,0 +1,158 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.UndertowRuntime;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import com.palantir.logsafe.exceptions.SafeIoException;
+import com.palantir.logsafe.exceptions.SafeRuntimeException;
+import io.undertow.io.Receiver;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.AttachmentKey;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Optional;
+import javax.annotation.Nullable;
+
+/**
+ * Receives request bodies on the IO thread, feeding each chunk to an {@link Encoding.NonBlockingParser}, and only
+ * invokes the next handler once the entire body has been read. This avoids occupying a worker thread while slow
+ * clients upload large request bodies. Requests which cannot be parsed incrementally, for example due to an encoding
+ * without non-blocking support, are passed to the next handler unchanged and read using blocking IO.
+ *
+ * <p>This handler must be applied before the {@link io.undertow.server.handlers.BlockingHandler}.
+ */
+final class NonBlockingBodyHandler implements HttpHandler {
+
+    static final AttachmentKey<ReceivedBody> RECEIVED_BODY = AttachmentKey.create(ReceivedBody.class);
+
+    private final NonBlockingBodyReader<?> reader;
+    private final HttpHandler next;
+
+    private NonBlockingBodyHandler(NonBlockingBodyReader<?> reader, HttpHandler next) {
+        this.reader = reader;
+        this.next = next;
+    }
+
+    /**
+     * Wraps the endpoint handler if non-blocking deserialization has been enabled on the runtime and the endpoint
+     * reads a request body.
+     */
+    static Optional<HttpHandler> wrap(UndertowRuntime runtime, Endpoint endpoint) {
+        if (runtime.bodySerDe() instanceof ConjureBodySerDe) {
+            return ((ConjureBodySerDe) runtime.bodySerDe())
+                    .nonBlockingBodyReader(endpoint)
+                    .map(reader -> new NonBlockingBodyHandler(reader, endpoint.handler()));
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        Optional<? extends Encoding.NonBlockingParser<?>> parser =
+                exchange.isInIoThread() ? reader.newParser(exchange) : Optional.empty();
+        if (parser.isPresent()) {
+            BodyCallback callback = new BodyCallback(reader, parser.get(), next);
+            exchange.getRequestReceiver().receivePartialBytes(callback, callback);
+        } else {
+            next.handleRequest(exchange);
+        }
+    }
+
+    /** Provides parsers for request bodies of a single endpoint. */
+    interface NonBlockingBodyReader<T> {
+
+        /** Type of the deserialized request body. */
+        Type type();
+
+        /** Returns a parser for the request body, or empty if the body must be read using blocking IO. */
+        Optional<Encoding.NonBlockingParser<T>> newParser(HttpServerExchange exchange) throws IOException;
+    }
+
+    /** A request body which has been entirely received and is ready to be deserialized on a worker thread. */
+    static final class ReceivedBody {
+
+        private final NonBlockingBodyReader<?> reader;
+        private final Encoding.NonBlockingParser<?> parser;
+
+        @Nullable
+        private final IOException failure;
+
+        private ReceivedBody(
+                NonBlockingBodyReader<?> reader, Encoding.NonBlockingParser<?> parser, @Nullable IOException failure) {
+            this.reader = reader;
+            this.parser = parser;
+            this.failure = failure;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T complete(NonBlockingBodyReader<T> expected) throws IOException {
+            if (!reader.type().equals(expected.type())) {
+                throw new SafeIllegalStateException(
+                        "Request body was received for a different type",
+                        SafeArg.of("received", reader.type()),
+                        SafeArg.of("expected", expected.type()));
+            }
+            if (failure != null) {
+                throw new SafeIoException("Failed to receive request body", failure);
+            }
+            return ((Encoding.NonBlockingParser<T>) parser).complete();
+        }
+    }
+
+    private static final class BodyCallback implements Receiver.PartialBytesCallback, Receiver.ErrorCallback {
+
+        private final NonBlockingBodyReader<?> reader;
+        private final Encoding.NonBlockingParser<?> parser;
+        private final HttpHandler next;
+
+        BodyCallback(NonBlockingBodyReader<?> reader, Encoding.NonBlockingParser<?> parser, HttpHandler next) {
+            this.reader = reader;
+            this.parser = parser;
+            this.next = next;
+        }
+
+        @Override
+        public void handle(HttpServerExchange exchange, byte[] message, boolean last) {
+            parser.feed(message, 0, message.length);
+            if (last) {
+                dispatch(exchange, new ReceivedBody(reader, parser, null));
+            }
+        }
+
+        @Override
+        public void error(HttpServerExchange exchange, IOException exception) {
+            // Failures are surfaced by the deserializer so they're handled consistently with blocking reads.
+            dispatch(exchange, new ReceivedBody(reader, parser, exception));
+        }
+
+        private void dispatch(HttpServerExchange exchange, ReceivedBody body) {
+            exchange.putAttachment(RECEIVED_BODY, body);
+            try {
+                // Receiver callbacks are executed as root handlers, so the BlockingHandler dispatch is honored.
+                next.handleRequest(exchange);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new SafeRuntimeException("Failed to handle request", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.tracing.CloseableTracer;
+import io.undertow.server.HttpServerExchange;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.xnio.IoUtils;
+
+/**
+ * Spools binary request bodies larger than {@code threshold} bytes to a temporary file, handing endpoints a
+ * {@link SpooledRequestBody} rather than the exchange stream. Bodies of a known smaller length are streamed as usual,
+ * bodies of unknown length are read into memory until they exceed the threshold.
+ */
+final class RequestBodySpool {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final int threshold;
+
+    RequestBodySpool(int threshold) {
+        Preconditions.checkArgument(
+                threshold > 0 && threshold < Integer.MAX_VALUE,
+                "threshold must be positive and less than Integer.MAX_VALUE",
+                SafeArg.of("threshold", threshold));
+        this.threshold = threshold;
+    }
+
+    InputStream spool(HttpServerExchange exchange) throws IOException {
+        long contentLength = exchange.getRequestContentLength();
+        InputStream input = exchange.getInputStream();
+        if (contentLength >= 0 && contentLength <= threshold) {
+            return input;
+        }
+        byte[] prefix = new byte[0];
+        if (contentLength < 0) {
+            prefix = input.readNBytes(threshold + 1);
+            if (prefix.length <= threshold) {
+                return new ByteArrayInputStream(prefix);
+            }
+        }
+        try (CloseableTracer ignored = CloseableTracer.startSpan("Undertow: spool request body")) {
+            return spoolToFile(exchange, prefix, input);
+        }
+    }
+
+    private static SpooledRequestBody spoolToFile(HttpServerExchange exchange, byte[] prefix, InputStream input)
+            throws IOException {
+        Path file = Files.createTempFile("conjure-request-body", ".bin");
+        // Deleted when the channel is closed, or by the operating system once unmapped if the file is still mapped
+        FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+        try {
+            writeFully(channel, ByteBuffer.wrap(prefix));
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                writeFully(channel, ByteBuffer.wrap(buffer, 0, read));
+            }
+            SpooledRequestBody body = new SpooledRequestBody(channel, channel.size());
+            exchange.addExchangeCompleteListener(
+                    SafeExchangeCompletionListener.of(_exchange -> IoUtils.safeClose(body)));
+            return body;
+        } catch (IOException | RuntimeException | Error e) {
+            IoUtils.safeClose(channel);
+            throw e;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
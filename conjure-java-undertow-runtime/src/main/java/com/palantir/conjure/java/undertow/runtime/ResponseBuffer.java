@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+/**
+ * Serializes responses into a reusable per-thread buffer, allowing responses up to {@code maxSize} bytes to be sent
+ * with an exact {@code Content-Length} in a single write rather than using chunked encoding. Responses which exceed
+ * the limit spill to the exchange output stream and are streamed as usual.
+ *
+ * <p>Each thread which serializes responses retains a buffer of up to {@code maxSize} bytes, so the limit should be
+ * chosen with the number of worker threads in mind.
+ */
+final class ResponseBuffer {
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    private final ThreadLocal<SpillingOutputStream> streams;
+
+    ResponseBuffer(int maxSize) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be positive", SafeArg.of("maxSize", maxSize));
+        this.streams = ThreadLocal.withInitial(() -> new SpillingOutputStream(maxSize));
+    }
+
+    <T> void serialize(Encoding.Serializer<T> serializer, T value, HttpServerExchange exchange) throws IOException {
+        SpillingOutputStream stream = streams.get();
+        if (stream.inUse()) {
+            // Not expected, but serializers may not assume the buffer is available.
+            serializer.serialize(value, exchange.getOutputStream());
+            return;
+        }
+        stream.begin(exchange);
+        try {
+            serializer.serialize(value, stream);
+            stream.finish();
+        } finally {
+            stream.reset();
+        }
+    }
+
+    private static final class SpillingOutputStream extends OutputStream {
+
+        private final int maxSize;
+        private byte[] buffer;
+        private int count;
+
+        @Nullable
+        private HttpServerExchange exchange;
+
+        @Nullable
+        private OutputStream spilled;
+
+        SpillingOutputStream(int maxSize) {
+            this.maxSize = maxSize;
+            this.buffer = new byte[Math.min(maxSize, INITIAL_CAPACITY)];
+        }
+
+        boolean inUse() {
+            return exchange != null;
+        }
+
+        void begin(HttpServerExchange value) {
+            this.exchange = value;
+        }
+
+        /** Writes the buffered response with an exact Content-Length if it has not already been spilled. */
+        void finish() throws IOException {
+            if (spilled == null) {
+                HttpServerExchange current = Preconditions.checkNotNull(exchange, "exchange");
+                current.getResponseHeaders().put(Headers.CONTENT_LENGTH, count);
+                // Arrays beyond the pooled buffer size are written directly rather than copied.
+                current.getOutputStream().write(buffer, 0, count);
+            }
+        }
+
+        void reset() {
+            count = 0;
+            exchange = null;
+            spilled = null;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            if (spilled != null) {
+                spilled.write(value);
+            } else if (count < maxSize) {
+                ensureCapacity(count + 1);
+                buffer[count++] = (byte) value;
+            } else {
+                spill().write(value);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (spilled != null) {
+                spilled.write(bytes, offset, length);
+            } else if (length <= maxSize - count) {
+                ensureCapacity(count + length);
+                System.arraycopy(bytes, offset, buffer, count, length);
+                count += length;
+            } else {
+                spill().write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // Flushing would commit the response without a Content-Length, the response is written by finish().
+        }
+
+        private OutputStream spill() throws IOException {
+            OutputStream output = Preconditions.checkNotNull(exchange, "exchange").getOutputStream();
+            output.write(buffer, 0, count);
+            count = 0;
+            spilled = output;
+            return output;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(maxSize, Math.max(capacity, buffer.length * 2)));
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import com.palantir.conjure.java.undertow.lib.RandomAccessRequestBody;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIoException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * A binary request body which has been spooled to a temporary file and is read through memory mappings, so the body
+ * is held by the page cache rather than the heap. Endpoints receive it as a {@link RandomAccessRequestBody}.
+ *
+ * <p>The file is deleted once the stream is closed, which happens at the latest when the exchange completes.
+ */
+final class SpooledRequestBody extends InputStream implements RandomAccessRequestBody {
+
+    // Mappings are limited to Integer.MAX_VALUE bytes, larger bodies are mapped in regions of this size.
+    private static final int REGION_SHIFT = 30;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+
+    private final FileChannel channel;
+    private final long size;
+    private final MappedByteBuffer[] regions;
+    private long position;
+    private long mark;
+    private boolean closed;
+
+    /** The channel is owned by the returned body, which closes it on {@link #close()}. */
+    SpooledRequestBody(FileChannel channel, long size) {
+        this.channel = channel;
+        this.size = size;
+        this.regions = new MappedByteBuffer[Math.toIntExact((size + REGION_SIZE - 1) >>> REGION_SHIFT)];
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void seek(long newPosition) throws IOException {
+        checkOpen();
+        Preconditions.checkArgument(
+                newPosition >= 0 && newPosition <= size,
+                "Position must be within the request body",
+                SafeArg.of("position", newPosition),
+                SafeArg.of("size", size));
+        position = newPosition;
+    }
+
+    @Override
+    public ByteBuffer map(long offset, int length) throws IOException {
+        checkOpen();
+        Preconditions.checkArgument(
+                offset >= 0 && length >= 0 && offset <= size - length,
+                "Range must be within the request body",
+                SafeArg.of("offset", offset),
+                SafeArg.of("length", length),
+                SafeArg.of("size", size));
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkOpen();
+        if (position >= size) {
+            return -1;
+        }
+        int value = region(position).get((int) (position & (REGION_SIZE - 1))) & 0xFF;
+        position++;
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        checkOpen();
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (position >= size) {
+            return -1;
+        }
+        // Reads do not span regions, callers are expected to read again for the remainder.
+        int regionOffset = (int) (position & (REGION_SIZE - 1));
+        ByteBuffer region = region(position).duplicate();
+        int count = Math.min(length, region.limit() - regionOffset);
+        region.position(regionOffset);
+        region.get(buffer, offset, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        checkOpen();
+        long skipped = Math.max(0, Math.min(count, size - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkOpen();
+        return (int) Math.min(Integer.MAX_VALUE, size - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(int _readlimit) {
+        mark = position;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        checkOpen();
+        position = mark;
+    }
+
+    /** Closes the underlying file, which is deleted. Subsequent reads fail. */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    private MappedByteBuffer region(long offset) throws IOException {
+        int index = (int) (offset >>> REGION_SHIFT);
+        MappedByteBuffer region = regions[index];
+        if (region == null) {
+            long start = (long) index << REGION_SHIFT;
+            region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(REGION_SIZE, size - start));
+            regions[index] = region;
+        }
+        return region;
+    }
+
+    private void checkOpen() throws IOException {
+        if (closed) {
+            throw new SafeIoException("Request body has been closed");
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /** Encoding implementation which wraps serialization and deserialization with tracing spans. */
 final class TracedEncoding implements Encoding {
@@ -61,6 +62,18 @@ final class TracedEncoding implements Encoding {
         return new TracedDeserializer<>(encoding.deserializer(type, endpoint), DESERIALIZE_OPERATION, getTags(type));
     }
 
+    @Override
+    public <T> Optional<NonBlockingDeserializer<T>> nonBlockingDeserializer(TypeMarker<T> type) {
+        return encoding.nonBlockingDeserializer(type)
+                .map(deserializer -> new TracedNonBlockingDeserializer<>(deserializer, getTags(type)));
+    }
+
+    @Override
+    public <T> Optional<NonBlockingDeserializer<T>> nonBlockingDeserializer(TypeMarker<T> type, Endpoint endpoint) {
+        return encoding.nonBlockingDeserializer(type, endpoint)
+                .map(deserializer -> new TracedNonBlockingDeserializer<>(deserializer, getTags(type)));
+    }
+
     /**
      * Builds a human readable type string. Class types use the classes simple name, however complex types do not have
      * this optimization because it is more complex than it's worth for now.
@@ -132,4 +145,39 @@ final class TracedEncoding implements Encoding {
             }
         }
     }
+
+    /**
+     * Only {@link NonBlockingParser#complete()} is traced, input is fed on IO threads which do not carry trace state.
+     */
+    private static final class TracedNonBlockingDeserializer<T> implements NonBlockingDeserializer<T> {
+
+        private final NonBlockingDeserializer<T> delegate;
+        private final ImmutableMap<String, String> tags;
+
+        TracedNonBlockingDeserializer(NonBlockingDeserializer<T> delegate, ImmutableMap<String, String> tags) {
+            this.delegate = delegate;
+            this.tags = tags;
+        }
+
+        @Override
+        public NonBlockingParser<T> newParser() throws IOException {
+            NonBlockingParser<T> parser = delegate.newParser();
+            return new NonBlockingParser<T>() {
+                @Override
+                public void feed(byte[] bytes, int offset, int length) {
+                    parser.feed(bytes, offset, length);
+                }
+
+                @Override
+                public T complete() throws IOException {
+                    Tracer.fastStartSpan(DESERIALIZE_OPERATION);
+                    try {
+                        return parser.complete();
+                    } finally {
+                        Tracer.fastCompleteSpan(tags);
+                    }
+                }
+            };
+        }
+    }
 }
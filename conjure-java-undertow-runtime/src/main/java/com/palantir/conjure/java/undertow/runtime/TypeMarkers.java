@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 final class TypeMarkers {
 
@@ -56,5 +57,14 @@ final class TypeMarkers {
                 "Expected a TypeMarker representing an optional type", SafeArg.of("marker", marker));
     }
 
+    /** Returns the element type of a marker representing a {@link Stream}, otherwise empty. */
+    static Optional<Type> streamElementType(TypeMarker<?> marker) {
+        Type type = marker.getType();
+        if (type instanceof ParameterizedType && Stream.class.equals(((ParameterizedType) type).getRawType())) {
+            return Optional.of(((ParameterizedType) type).getActualTypeArguments()[0]);
+        }
+        return Optional.empty();
+    }
+
     private TypeMarkers() {}
 }
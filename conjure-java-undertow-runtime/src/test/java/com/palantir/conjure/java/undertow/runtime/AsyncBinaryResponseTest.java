@@ -0,0 +1,235 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningScheduledExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
+import com.palantir.conjure.java.undertow.lib.BodySerDe;
+import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.UndertowRuntime;
+import com.palantir.conjure.java.undertow.lib.UndertowService;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class AsyncBinaryResponseTest {
+
+    private static final OkHttpClient client = new OkHttpClient.Builder().build();
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final ListeningScheduledExecutorService executor =
+            MoreExecutors.listeningDecorator(Executors.newSingleThreadScheduledExecutor());
+    private Undertow server;
+
+    @AfterEach
+    void after() {
+        if (server != null) {
+            server.stop();
+        }
+        executor.shutdownNow();
+    }
+
+    @Test
+    void immediateChunks_areWritten() throws IOException, InterruptedException {
+        CountingBody body = new CountingBody(16, Futures::immediateFuture);
+        start(body);
+        try (Response response = execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Type")).isEqualTo("application/octet-stream");
+            assertThat(response.body().bytes()).isEqualTo(expected(16));
+        }
+        assertThat(body.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void deferredChunks_areWritten() throws IOException, InterruptedException {
+        CountingBody body = new CountingBody(4, chunk -> executor.schedule(() -> chunk, 10, TimeUnit.MILLISECONDS));
+        start(body);
+        try (Response response = execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().bytes()).isEqualTo(expected(4));
+        }
+        assertThat(body.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failureBeforeFirstChunk_sendsServerError() throws IOException, InterruptedException {
+        CountingBody body = new CountingBody(
+                4, _chunk -> Futures.immediateFailedFuture(new SafeIllegalStateException("expected")));
+        start(body);
+        try (Response response = execute()) {
+            assertThat(response.code()).isEqualTo(500);
+        }
+        assertThat(body.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void failureAfterFirstChunk_closesConnection() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountingBody body = new CountingBody(
+                4,
+                chunk -> calls.incrementAndGet() == 1
+                        ? Futures.immediateFuture(chunk)
+                        : Futures.immediateFailedFuture(new SafeIllegalStateException("expected")));
+        start(body);
+        assertThatThrownBy(() -> {
+                    try (Response response = execute()) {
+                        response.body().bytes();
+                    }
+                })
+                .isInstanceOf(IOException.class);
+        assertThat(body.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void start(AsyncBinaryResponseBody body) {
+        server = Undertow.builder()
+                .addHttpListener(12345, "localhost")
+                .setHandler(ConjureHandler.builder()
+                        .services(new AsyncBinaryService(body))
+                        .build())
+                .build();
+        server.start();
+    }
+
+    private static Response execute() throws IOException {
+        return client.newCall(new Request.Builder()
+                        .get()
+                        .url("http://localhost:12345/binary")
+                        .build())
+                .execute();
+    }
+
+    private static byte[] expected(int chunks) {
+        byte[] expected = new byte[chunks * CHUNK_SIZE];
+        for (int i = 0; i < chunks; i++) {
+            Arrays.fill(expected, i * CHUNK_SIZE, (i + 1) * CHUNK_SIZE, (byte) i);
+        }
+        return expected;
+    }
+
+    /** Produces {@code chunks} chunks of {@link #CHUNK_SIZE} bytes, where each byte is the index of its chunk. */
+    private static final class CountingBody implements AsyncBinaryResponseBody {
+
+        private final int chunks;
+        private final ChunkFactory factory;
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private int produced;
+
+        CountingBody(int chunks, ChunkFactory factory) {
+            this.chunks = chunks;
+            this.factory = factory;
+        }
+
+        @Override
+        public ListenableFuture<Optional<ByteBuffer>> nextChunk() {
+            if (produced == chunks) {
+                return Futures.immediateFuture(Optional.empty());
+            }
+            byte[] chunk = new byte[CHUNK_SIZE];
+            Arrays.fill(chunk, (byte) produced++);
+            return factory.create(Optional.of(ByteBuffer.wrap(chunk)));
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+
+    private interface ChunkFactory {
+        ListenableFuture<Optional<ByteBuffer>> create(Optional<ByteBuffer> chunk);
+    }
+
+    private static final class AsyncBinaryService implements UndertowService {
+        private final AsyncBinaryResponseBody body;
+
+        AsyncBinaryService(AsyncBinaryResponseBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public List<Endpoint> endpoints(UndertowRuntime runtime) {
+            return ImmutableList.of(new AsyncBinaryEndpoint(runtime.bodySerDe(), body));
+        }
+    }
+
+    /** Approximation of a generated endpoint which returns {@code binary} asynchronously. */
+    private static final class AsyncBinaryEndpoint implements HttpHandler, Endpoint {
+
+        private final BodySerDe bodySerDe;
+        private final AsyncBinaryResponseBody body;
+
+        AsyncBinaryEndpoint(BodySerDe bodySerDe, AsyncBinaryResponseBody body) {
+            this.bodySerDe = bodySerDe;
+            this.body = body;
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws IOException {
+            bodySerDe.serializeAsync(body, exchange);
+        }
+
+        @Override
+        public HttpString method() {
+            return Methods.GET;
+        }
+
+        @Override
+        public String template() {
+            return "/binary";
+        }
+
+        @Override
+        public HttpHandler handler() {
+            return this;
+        }
+
+        @Override
+        public String serviceName() {
+            return "AsyncBinaryService";
+        }
+
+        @Override
+        public String name() {
+            return "binary";
+        }
+    }
+}
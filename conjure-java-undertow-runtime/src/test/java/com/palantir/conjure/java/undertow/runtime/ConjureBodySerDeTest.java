@@ -18,6 +18,7 @@ package com.palantir.conjure.java.undertow.runtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.google.common.collect.ImmutableList;
 import com.palantir.conjure.java.undertow.HttpServerExchanges;
@@ -75,6 +76,35 @@ public class ConjureBodySerDeTest {
                 .hasMessageContaining("Unsupported Content-Type");
     }
 
+    @Test
+    public void testPrimeEncodings() {
+        ConjureBodySerDe serializers = new ConjureBodySerDe(
+                ImmutableList.of(new StubEncoding("application/json"), new StubEncoding("text/plain")),
+                ConjureBodySerDe.Options.builder().primeEncodings(true).build());
+        serializers.serializer(TYPE);
+        serializers.deserializer(TYPE);
+        assertThat(serializers.prime())
+                .extracting(
+                        LazilyInitializedEncoding.Initialization::contentType,
+                        LazilyInitializedEncoding.Initialization::operation)
+                .containsExactlyInAnyOrder(
+                        tuple("application/json", "serializer"),
+                        tuple("application/json", "deserializer"),
+                        tuple("text/plain", "serializer"),
+                        tuple("text/plain", "deserializer"));
+        // Serializers created once primed are not retained for subsequent calls
+        serializers.serializer(TYPE);
+        serializers.deserializer(TYPE);
+        assertThat(serializers.prime()).isEmpty();
+    }
+
+    @Test
+    public void testPrimeEncodingsDisabled() {
+        ConjureBodySerDe serializers = new ConjureBodySerDe(ImmutableList.of(new StubEncoding("application/json")));
+        serializers.serializer(TYPE);
+        assertThat(serializers.prime()).isEmpty();
+    }
+
     @Test
     public void testResponseContentType() throws IOException {
         Encoding json = new StubEncoding("application/json");
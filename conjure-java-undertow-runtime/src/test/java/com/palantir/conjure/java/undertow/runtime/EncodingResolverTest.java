@@ -0,0 +1,119 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.java.undertow.runtime.ConjureBodySerDeTest.StubEncoding;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.Headers;
+import org.junit.jupiter.api.Test;
+
+public class EncodingResolverTest {
+
+    private final EncodingResolver resolver =
+            new EncodingResolver(ImmutableList.of(Encodings.json(), Encodings.smile(), new StubEncoding("text/plain")));
+
+    @Test
+    public void testSelectsFirstSupportedInClientOrder() {
+        assertThat(resolver.forAccept("application/unknown, text/plain, application/json")).isEqualTo(2);
+        assertThat(resolver.forAccept("application/x-jackson-smile, application/json")).isEqualTo(1);
+    }
+
+    @Test
+    public void testFallsBackToDefault() {
+        assertThat(resolver.forAccept("application/unknown")).isEqualTo(EncodingResolver.DEFAULT_INDEX);
+        assertThat(resolver.forAccept(new HeaderMap().get(Headers.ACCEPT))).isEqualTo(EncodingResolver.DEFAULT_INDEX);
+    }
+
+    @Test
+    public void testWildcards() {
+        assertThat(resolver.forAccept("*/*")).isZero();
+        assertThat(resolver.forAccept("text/*")).isEqualTo(2);
+        assertThat(resolver.forAccept("text/html, application/*;q=0.8")).isZero();
+    }
+
+    @Test
+    public void testQualityValues() {
+        assertThat(resolver.forAccept("application/json;q=0.5, application/x-jackson-smile")).isEqualTo(1);
+        assertThat(resolver.forAccept("application/json; q=0.9, application/x-jackson-smile;q=0.95")).isEqualTo(1);
+        assertThat(resolver.forAccept("application/json;q=0, */*")).isEqualTo(1);
+        assertThat(resolver.forAccept("application/*;q=0, */*;q=0.1")).isEqualTo(2);
+        // Nothing is acceptable, fall back to the default rather than failing the request
+        assertThat(resolver.forAccept("*/*;q=0")).isEqualTo(EncodingResolver.DEFAULT_INDEX);
+    }
+
+    @Test
+    public void testMultipleHeaderValues() {
+        HeaderMap headers = new HeaderMap();
+        headers.add(Headers.ACCEPT, "application/unknown");
+        headers.add(Headers.ACCEPT, "application/x-jackson-smile");
+        assertThat(resolver.forAccept(headers.get(Headers.ACCEPT))).isEqualTo(1);
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    public void testMultipleHeaderValuesAreNegotiatedTogether() {
+        HeaderMap headers = new HeaderMap();
+        headers.add(Headers.ACCEPT, "application/json;q=0.1");
+        headers.add(Headers.ACCEPT, "application/x-jackson-smile");
+        assertThat(resolver.forAccept(headers.get(Headers.ACCEPT))).isEqualTo(1);
+
+        // The most specific range across all headers applies, so a later header may exclude an earlier match
+        HeaderMap excluding = new HeaderMap();
+        excluding.add(Headers.ACCEPT, "*/*");
+        excluding.add(Headers.ACCEPT, "application/json;q=0");
+        assertThat(resolver.forAccept(excluding.get(Headers.ACCEPT))).isEqualTo(1);
+    }
+
+    @Test
+    public void testContentType() {
+        assertThat(resolver.forContentType("application/json; charset=utf-8")).isZero();
+        assertThat(resolver.forContentType("Application/X-Jackson-Smile")).isEqualTo(1);
+        assertThat(resolver.forContentType("application/jsonl")).isEqualTo(EncodingResolver.NO_MATCH);
+        assertThat(resolver.forContentType("application/unknown")).isEqualTo(EncodingResolver.NO_MATCH);
+    }
+
+    @Test
+    public void testCachesResults() {
+        assertThat(resolver.forAccept("text/plain")).isEqualTo(2);
+        assertThat(resolver.forAccept("text/plain")).isEqualTo(2);
+        assertThat(resolver.forContentType("text/plain")).isEqualTo(2);
+        assertThat(resolver.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testBounded() {
+        for (int i = 0; i < EncodingResolver.MAX_ENTRIES * 2; i++) {
+            assertThat(resolver.forAccept("application/unknown-" + i)).isEqualTo(EncodingResolver.DEFAULT_INDEX);
+            assertThat(resolver.forContentType("application/unknown-" + i)).isEqualTo(EncodingResolver.NO_MATCH);
+        }
+        assertThat(resolver.size()).isEqualTo(EncodingResolver.MAX_ENTRIES * 2);
+        // Values which cannot be cached are still resolved
+        assertThat(resolver.forAccept("text/plain")).isEqualTo(2);
+        assertThat(resolver.forContentType("text/plain")).isEqualTo(2);
+    }
+
+    @Test
+    public void testLongValuesAreNotCached() {
+        String value = Strings.repeat("a", EncodingResolver.MAX_KEY_LENGTH) + ", text/plain";
+        assertThat(resolver.forAccept(value)).isEqualTo(2);
+        assertThat(resolver.size()).isZero();
+    }
+}
@@ -25,16 +25,21 @@ import static org.mockito.Mockito.verify;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSetter;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.java.serialization.ObjectMappers;
 import com.palantir.conjure.java.undertow.lib.TypeMarker;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import com.palantir.logsafe.exceptions.SafeNullPointerException;
+import com.palantir.ri.ResourceIdentifier;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -55,6 +60,8 @@ final class EncodingsTest {
         assertThat(json.supportsContentType("application/Json")).isTrue();
 
         assertThat(json.supportsContentType("application/unknown")).isFalse();
+        assertThat(json.supportsContentType("application/jsonl")).isFalse();
+        assertThat(json.supportsContentType("*/*")).isFalse();
     }
 
     @Test
@@ -81,6 +88,64 @@ final class EncodingsTest {
                 .hasMessageContaining("Failed to parse request due to malformed content");
     }
 
+    @Test
+    void json_nonBlocking_feedsPartialTokens() throws IOException {
+        byte[] bytes = "{\"value\":\"a longer string value\"}".getBytes(StandardCharsets.UTF_8);
+        Encoding.NonBlockingParser<SimpleObject> parser =
+                json.nonBlockingDeserializer(new TypeMarker<SimpleObject>() {}).orElseThrow().newParser();
+        for (int i = 0; i < bytes.length; i++) {
+            parser.feed(bytes, i, 1);
+        }
+        assertThat(parser.complete()).isEqualTo(SimpleObject.builder().value("a longer string value").build());
+    }
+
+    @Test
+    void json_nonBlocking_retainsFloatingPointPrecision() throws IOException {
+        assertThat(completeNonBlocking("0.30000000000000004", new TypeMarker<Double>() {}))
+                .isEqualTo(0.30000000000000004D);
+    }
+
+    @Test
+    void json_nonBlocking_missingField() {
+        assertThatThrownBy(() -> completeNonBlocking("{\"value\":null}", new TypeMarker<SimpleObject>() {}))
+                .isInstanceOf(FrameworkException.class)
+                .matches(exception -> ((FrameworkException) exception).getStatusCode() == 422, "Expected 422 status");
+    }
+
+    @Test
+    void json_nonBlocking_invalidToken() {
+        assertThatThrownBy(() -> completeNonBlocking("{\"invalid\"}", new TypeMarker<SimpleObject>() {}))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasMessageContaining("Failed to parse request due to malformed content");
+    }
+
+    @Test
+    void json_nonBlocking_truncated() {
+        assertThatThrownBy(() -> completeNonBlocking("[\"a\",", new TypeMarker<List<String>>() {}))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Test
+    void json_nonBlocking_rejectsNulls() {
+        assertThatThrownBy(() -> completeNonBlocking("null", new TypeMarker<String>() {}))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Test
+    void smile_nonBlocking() throws IOException {
+        byte[] bytes = ObjectMappers.newSmileClientObjectMapper().writeValueAsBytes(ImmutableList.of("a", "b"));
+        Encoding.NonBlockingParser<List<String>> parser =
+                smile.nonBlockingDeserializer(new TypeMarker<List<String>>() {}).orElseThrow().newParser();
+        parser.feed(bytes, 0, 3);
+        parser.feed(bytes, 3, bytes.length - 3);
+        assertThat(parser.complete()).containsExactly("a", "b");
+    }
+
+    @Test
+    void cbor_nonBlocking_unsupported() {
+        assertThat(cbor.nonBlockingDeserializer(new TypeMarker<String>() {})).isEmpty();
+    }
+
     /** Approximation of a generated bean object. */
     @JsonDeserialize(builder = SimpleObject.Builder.class)
     public static final class SimpleObject {
@@ -175,6 +240,26 @@ final class EncodingsTest {
         assertThat(smile.supportsContentType("application/unknown")).isFalse();
     }
 
+    @Test
+    void defaults_internResourceIdentifiers() throws IOException {
+        String rid = "ri.service.instance.folder.foo";
+        TypeMarker<List<ResourceIdentifier>> type = new TypeMarker<List<ResourceIdentifier>>() {};
+        for (Encoding encoding : Encodings.defaults(true)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            encoding.serializer(type)
+                    .serialize(ImmutableList.of(ResourceIdentifier.of(rid), ResourceIdentifier.of(rid)), output);
+            List<ResourceIdentifier> value = encoding.deserializer(type)
+                    .deserialize(new ByteArrayInputStream(output.toByteArray()));
+            assertThat(value).containsExactly(ResourceIdentifier.of(rid), ResourceIdentifier.of(rid));
+            assertThat(value.get(0)).isSameAs(value.get(1));
+        }
+        Encoding.Deserializer<List<ResourceIdentifier>> deserializer =
+                Encodings.defaults(true).get(0).deserializer(type);
+        assertThatThrownBy(() -> deserializer.deserialize(asStream("[\"ri.invalid\"]")))
+                .isInstanceOf(FrameworkException.class)
+                .hasMessageContaining("Failed to deserialize");
+    }
+
     private static InputStream asStream(String data) {
         return new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8));
     }
@@ -183,6 +268,13 @@ final class EncodingsTest {
         json.serializer(new TypeMarker<Object>() {}).serialize(object, stream);
     }
 
+    private <T> T completeNonBlocking(String data, TypeMarker<T> token) throws IOException {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        Encoding.NonBlockingParser<T> parser = json.nonBlockingDeserializer(token).orElseThrow().newParser();
+        parser.feed(bytes, 0, bytes.length);
+        return parser.complete();
+    }
+
     private <T> T deserialize(InputStream stream, TypeMarker<T> token) throws IOException {
         return json.deserializer(token).deserialize(stream);
     }
@@ -0,0 +1,242 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.java.undertow.lib.BodySerDe;
+import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.FileRegionResponseBody;
+import com.palantir.conjure.java.undertow.lib.UndertowRuntime;
+import com.palantir.conjure.java.undertow.lib.UndertowService;
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FileRegionResponseTest {
+
+    private static final OkHttpClient client = new OkHttpClient.Builder().build();
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private Undertow server;
+
+    @BeforeEach
+    void before() throws IOException {
+        file = tempDir.resolve("body");
+        Files.write(file, "0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void after() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void entireFile_hasContentLength() throws IOException {
+        start(FileRegionResponseBody.of(file));
+        try (Response response = execute(get(), null)) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Length")).isEqualTo("16");
+            assertThat(response.header("Accept-Ranges")).isEqualTo("bytes");
+            assertThat(response.header("Content-Type")).isEqualTo("application/octet-stream");
+            assertThat(response.body().string()).isEqualTo("0123456789abcdef");
+        }
+    }
+
+    @Test
+    void fileRegion_sendsOnlyRegion() throws IOException {
+        start(FileRegionResponseBody.of(file, 2, 8));
+        try (Response response = execute(get(), null)) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Length")).isEqualTo("8");
+            assertThat(response.body().string()).isEqualTo("23456789");
+        }
+    }
+
+    @Test
+    void range_isRelativeToRegion() throws IOException {
+        start(FileRegionResponseBody.of(file, 2, 8));
+        try (Response response = execute(get(), "bytes=2-5")) {
+            assertThat(response.code()).isEqualTo(206);
+            assertThat(response.header("Content-Range")).isEqualTo("bytes 2-5/8");
+            assertThat(response.header("Content-Length")).isEqualTo("4");
+            assertThat(response.body().string()).isEqualTo("4567");
+        }
+    }
+
+    @Test
+    void openEndedRange_extendsToEndOfFile() throws IOException {
+        start(FileRegionResponseBody.of(file));
+        try (Response response = execute(get(), "bytes=10-")) {
+            assertThat(response.code()).isEqualTo(206);
+            assertThat(response.header("Content-Range")).isEqualTo("bytes 10-15/16");
+            assertThat(response.body().string()).isEqualTo("abcdef");
+        }
+    }
+
+    @Test
+    void suffixRange() throws IOException {
+        start(FileRegionResponseBody.of(file));
+        try (Response response = execute(get(), "bytes=-3")) {
+            assertThat(response.code()).isEqualTo(206);
+            assertThat(response.header("Content-Range")).isEqualTo("bytes 13-15/16");
+            assertThat(response.body().string()).isEqualTo("def");
+        }
+    }
+
+    @Test
+    void rangeBeyondEnd_isNotSatisfiable() throws IOException {
+        start(FileRegionResponseBody.of(file));
+        try (Response response = execute(get(), "bytes=16-20")) {
+            assertThat(response.code()).isEqualTo(416);
+            assertThat(response.header("Content-Range")).isEqualTo("bytes */16");
+            assertThat(response.body().string()).isEmpty();
+        }
+    }
+
+    @Test
+    void invalidRange_isIgnored() throws IOException {
+        start(FileRegionResponseBody.of(file));
+        try (Response response = execute(get(), "bytes=5-2")) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("0123456789abcdef");
+        }
+    }
+
+    @Test
+    void post_ignoresRange() throws IOException {
+        start(FileRegionResponseBody.of(file));
+        Request.Builder post = new Request.Builder()
+                .post(RequestBody.create(MediaType.parse("application/octet-stream"), new byte[0]));
+        try (Response response = execute(post, "bytes=2-5")) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Range")).isNull();
+            assertThat(response.body().string()).isEqualTo("0123456789abcdef");
+        }
+    }
+
+    @Test
+    void truncatedFile_fails() throws IOException {
+        start(FileRegionResponseBody.of(file, 8, 8));
+        Files.write(file, "01234567".getBytes(StandardCharsets.UTF_8));
+        try (Response response = execute(get(), null)) {
+            assertThat(response.code()).isEqualTo(500);
+        }
+    }
+
+    private void start(FileRegionResponseBody body) {
+        server = Undertow.builder()
+                .addHttpListener(12345, "localhost")
+                .setHandler(ConjureHandler.builder()
+                        .services(new FileService(body))
+                        .build())
+                .build();
+        server.start();
+    }
+
+    private static Request.Builder get() {
+        return new Request.Builder().get();
+    }
+
+    private static Response execute(Request.Builder request, String range) throws IOException {
+        request.url("http://localhost:12345/file");
+        if (range != null) {
+            request.header("Range", range);
+        }
+        return client.newCall(request.build()).execute();
+    }
+
+    private static final class FileService implements UndertowService {
+        private final FileRegionResponseBody body;
+
+        FileService(FileRegionResponseBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public List<Endpoint> endpoints(UndertowRuntime runtime) {
+            return ImmutableList.of(
+                    new FileEndpoint(runtime, Methods.GET, body), new FileEndpoint(runtime, Methods.POST, body));
+        }
+    }
+
+    /** Approximation of a generated endpoint which returns {@code binary}. */
+    private static final class FileEndpoint implements HttpHandler, Endpoint {
+
+        private final BodySerDe bodySerDe;
+        private final HttpString method;
+        private final FileRegionResponseBody body;
+
+        FileEndpoint(UndertowRuntime runtime, HttpString method, FileRegionResponseBody body) {
+            this.bodySerDe = runtime.bodySerDe();
+            this.method = method;
+            this.body = body;
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws IOException {
+            bodySerDe.serialize(body, exchange);
+        }
+
+        @Override
+        public HttpString method() {
+            return method;
+        }
+
+        @Override
+        public String template() {
+            return "/file";
+        }
+
+        @Override
+        public HttpHandler handler() {
+            return this;
+        }
+
+        @Override
+        public String serviceName() {
+            return "FileService";
+        }
+
+        @Override
+        public String name() {
+            return "file";
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class MediaTypesTest {
+
+    private static final String JSON = "application/json";
+
+    @Test
+    public void testMatches() {
+        assertThat(matches("application/json")).isTrue();
+        assertThat(matches(" Application/JSON ; charset=utf-8")).isTrue();
+        assertThat(matches("application/jsonl")).isFalse();
+        assertThat(matches("application/jso")).isFalse();
+        assertThat(matches("application/*")).isFalse();
+    }
+
+    @Test
+    public void testMatchesRegion() {
+        String header = "text/plain, application/json;q=0.5, application/cbor";
+        int start = header.indexOf(',') + 1;
+        int end = header.indexOf(',', start);
+        assertThat(MediaTypes.matches(header, start, end, JSON)).isTrue();
+        assertThat(MediaTypes.quality(header, start, end)).isEqualTo(500);
+        assertThat(MediaTypes.quality(header, end + 1, header.length())).isEqualTo(MediaTypes.MAX_QUALITY);
+    }
+
+    @Test
+    public void testSpecificity() {
+        assertThat(specificity("*/*")).isEqualTo(MediaTypes.MATCHES_ANY);
+        assertThat(specificity("*/*;q=0.1")).isEqualTo(MediaTypes.MATCHES_ANY);
+        assertThat(specificity("application/*")).isEqualTo(MediaTypes.MATCHES_SUBTYPE_WILDCARD);
+        assertThat(specificity("APPLICATION/*")).isEqualTo(MediaTypes.MATCHES_SUBTYPE_WILDCARD);
+        assertThat(specificity("application/json; charset=utf-8")).isEqualTo(MediaTypes.MATCHES_EXACTLY);
+        assertThat(specificity("text/*")).isEqualTo(MediaTypes.NO_MATCH);
+        assertThat(specificity("app/*")).isEqualTo(MediaTypes.NO_MATCH);
+        assertThat(specificity("application/cbor")).isEqualTo(MediaTypes.NO_MATCH);
+    }
+
+    @Test
+    public void testQuality() {
+        assertThat(quality("application/json")).isEqualTo(1000);
+        assertThat(quality("application/json;q=1")).isEqualTo(1000);
+        assertThat(quality("application/json;q=1.000")).isEqualTo(1000);
+        assertThat(quality("application/json;q=0")).isZero();
+        assertThat(quality("application/json; Q = 0.8")).isEqualTo(800);
+        assertThat(quality("application/json;charset=utf-8;q=0.25")).isEqualTo(250);
+        assertThat(quality("application/json;q=0.001")).isEqualTo(1);
+        assertThat(quality("application/json;qs=0.5")).isEqualTo(1000);
+    }
+
+    @Test
+    public void testMalformedQuality() {
+        assertThat(quality("application/json;q=")).isEqualTo(1000);
+        assertThat(quality("application/json;q=2")).isEqualTo(1000);
+        assertThat(quality("application/json;q=0.0001")).isEqualTo(1000);
+        assertThat(quality("application/json;q=0.a")).isEqualTo(1000);
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(MediaTypes.isEmpty(" ", 0, 1)).isTrue();
+        assertThat(MediaTypes.isEmpty(";q=1", 0, 4)).isTrue();
+        assertThat(MediaTypes.isEmpty("*/*", 0, 3)).isFalse();
+    }
+
+    private static boolean matches(String value) {
+        return MediaTypes.matches(value, 0, value.length(), JSON);
+    }
+
+    private static int specificity(String value) {
+        return MediaTypes.specificity(value, 0, value.length(), JSON);
+    }
+
+    private static int quality(String value) {
+        return MediaTypes.quality(value, 0, value.length());
+    }
+}
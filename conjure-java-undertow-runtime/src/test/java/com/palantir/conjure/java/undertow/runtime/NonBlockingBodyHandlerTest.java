@@ -0,0 +1,188 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.java.serialization.ObjectMappers;
+import com.palantir.conjure.java.undertow.lib.Deserializer;
+import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.TypeMarker;
+import com.palantir.conjure.java.undertow.lib.UndertowRuntime;
+import com.palantir.conjure.java.undertow.lib.UndertowService;
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class NonBlockingBodyHandlerTest {
+
+    private static final OkHttpClient client = new OkHttpClient.Builder().build();
+
+    private final AtomicBoolean receivedWithoutBlocking = new AtomicBoolean();
+    private Undertow server;
+
+    @AfterEach
+    void after() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void json_receivedWithoutBlocking() throws IOException {
+        start(true);
+        try (Response response = execute("application/json", "[\"a\",\"b\",\"c\"]".getBytes(StandardCharsets.UTF_8))) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("a,b,c");
+        }
+        assertThat(receivedWithoutBlocking).isTrue();
+    }
+
+    @Test
+    void smile_receivedWithoutBlocking() throws IOException {
+        start(true);
+        byte[] body = ObjectMappers.newSmileClientObjectMapper().writeValueAsBytes(ImmutableList.of("a", "b"));
+        try (Response response = execute("application/x-jackson-smile", body)) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("a,b");
+        }
+        assertThat(receivedWithoutBlocking).isTrue();
+    }
+
+    @Test
+    void cbor_fallsBackToBlocking() throws IOException {
+        start(true);
+        byte[] body = ObjectMappers.newCborClientObjectMapper().writeValueAsBytes(ImmutableList.of("a", "b"));
+        try (Response response = execute("application/cbor", body)) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("a,b");
+        }
+        assertThat(receivedWithoutBlocking).isFalse();
+    }
+
+    @Test
+    void malformedBody_isBadRequest() throws IOException {
+        start(true);
+        try (Response response = execute("application/json", "[\"a\",".getBytes(StandardCharsets.UTF_8))) {
+            assertThat(response.code()).isEqualTo(400);
+        }
+        assertThat(receivedWithoutBlocking).isTrue();
+    }
+
+    @Test
+    void unsupportedContentType_fallsBackToBlocking() throws IOException {
+        start(true);
+        try (Response response = execute("application/unknown", "[]".getBytes(StandardCharsets.UTF_8))) {
+            assertThat(response.code()).isEqualTo(415);
+        }
+        assertThat(receivedWithoutBlocking).isFalse();
+    }
+
+    @Test
+    void disabledByDefault() throws IOException {
+        start(false);
+        try (Response response = execute("application/json", "[\"a\"]".getBytes(StandardCharsets.UTF_8))) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("a");
+        }
+        assertThat(receivedWithoutBlocking).isFalse();
+    }
+
+    private void start(boolean nonBlockingDeserialization) {
+        server = Undertow.builder()
+                .addHttpListener(12345, "localhost")
+                .setHandler(ConjureHandler.builder()
+                        .runtime(ConjureUndertowRuntime.builder()
+                                .nonBlockingDeserialization(nonBlockingDeserialization)
+                                .build())
+                        .services(new ListService())
+                        .build())
+                .build();
+        server.start();
+    }
+
+    private static Response execute(String contentType, byte[] body) throws IOException {
+        return client.newCall(new Request.Builder()
+                        .post(RequestBody.create(MediaType.parse(contentType), body))
+                        .url("http://localhost:12345/list")
+                        .build())
+                .execute();
+    }
+
+    private final class ListService implements UndertowService {
+        @Override
+        public List<Endpoint> endpoints(UndertowRuntime runtime) {
+            return ImmutableList.of(new ListEndpoint(runtime));
+        }
+    }
+
+    /** Approximation of a generated endpoint which reads a request body. */
+    private final class ListEndpoint implements HttpHandler, Endpoint {
+
+        private final Deserializer<List<String>> deserializer;
+
+        ListEndpoint(UndertowRuntime runtime) {
+            this.deserializer = runtime.bodySerDe().deserializer(new TypeMarker<List<String>>() {}, this);
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws IOException {
+            receivedWithoutBlocking.set(exchange.getAttachment(NonBlockingBodyHandler.RECEIVED_BODY) != null);
+            List<String> value = deserializer.deserialize(exchange);
+            exchange.getResponseSender().send(String.join(",", value));
+        }
+
+        @Override
+        public HttpString method() {
+            return Methods.POST;
+        }
+
+        @Override
+        public String template() {
+            return "/list";
+        }
+
+        @Override
+        public HttpHandler handler() {
+            return this;
+        }
+
+        @Override
+        public String serviceName() {
+            return "ListService";
+        }
+
+        @Override
+        public String name() {
+            return "list";
+        }
+    }
+}
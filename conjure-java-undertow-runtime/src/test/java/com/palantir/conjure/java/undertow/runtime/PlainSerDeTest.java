@@ -72,6 +72,18 @@ public final class PlainSerDeTest {
                 "Rid", "ri.service.instance.folder.foo", ResourceIdentifier.of("ri.service.instance.folder.foo"));
     }
 
+    @Test
+    public void testDeserializeInternedRid() {
+        String rid = "ri.service.instance.folder.foo";
+        ResourceIdentifier first = ConjurePlainSerDe.INTERNING.deserializeRid(rid);
+        assertThat(first).isEqualTo(ResourceIdentifier.of(rid));
+        assertThat(ConjurePlainSerDe.INTERNING.deserializeRid(new String(rid))).isSameAs(first);
+        assertThat(ConjurePlainSerDe.INSTANCE.deserializeRid(rid)).isNotSameAs(first);
+        assertThatLoggableExceptionThrownBy(() -> ConjurePlainSerDe.INTERNING.deserializeRid("ri.invalid"))
+                .isInstanceOf(SafeIllegalArgumentException.class)
+                .hasLogMessage("failed to deserialize rid");
+    }
+
     @Test
     public void testDeserializeSafeLong() throws Exception {
         runDeserializerTest("SafeLong", "9007199254740990", SafeLong.of(9007199254740990L));
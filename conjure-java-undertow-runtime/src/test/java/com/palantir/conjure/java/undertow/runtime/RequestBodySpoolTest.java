@@ -0,0 +1,212 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.RandomAccessRequestBody;
+import com.palantir.conjure.java.undertow.lib.Serializer;
+import com.palantir.conjure.java.undertow.lib.TypeMarker;
+import com.palantir.conjure.java.undertow.lib.UndertowRuntime;
+import com.palantir.conjure.java.undertow.lib.UndertowService;
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class RequestBodySpoolTest {
+
+    private static final OkHttpClient client = new OkHttpClient.Builder().build();
+    private static final MediaType OCTET_STREAM = MediaType.get("application/octet-stream");
+    private static final int THRESHOLD = 1024;
+
+    private Undertow server;
+
+    @AfterEach
+    void after() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void bodyWithinThreshold_isStreamed() throws IOException {
+        start(THRESHOLD);
+        String body = Strings.repeat("a", THRESHOLD);
+        assertThat(execute(RequestBody.create(OCTET_STREAM, body))).isEqualTo("streamed:" + body);
+    }
+
+    @Test
+    void bodyBeyondThreshold_isSpooled() throws IOException {
+        start(THRESHOLD);
+        String body = content(4 * THRESHOLD);
+        assertThat(execute(RequestBody.create(OCTET_STREAM, body))).isEqualTo("spooled:" + body);
+    }
+
+    @Test
+    void chunkedBodyWithinThreshold_isBuffered() throws IOException {
+        start(THRESHOLD);
+        String body = Strings.repeat("a", THRESHOLD);
+        assertThat(execute(chunked(body))).isEqualTo("streamed:" + body);
+    }
+
+    @Test
+    void chunkedBodyBeyondThreshold_isSpooled() throws IOException {
+        start(THRESHOLD);
+        String body = content(4 * THRESHOLD + 1);
+        assertThat(execute(chunked(body))).isEqualTo("spooled:" + body);
+    }
+
+    @Test
+    void disabledByDefault() throws IOException {
+        start(0);
+        String body = content(4 * THRESHOLD);
+        assertThat(execute(RequestBody.create(OCTET_STREAM, body))).isEqualTo("streamed:" + body);
+    }
+
+    private void start(int threshold) {
+        server = Undertow.builder()
+                .addHttpListener(12345, "localhost")
+                .setHandler(ConjureHandler.builder()
+                        .runtime(ConjureUndertowRuntime.builder()
+                                .binaryRequestSpoolThreshold(threshold)
+                                .build())
+                        .services(new UploadService())
+                        .build())
+                .build();
+        server.start();
+    }
+
+    private static String content(int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        return builder.toString();
+    }
+
+    private static RequestBody chunked(String content) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return OCTET_STREAM;
+            }
+
+            @Override
+            public long contentLength() {
+                return -1;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                sink.writeUtf8(content);
+            }
+        };
+    }
+
+    private static String execute(RequestBody body) throws IOException {
+        try (Response response = client.newCall(new Request.Builder()
+                        .post(body)
+                        .url("http://localhost:12345/upload")
+                        .build())
+                .execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            String result = response.body().string();
+            return result.substring(1, result.length() - 1);
+        }
+    }
+
+    private static final class UploadService implements UndertowService {
+        @Override
+        public List<Endpoint> endpoints(UndertowRuntime runtime) {
+            return ImmutableList.of(new UploadEndpoint(runtime));
+        }
+    }
+
+    /**
+     * Approximation of a generated endpoint which accepts a {@code binary} body, responding with whether it was
+     * spooled and its content.
+     */
+    private static final class UploadEndpoint implements HttpHandler, Endpoint {
+
+        private final UndertowRuntime runtime;
+        private final Serializer<String> serializer;
+
+        UploadEndpoint(UndertowRuntime runtime) {
+            this.runtime = runtime;
+            this.serializer = runtime.bodySerDe().serializer(new TypeMarker<String>() {}, this);
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws IOException {
+            InputStream body = runtime.bodySerDe().deserializeInputStream(exchange);
+            String content = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            if (body instanceof RandomAccessRequestBody) {
+                RandomAccessRequestBody spooled = (RandomAccessRequestBody) body;
+                assertThat(spooled.size()).isEqualTo(content.length());
+                spooled.seek(1);
+                assertThat(body.read()).isEqualTo(content.charAt(1));
+                ByteBuffer mapped = spooled.map(2, 3);
+                assertThat(mapped.remaining()).isEqualTo(3);
+                assertThat((char) mapped.get()).isEqualTo(content.charAt(2));
+            }
+            serializer.serialize((body instanceof RandomAccessRequestBody ? "spooled:" : "streamed:") + content, exchange);
+        }
+
+        @Override
+        public HttpString method() {
+            return Methods.POST;
+        }
+
+        @Override
+        public String template() {
+            return "/upload";
+        }
+
+        @Override
+        public HttpHandler handler() {
+            return this;
+        }
+
+        @Override
+        public String serviceName() {
+            return "UploadService";
+        }
+
+        @Override
+        public String name() {
+            return "upload";
+        }
+    }
+}
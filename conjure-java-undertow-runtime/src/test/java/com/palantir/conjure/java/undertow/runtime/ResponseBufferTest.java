@@ -0,0 +1,167 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.palantir.conjure.java.undertow.lib.Endpoint;
+import com.palantir.conjure.java.undertow.lib.Serializer;
+import com.palantir.conjure.java.undertow.lib.TypeMarker;
+import com.palantir.conjure.java.undertow.lib.UndertowRuntime;
+import com.palantir.conjure.java.undertow.lib.UndertowService;
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import java.io.IOException;
+import java.util.List;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class ResponseBufferTest {
+
+    private static final OkHttpClient client = new OkHttpClient.Builder().build();
+    private static final int RESPONSE_BUFFER_SIZE = 64 * 1024;
+
+    private Undertow server;
+
+    @AfterEach
+    void after() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    void responseWithinBuffer_hasContentLength() throws IOException {
+        start(RESPONSE_BUFFER_SIZE);
+        // Larger than Undertow's pooled buffers, which would otherwise use chunked encoding.
+        String expected = Strings.repeat("a", 32 * 1024);
+        try (Response response = execute(expected.length())) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Length")).isEqualTo(Integer.toString(expected.length() + 2));
+            assertThat(response.header("Transfer-Encoding")).isNull();
+            assertThat(response.body().string()).isEqualTo('"' + expected + '"');
+        }
+    }
+
+    @Test
+    void responseBeyondBuffer_isStreamed() throws IOException {
+        start(RESPONSE_BUFFER_SIZE);
+        String expected = Strings.repeat("a", 2 * RESPONSE_BUFFER_SIZE);
+        try (Response response = execute(expected.length())) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Content-Length")).isNull();
+            assertThat(response.header("Transfer-Encoding")).isEqualTo("chunked");
+            assertThat(response.body().string()).isEqualTo('"' + expected + '"');
+        }
+    }
+
+    @Test
+    void consecutiveResponses_reuseBuffer() throws IOException {
+        start(RESPONSE_BUFFER_SIZE);
+        for (int length : new int[] {1024, 16, RESPONSE_BUFFER_SIZE * 2, 8}) {
+            try (Response response = execute(length)) {
+                assertThat(response.body().string()).isEqualTo('"' + Strings.repeat("a", length) + '"');
+            }
+        }
+    }
+
+    @Test
+    void disabledByDefault() throws IOException {
+        start(0);
+        try (Response response = execute(32 * 1024)) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.header("Transfer-Encoding")).isEqualTo("chunked");
+        }
+    }
+
+    private void start(int responseBufferSize) {
+        server = Undertow.builder()
+                .addHttpListener(12345, "localhost")
+                .setHandler(ConjureHandler.builder()
+                        .runtime(ConjureUndertowRuntime.builder()
+                                .responseBufferSize(responseBufferSize)
+                                .build())
+                        .services(new StringService())
+                        .build())
+                .build();
+        server.start();
+    }
+
+    private static Response execute(int length) throws IOException {
+        return client.newCall(new Request.Builder()
+                        .get()
+                        .url("http://localhost:12345/string?length=" + length)
+                        .build())
+                .execute();
+    }
+
+    private static final class StringService implements UndertowService {
+        @Override
+        public List<Endpoint> endpoints(UndertowRuntime runtime) {
+            return ImmutableList.of(new StringEndpoint(runtime));
+        }
+    }
+
+    /** Approximation of a generated endpoint which returns a {@code string} of the requested length. */
+    private static final class StringEndpoint implements HttpHandler, Endpoint {
+
+        private final Serializer<String> serializer;
+
+        StringEndpoint(UndertowRuntime runtime) {
+            this.serializer = runtime.bodySerDe().serializer(new TypeMarker<String>() {}, this);
+        }
+
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws IOException {
+            int length = Integer.parseInt(exchange.getQueryParameters().get("length").getFirst());
+            serializer.serialize(Strings.repeat("a", length), exchange);
+        }
+
+        @Override
+        public HttpString method() {
+            return Methods.GET;
+        }
+
+        @Override
+        public String template() {
+            return "/string";
+        }
+
+        @Override
+        public HttpHandler handler() {
+            return this;
+        }
+
+        @Override
+        public String serviceName() {
+            return "StringService";
+        }
+
+        @Override
+        public String name() {
+            return "string";
+        }
+    }
+}
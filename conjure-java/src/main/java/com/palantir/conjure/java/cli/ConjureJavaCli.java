@@ -209,6 +209,48 @@ public final class ConjureJavaCli implements Runnable {
                 description = "Union visitors expose the values of unknowns in addition to their types.")
         private boolean unionsWithUnknownValues;
 
+        @CommandLine.Option(
+                names = "--experimentalGeneratedJacksonSerializers",
+                defaultValue = "false",
+                description = "Objects and primitive aliases are serialized and deserialized by generated Jackson "
+                        + "serializers rather than reflective bean property access and delegating creators, and "
+                        + "enums and unions by generated deserializers.")
+        private boolean useGeneratedJacksonSerializers;
+
+        @CommandLine.Option(
+                names = "--experimentalBufferedUnknownUnionValues",
+                defaultValue = "false",
+                description = "Unknown union variants hold their properties as buffered tokens, which are written "
+                        + "back verbatim and only decoded when visited.")
+        private boolean useBufferedUnknownUnionValues;
+
+        @CommandLine.Option(
+                names = "--experimentalInternStringAliases",
+                defaultValue = "false",
+                description = "String aliases intern their values in a bounded cache of weakly referenced instances.")
+        private boolean internStringAliases;
+
+        @CommandLine.Option(
+                names = "--experimentalPrimitiveLists",
+                defaultValue = "false",
+                description = "Object builders store list<integer> and list<double> fields in lists backed by "
+                        + "primitive arrays.")
+        private boolean usePrimitiveLists;
+
+        @CommandLine.Option(
+                names = "--experimentalCompactCollections",
+                defaultValue = "false",
+                description = "Objects hold their collections in exactly-sized immutable copies rather than "
+                        + "unmodifiable views of the builder's collections.")
+        private boolean useCompactCollections;
+
+        @CommandLine.Option(
+                names = "--experimentalUndertowAsyncBinaryResponses",
+                defaultValue = "false",
+                description = "Generate Undertow services which return binary responses as AsyncBinaryResponseBody, "
+                        + "writing chunks without blocking a thread.")
+        private boolean undertowAsyncBinaryResponses;
+
         @SuppressWarnings("unused")
         @CommandLine.Unmatched
         private List<String> unmatchedOptions;
@@ -277,6 +319,12 @@ public final class ConjureJavaCli implements Runnable {
                             .excludeEmptyOptionals(excludeEmptyOptionals)
                             .excludeEmptyCollections(excludeEmptyCollections)
                             .unionsWithUnknownValues(unionsWithUnknownValues)
+                            .useGeneratedJacksonSerializers(useGeneratedJacksonSerializers)
+                            .useBufferedUnknownUnionValues(useBufferedUnknownUnionValues)
+                            .internStringAliases(internStringAliases)
+                            .usePrimitiveLists(usePrimitiveLists)
+                            .useCompactCollections(useCompactCollections)
+                            .undertowAsyncBinaryResponses(undertowAsyncBinaryResponses)
                             .build())
                     .build();
         }
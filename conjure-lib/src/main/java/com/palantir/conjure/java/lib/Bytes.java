@@ -27,46 +27,84 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Objects;
 
-/** An immutable {@code byte[]} wrapper. */
+/**
+ * An immutable {@code byte[]} wrapper. Instances may view a range of a larger array, allowing {@link #slice slices}
+ * and {@link #unsafeWrap trusted wrapping} without copying.
+ */
 @JsonSerialize(using = Bytes.Serializer.class)
 @JsonDeserialize(using = Bytes.Deserializer.class)
 public final class Bytes {
     private final byte[] safe;
+    private final int offset;
+    private final int length;
     private int hashCode;
 
     /** Constructs a new {@link Bytes} assuming the provided array is not held by any other class. */
     private Bytes(byte[] array) {
-        safe = array;
+        this(array, 0, array.length);
+    }
+
+    /** Constructs a new {@link Bytes} over the given range, assuming the provided array is never modified. */
+    private Bytes(byte[] array, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, array.length);
+        this.safe = array;
+        this.offset = offset;
+        this.length = length;
     }
 
     /** Returns a new read-only {@link ByteBuffer} backed by this byte array. */
     public ByteBuffer asReadOnlyByteBuffer() {
-        return ByteBuffer.wrap(safe).asReadOnlyBuffer();
+        ByteBuffer buffer = ByteBuffer.wrap(safe, offset, length);
+        // slice ranges of a larger array so that position zero and the capacity match this value's content
+        return (length == safe.length ? buffer : buffer.slice()).asReadOnlyBuffer();
     }
 
     /** Returns a new byte array containing the same content as this object's underlying {@code byte[]}. */
     public byte[] asNewByteArray() {
-        byte[] unsafe = new byte[safe.length];
-        System.arraycopy(safe, 0, unsafe, 0, safe.length);
-        return unsafe;
+        return Arrays.copyOfRange(safe, offset, offset + length);
     }
 
     /** Copies this byte array into the provided byte array beginning at offset and up to the provided length. */
-    public void copyTo(byte[] destination, int offset, int length) {
-        System.arraycopy(safe, 0, destination, offset, length);
+    public void copyTo(byte[] destination, int destinationOffset, int count) {
+        if (count > length) {
+            // the backing array may extend beyond this value, so System.arraycopy cannot detect overruns itself
+            throw new ArrayIndexOutOfBoundsException(count);
+        }
+        System.arraycopy(safe, offset, destination, destinationOffset, count);
+    }
+
+    /** Writes the contents of this byte array to the provided {@link OutputStream} without copying. */
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(safe, offset, length);
+    }
+
+    /** Writes the contents of this byte array to the provided {@link ByteBuffer}, advancing its position. */
+    public void writeTo(ByteBuffer destination) {
+        destination.put(safe, offset, length);
     }
 
     /** Returns a new {@link InputStream} that reads this byte array. */
     public InputStream getInputStream() {
-        return new ByteArrayInputStream(safe);
+        return new ByteArrayInputStream(safe, offset, length);
+    }
+
+    /** Returns a {@link Bytes} viewing the given range of this byte array, sharing rather than copying its content. */
+    public Bytes slice(int sliceOffset, int sliceLength) {
+        Objects.checkFromIndexSize(sliceOffset, sliceLength, length);
+        if (sliceOffset == 0 && sliceLength == length) {
+            return this;
+        }
+        return new Bytes(safe, offset + sliceOffset, sliceLength);
     }
 
     /** Returns the size of this byte array. */
     public int size() {
-        return safe.length;
+        return length;
     }
 
     @Override
@@ -74,7 +112,10 @@ public final class Bytes {
         // same implementation as java.lang.String except Arrays.hashCode(new byte[0]) == 1 so no length check.
         int hash = hashCode;
         if (hash == 0) {
-            hash = Arrays.hashCode(safe);
+            hash = 1;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + safe[i];
+            }
             hashCode = hash;
         }
         return hash;
@@ -82,12 +123,19 @@ public final class Bytes {
 
     @Override
     public boolean equals(Object obj) {
-        return this == obj || (obj instanceof Bytes && Arrays.equals(safe, ((Bytes) obj).safe));
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Bytes)) {
+            return false;
+        }
+        Bytes other = (Bytes) obj;
+        return Arrays.equals(safe, offset, offset + length, other.safe, other.offset, other.offset + other.length);
     }
 
     @Override
     public String toString() {
-        return "Bytes{size: " + safe.length + '}';
+        return "Bytes{size: " + length + '}';
     }
 
     /** Constructs a new {@link Bytes} from the provided array. */
@@ -114,17 +162,38 @@ public final class Bytes {
         return new Bytes(safe);
     }
 
+    /**
+     * Constructs a new {@link Bytes} viewing the provided range of {@code array} without copying it. The caller must
+     * guarantee that the range is never modified afterwards, otherwise the returned value is no longer immutable.
+     */
+    public static Bytes unsafeWrap(byte[] array, int offset, int length) {
+        return new Bytes(array, offset, length);
+    }
+
+    /**
+     * Constructs a new {@link Bytes} viewing the remaining content of {@code buffer} without copying it when the
+     * buffer is backed by an accessible array, and otherwise copying as {@link #from(ByteBuffer)} does. The caller must
+     * guarantee that the content is never modified afterwards.
+     */
+    public static Bytes unsafeWrap(ByteBuffer buffer) {
+        if (!buffer.hasArray()) {
+            return from(buffer);
+        }
+        return new Bytes(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+
     static final class Serializer extends JsonSerializer<Bytes> {
         @Override
         public void serialize(Bytes value, JsonGenerator gen, SerializerProvider _serializer) throws IOException {
-            gen.writeBinary(value.safe);
+            gen.writeBinary(value.safe, value.offset, value.length);
         }
     }
 
     static final class Deserializer extends JsonDeserializer<Bytes> {
         @Override
         public Bytes deserialize(JsonParser parser, DeserializationContext _ctxt) throws IOException {
-            // Avoid making a copy of the value from jackson
+            // Avoid making a copy of the value from jackson. Text parsers decode base64 straight from their input into
+            // a segmented builder, so the encoded text is never materialized and the result is copied only once.
             return new Bytes(parser.getBinaryValue());
         }
     }
@@ -0,0 +1,63 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import java.util.Objects;
+
+/**
+ * An open-addressed hash index over an array of distinct keys, used by {@link CompactSet} and {@link CompactMap} to
+ * look up keys without allocating a node per entry. Each slot holds the position of a key plus one, or zero if empty.
+ */
+final class CompactHashIndex {
+
+    private CompactHashIndex() {
+        // cannot instantiate
+    }
+
+    static int[] create(Object[] keys) {
+        // Sized to at least twice the number of keys so that probing always terminates at an empty slot
+        int[] table = new int[Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1];
+        int mask = table.length - 1;
+        for (int i = 0; i < keys.length; i++) {
+            int slot = hash(keys[i]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    /** Returns the position of {@code key} in {@code keys}, or {@code -1} if it is absent. */
+    static int indexOf(int[] table, Object[] keys, Object key) {
+        int mask = table.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (Objects.equals(keys[entry - 1], key)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private static int hash(Object key) {
+        int hash = Objects.hashCode(key);
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/** An immutable map backed by exactly-sized key and value arrays in encounter order. Null values are permitted. */
+final class CompactMap<K, V> extends AbstractMap<K, V> {
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] table;
+
+    /** Keys must be distinct. */
+    CompactMap(Object[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.table = CompactHashIndex.create(keys);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = CompactHashIndex.indexOf(table, keys, key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return CompactHashIndex.indexOf(table, keys, key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+            return index < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> entry = new AbstractMap.SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+            index++;
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/** An immutable set backed by an exactly-sized array in encounter order. Null elements are permitted. */
+final class CompactSet<E> extends AbstractSet<E> {
+
+    private final Object[] elements;
+    private final int[] table;
+
+    /** Elements must be distinct. */
+    CompactSet(Object[] elements) {
+        this.elements = elements;
+        this.table = CompactHashIndex.create(elements);
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return CompactHashIndex.indexOf(table, elements, element) >= 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new CompactList<E>(elements).iterator();
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+}
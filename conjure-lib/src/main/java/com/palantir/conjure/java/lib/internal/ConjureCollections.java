@@ -17,6 +17,10 @@
 package com.palantir.conjure.java.lib.internal;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Utility functions for conjure. Consumers should prefer to use something like guava instead of using these functions
@@ -40,4 +44,60 @@ public final class ConjureCollections {
             }
         }
     }
+
+    /**
+     * Returns an immutable copy of {@code list} backed by an exactly-sized array, rather than an unmodifiable view
+     * retaining the spare capacity of the original. Empty and single-element lists use the JDK's compact
+     * representations.
+     */
+    public static <T> List<T> immutableList(List<T> list) {
+        switch (list.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.singletonList(list.get(0));
+            default:
+                return list instanceof CompactList ? list : new CompactList<>(list.toArray());
+        }
+    }
+
+    /**
+     * Returns an immutable copy of {@code set} backed by an exactly-sized array which preserves its iteration order.
+     * Empty and single-element sets use the JDK's compact representations.
+     */
+    public static <T> Set<T> immutableSet(Set<T> set) {
+        switch (set.size()) {
+            case 0:
+                return Collections.emptySet();
+            case 1:
+                return Collections.singleton(set.iterator().next());
+            default:
+                return set instanceof CompactSet ? set : new CompactSet<>(set.toArray());
+        }
+    }
+
+    /**
+     * Returns an immutable copy of {@code map} backed by exactly-sized arrays which preserve its iteration order.
+     * Empty and single-entry maps use the JDK's compact representations.
+     */
+    public static <K, V> Map<K, V> immutableMap(Map<K, V> map) {
+        int size = map.size();
+        if (size == 0) {
+            return Collections.emptyMap();
+        } else if (size == 1) {
+            Map.Entry<K, V> entry = map.entrySet().iterator().next();
+            return Collections.singletonMap(entry.getKey(), entry.getValue());
+        } else if (map instanceof CompactMap) {
+            return map;
+        }
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int index = 0;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+        return new CompactMap<>(keys, values);
+    }
 }
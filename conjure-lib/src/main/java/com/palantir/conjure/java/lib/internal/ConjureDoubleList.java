@@ -0,0 +1,237 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidNullException;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@code List<Double>} backed by a {@code double[]}, used by generated builders for {@code list<double>} fields so
+ * that elements are not individually boxed. Jackson reads and writes the backing array directly.
+ */
+@JsonSerialize(using = ConjureDoubleList.JacksonSerializer.class)
+@JsonDeserialize(using = ConjureDoubleList.JacksonDeserializer.class)
+public final class ConjureDoubleList extends AbstractList<Double> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double[] EMPTY = new double[0];
+
+    private final boolean modifiable;
+    private double[] elements;
+    private int size;
+
+    public ConjureDoubleList() {
+        this(EMPTY, 0, true);
+    }
+
+    private ConjureDoubleList(double[] elements, int size, boolean modifiable) {
+        this.elements = elements;
+        this.size = size;
+        this.modifiable = modifiable;
+    }
+
+    /**
+     * Returns an unmodifiable list with the contents of {@code list}. A {@link ConjureDoubleList} is copied with a
+     * single array copy, so builders may continue to be modified after their values have been built.
+     */
+    public static List<Double> unmodifiable(List<Double> list) {
+        if (list instanceof ConjureDoubleList) {
+            ConjureDoubleList doubles = (ConjureDoubleList) list;
+            if (!doubles.modifiable) {
+                return doubles;
+            }
+            return new ConjureDoubleList(Arrays.copyOf(doubles.elements, doubles.size), doubles.size, false);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public Double set(int index, Double element) {
+        checkModifiable();
+        Objects.checkIndex(index, size);
+        double previous = elements[index];
+        elements[index] = Preconditions.checkNotNull(element, "list<double> elements cannot be null");
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Double element) {
+        checkModifiable();
+        Objects.checkIndex(index, size + 1);
+        double value = Preconditions.checkNotNull(element, "list<double> elements cannot be null");
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    public void addDouble(double element) {
+        checkModifiable();
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> collection) {
+        if (!(collection instanceof ConjureDoubleList)) {
+            return super.addAll(collection);
+        }
+        checkModifiable();
+        ConjureDoubleList other = (ConjureDoubleList) collection;
+        int otherSize = other.size;
+        ensureCapacity(size + otherSize);
+        System.arraycopy(other.elements, 0, elements, size, otherSize);
+        size += otherSize;
+        modCount++;
+        return otherSize != 0;
+    }
+
+    @Override
+    public Double remove(int index) {
+        checkModifiable();
+        Objects.checkIndex(index, size);
+        double previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        size = 0;
+        modCount++;
+    }
+
+    public double[] toDoubleArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ConjureDoubleList)) {
+            return super.equals(other);
+        }
+        ConjureDoubleList that = (ConjureDoubleList) other;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            // Matches Double#equals, which is what List#equals compares elements with
+            if (Double.doubleToLongBits(elements[i]) != Double.doubleToLongBits(that.elements[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Double.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int grown = Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, Math.max(capacity, grown));
+        }
+    }
+
+    private void checkModifiable() {
+        if (!modifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static final class JacksonSerializer extends StdSerializer<ConjureDoubleList> {
+        JacksonSerializer() {
+            super(ConjureDoubleList.class);
+        }
+
+        @Override
+        public void serialize(ConjureDoubleList value, JsonGenerator gen, SerializerProvider _provider)
+                throws IOException {
+            gen.writeArray(value.elements, 0, value.size);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider _provider, ConjureDoubleList value) {
+            return value.isEmpty();
+        }
+    }
+
+    static final class JacksonDeserializer extends StdDeserializer<ConjureDoubleList> {
+        JacksonDeserializer() {
+            super(ConjureDoubleList.class);
+        }
+
+        @Override
+        public ConjureDoubleList deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return (ConjureDoubleList) ctxt.handleUnexpectedToken(ConjureDoubleList.class, p);
+            }
+            ConjureDoubleList list = new ConjureDoubleList();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    throw InvalidNullException.from(ctxt, null, ctxt.constructType(Double.class));
+                }
+                list.addDouble(_parseDoublePrimitive(p, ctxt));
+            }
+            return list;
+        }
+    }
+}
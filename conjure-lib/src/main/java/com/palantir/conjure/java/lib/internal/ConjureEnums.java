@@ -18,6 +18,7 @@ package com.palantir.conjure.java.lib.internal;
 
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Locale;
 
 /** Internal utility functions for conjure enum types. */
 public final class ConjureEnums {
@@ -47,6 +48,77 @@ public final class ConjureEnums {
         }
     }
 
+    /**
+     * Returns true if {@code value} is all ASCII, in which case it can be matched against constants using
+     * {@link #equalsIgnoreCaseAscii(String, String)} without upper-casing a copy.
+     */
+    public static boolean isAscii(String value) {
+        int length = value.length();
+        for (int index = 0; index < length; index++) {
+            if (value.charAt(index) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the ASCII {@code value} upper-cased with {@link Locale#ROOT} equals {@code upperCaseConstant}.
+     * Unlike {@link String#toUpperCase(Locale)} this does not allocate. Non-ASCII characters may upper-case to ASCII,
+     * so callers must check {@link #isAscii(String)} once per value first.
+     */
+    public static boolean equalsIgnoreCaseAscii(String value, String upperCaseConstant) {
+        int length = value.length();
+        if (length != upperCaseConstant.length()) {
+            return false;
+        }
+        for (int index = 0; index < length; index++) {
+            char character = value.charAt(index);
+            if (character >= 'a' && character <= 'z') {
+                character = (char) (character - ('a' - 'A'));
+            }
+            if (character != upperCaseConstant.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the characters of a parser's current token are all ASCII, in which case they can be matched
+     * against constants using {@link #equalsIgnoreCaseAscii(char[], int, int, String)}.
+     */
+    public static boolean isAscii(char[] text, int offset, int length) {
+        for (int index = offset; index < offset + length; index++) {
+            if (text[index] > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the ASCII characters of a parser's current token upper-cased with {@link Locale#ROOT} equal
+     * {@code upperCaseConstant}, which allows enum tokens to be matched without materializing a {@link String}.
+     * Non-ASCII characters may upper-case to ASCII, so callers must check {@link #isAscii(char[], int, int)} once per
+     * token first.
+     */
+    public static boolean equalsIgnoreCaseAscii(char[] text, int offset, int length, String upperCaseConstant) {
+        if (length != upperCaseConstant.length()) {
+            return false;
+        }
+        for (int index = 0; index < length; index++) {
+            char character = text[offset + index];
+            if (character >= 'a' && character <= 'z') {
+                character = (char) (character - ('a' - 'A'));
+            }
+            if (character != upperCaseConstant.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean isAllowedCharacter(char character) {
         return (character >= 'A' && character <= 'Z') || (character >= '0' && character <= '9') || character == '_';
     }
@@ -0,0 +1,236 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidNullException;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A {@code List<Integer>} backed by a {@code int[]}, used by generated builders for {@code list<integer>} fields so
+ * that elements are not individually boxed. Jackson reads and writes the backing array directly.
+ */
+@JsonSerialize(using = ConjureIntegerList.JacksonSerializer.class)
+@JsonDeserialize(using = ConjureIntegerList.JacksonDeserializer.class)
+public final class ConjureIntegerList extends AbstractList<Integer> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int[] EMPTY = new int[0];
+
+    private final boolean modifiable;
+    private int[] elements;
+    private int size;
+
+    public ConjureIntegerList() {
+        this(EMPTY, 0, true);
+    }
+
+    private ConjureIntegerList(int[] elements, int size, boolean modifiable) {
+        this.elements = elements;
+        this.size = size;
+        this.modifiable = modifiable;
+    }
+
+    /**
+     * Returns an unmodifiable list with the contents of {@code list}. A {@link ConjureIntegerList} is copied with a
+     * single array copy, so builders may continue to be modified after their values have been built.
+     */
+    public static List<Integer> unmodifiable(List<Integer> list) {
+        if (list instanceof ConjureIntegerList) {
+            ConjureIntegerList integers = (ConjureIntegerList) list;
+            if (!integers.modifiable) {
+                return integers;
+            }
+            return new ConjureIntegerList(Arrays.copyOf(integers.elements, integers.size), integers.size, false);
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        checkModifiable();
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        elements[index] = Preconditions.checkNotNull(element, "list<integer> elements cannot be null");
+        return previous;
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        checkModifiable();
+        Objects.checkIndex(index, size + 1);
+        int value = Preconditions.checkNotNull(element, "list<integer> elements cannot be null");
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+        modCount++;
+    }
+
+    public void addInt(int element) {
+        checkModifiable();
+        ensureCapacity(size + 1);
+        elements[size++] = element;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Integer> collection) {
+        if (!(collection instanceof ConjureIntegerList)) {
+            return super.addAll(collection);
+        }
+        checkModifiable();
+        ConjureIntegerList other = (ConjureIntegerList) collection;
+        int otherSize = other.size;
+        ensureCapacity(size + otherSize);
+        System.arraycopy(other.elements, 0, elements, size, otherSize);
+        size += otherSize;
+        modCount++;
+        return otherSize != 0;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkModifiable();
+        Objects.checkIndex(index, size);
+        int previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        checkModifiable();
+        size = 0;
+        modCount++;
+    }
+
+    public int[] toIntArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof ConjureIntegerList)) {
+            return super.equals(other);
+        }
+        ConjureIntegerList that = (ConjureIntegerList) other;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != that.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + elements[i];
+        }
+        return hash;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            int grown = Math.max(DEFAULT_CAPACITY, elements.length + (elements.length >> 1));
+            elements = Arrays.copyOf(elements, Math.max(capacity, grown));
+        }
+    }
+
+    private void checkModifiable() {
+        if (!modifiable) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static final class JacksonSerializer extends StdSerializer<ConjureIntegerList> {
+        JacksonSerializer() {
+            super(ConjureIntegerList.class);
+        }
+
+        @Override
+        public void serialize(ConjureIntegerList value, JsonGenerator gen, SerializerProvider _provider)
+                throws IOException {
+            gen.writeArray(value.elements, 0, value.size);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider _provider, ConjureIntegerList value) {
+            return value.isEmpty();
+        }
+    }
+
+    static final class JacksonDeserializer extends StdDeserializer<ConjureIntegerList> {
+        JacksonDeserializer() {
+            super(ConjureIntegerList.class);
+        }
+
+        @Override
+        public ConjureIntegerList deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return (ConjureIntegerList) ctxt.handleUnexpectedToken(ConjureIntegerList.class, p);
+            }
+            ConjureIntegerList list = new ConjureIntegerList();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    throw InvalidNullException.from(ctxt, null, ctxt.constructType(Integer.class));
+                }
+                list.addInt(_parseIntPrimitive(p, ctxt));
+            }
+            return list;
+        }
+    }
+}
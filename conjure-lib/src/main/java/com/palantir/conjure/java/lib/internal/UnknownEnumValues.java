@@ -0,0 +1,65 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Interns the unknown values of a conjure enum type, so that repeatedly parsing the same unknown value does not
+ * allocate. Values longer than {@link #MAX_KEY_LENGTH} characters, and any values once {@link #MAX_SIZE} distinct
+ * values have been seen, are created on every call rather than retained, bounding the memory an untrusted client can
+ * pin.
+ */
+public final class UnknownEnumValues<T> {
+
+    static final int MAX_SIZE = 256;
+    static final int MAX_KEY_LENGTH = 64;
+
+    private final ConcurrentMap<String, T> values = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+
+    private UnknownEnumValues(Function<String, T> factory) {
+        this.factory = factory;
+    }
+
+    /** Creates a cache which builds unknown values from the raw, un-normalized string using {@code factory}. */
+    public static <T> UnknownEnumValues<T> create(Function<String, T> factory) {
+        return new UnknownEnumValues<>(factory);
+    }
+
+    /** Returns the value previously interned for {@code value}, or null if there is none. */
+    public T getIfPresent(String value) {
+        return values.get(value);
+    }
+
+    public T get(String value) {
+        T existing = values.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        T created = factory.apply(value);
+        if (value.length() <= MAX_KEY_LENGTH && values.size() < MAX_SIZE) {
+            T raced = values.putIfAbsent(value, created);
+            if (raced != null) {
+                return raced;
+            }
+        }
+        return created;
+    }
+}
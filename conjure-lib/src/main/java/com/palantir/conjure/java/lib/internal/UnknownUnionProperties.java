@@ -0,0 +1,132 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.palantir.logsafe.Preconditions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The properties of an unknown union variant, other than its {@code type}. Deserialized properties are held as the
+ * tokens they were read from: they are written back verbatim and only decoded into untyped values when inspected, so
+ * that forwarding an unknown variant does not pay to bind it.
+ */
+public final class UnknownUnionProperties {
+
+    private static final String TYPE_PROPERTY = "type";
+
+    // Null when created from values rather than read
+    private final TokenBuffer tokens;
+
+    // Null until buffered tokens are decoded
+    private volatile Map<String, Object> values;
+
+    private UnknownUnionProperties(TokenBuffer tokens, Map<String, Object> values) {
+        this.tokens = tokens;
+        this.values = values;
+    }
+
+    /** Returns properties holding the given values, as when an unknown variant is created directly. */
+    public static UnknownUnionProperties of(Map<String, Object> values) {
+        return new UnknownUnionProperties(null, Preconditions.checkNotNull(values, "values cannot be null"));
+    }
+
+    /**
+     * Buffers the remaining properties of the object the parser is within, leaving the parser on the object's
+     * {@link JsonToken#END_OBJECT}. The {@code type} property is skipped because the union holds it separately.
+     */
+    public static UnknownUnionProperties read(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        // Created from the codec alone, because a buffer holding the parser's context would retain its reused read
+        // context chain, including enclosing values, for as long as the union value is held
+        TokenBuffer tokens = new TokenBuffer(parser.getCodec(), false)
+                .forceUseOfBigDecimal(ctxt.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (TYPE_PROPERTY.equals(name)) {
+                parser.skipChildren();
+            } else {
+                tokens.writeFieldName(name);
+                tokens.copyCurrentStructure(parser);
+            }
+        }
+        return new UnknownUnionProperties(tokens, null);
+    }
+
+    /** Returns the properties as untyped values, decoding buffered properties on first use. */
+    public Map<String, Object> asMap() {
+        Map<String, Object> result = values;
+        if (result == null) {
+            // Racing threads decode equal maps, so the first to finish need not win
+            result = decode(Preconditions.checkNotNull(tokens, "tokens"));
+            values = result;
+        }
+        return result;
+    }
+
+    /** Writes the properties as fields of the object currently being generated. */
+    public void writeTo(JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (tokens != null) {
+            tokens.serialize(gen);
+            return;
+        }
+        for (Map.Entry<String, Object> entry : asMap().entrySet()) {
+            provider.defaultSerializeField(entry.getKey(), entry.getValue(), gen);
+        }
+    }
+
+    private static Map<String, Object> decode(TokenBuffer tokens) {
+        Map<String, Object> decoded = new LinkedHashMap<>();
+        try (JsonParser parser = tokens.asParser()) {
+            for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String name = parser.currentName();
+                parser.nextToken();
+                decoded.put(name, parser.readValueAs(Object.class));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode unknown union properties", e);
+        }
+        return Collections.unmodifiableMap(decoded);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other
+                || (other instanceof UnknownUnionProperties
+                        && asMap().equals(((UnknownUnionProperties) other).asMap()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+}
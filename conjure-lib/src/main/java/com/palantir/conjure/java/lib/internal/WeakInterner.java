@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Interns values parsed from strings, so that payloads which repeat the same value share a single instance. The cache
+ * is a fixed number of slots addressed by the string's hash: a value replaces whichever value occupied its slot
+ * rather than growing the cache. Slots hold only a weak reference to the value and compare against the key derived
+ * from it, so that interning never extends the lifetime of a value or of the string it was parsed from.
+ */
+public final class WeakInterner<T> {
+
+    static final int DEFAULT_SIZE = 4096;
+
+    private final AtomicReferenceArray<WeakReference<T>> slots;
+    private final int mask;
+    private final Function<String, T> factory;
+    private final Function<T, String> keyFunction;
+
+    private WeakInterner(int size, Function<String, T> factory, Function<T, String> keyFunction) {
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.factory = factory;
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Creates an interner of 4096 slots which builds values using {@code factory}. The {@code keyFunction} must return
+     * a string equal to the one each value was built from.
+     */
+    public static <T> WeakInterner<T> create(Function<String, T> factory, Function<T, String> keyFunction) {
+        return create(DEFAULT_SIZE, factory, keyFunction);
+    }
+
+    /**
+     * Creates an interner of {@code size} slots, rounded up to a power of two, which builds values using
+     * {@code factory}. The {@code keyFunction} must return a string equal to the one each value was built from.
+     */
+    public static <T> WeakInterner<T> create(int size, Function<String, T> factory, Function<T, String> keyFunction) {
+        Preconditions.checkArgument(
+                size > 0 && size <= 1 << 30, "size must be positive and at most 2^30", SafeArg.of("size", size));
+        int slots = size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        return new WeakInterner<>(
+                slots,
+                Preconditions.checkNotNull(factory, "factory is required"),
+                Preconditions.checkNotNull(keyFunction, "keyFunction is required"));
+    }
+
+    /** Returns a value equal to {@code factory.apply(key)}, reusing an earlier instance where one is cached. */
+    public T intern(String key) {
+        int hash = key.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        WeakReference<T> reference = slots.get(index);
+        if (reference != null) {
+            T existing = reference.get();
+            if (existing != null && keyFunction.apply(existing).equals(key)) {
+                return existing;
+            }
+        }
+        T created = factory.apply(key);
+        // Racing threads may each install an equal value, the last write wins and either is correct
+        slots.lazySet(index, new WeakReference<>(created));
+        return created;
+    }
+}
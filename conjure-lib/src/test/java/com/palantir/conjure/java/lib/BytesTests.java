@@ -21,6 +21,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -181,4 +182,97 @@ public final class BytesTests {
         ObjectMapper mapper = new ObjectMapper();
         assertThatThrownBy(() -> mapper.readValue("[]", Bytes.class)).isInstanceOf(JsonParseException.class);
     }
+
+    @Test
+    public void testSlice() {
+        Bytes bytes = Bytes.from(new byte[] {0, 1, 2, 3, 4});
+        Bytes slice = bytes.slice(1, 3);
+
+        assertThat(slice.size()).isEqualTo(3);
+        assertThat(slice.asNewByteArray()).isEqualTo(new byte[] {1, 2, 3});
+        Bytes expected = Bytes.from(new byte[] {1, 2, 3});
+        assertThat(slice).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(slice.slice(1, 1)).isEqualTo(Bytes.from(new byte[] {2}));
+        assertThat(bytes.slice(0, 5)).isSameAs(bytes);
+        assertThatThrownBy(() -> slice.slice(2, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testSliceViews() throws IOException {
+        Bytes slice = Bytes.unsafeWrap(new byte[] {0, 1, 2, 3, 4}, 1, 3);
+
+        ByteBuffer buffer = slice.asReadOnlyByteBuffer();
+        assertThat(buffer.position()).isZero();
+        assertThat(buffer.capacity()).isEqualTo(3);
+        assertThat(buffer.get(0)).isEqualTo((byte) 1);
+        assertThat(slice.getInputStream().readAllBytes()).isEqualTo(new byte[] {1, 2, 3});
+
+        byte[] copy = new byte[4];
+        slice.copyTo(copy, 1, 3);
+        assertThat(copy).isEqualTo(new byte[] {0, 1, 2, 3});
+        assertThatThrownBy(() -> slice.copyTo(copy, 0, 4)).isInstanceOf(ArrayIndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        Bytes slice = Bytes.unsafeWrap(new byte[] {0, 1, 2, 3, 4}, 1, 3);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        slice.writeTo(output);
+        assertThat(output.toByteArray()).isEqualTo(new byte[] {1, 2, 3});
+
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        slice.writeTo(buffer);
+        assertThat(buffer.position()).isEqualTo(3);
+        assertThat(buffer.array()).isEqualTo(new byte[] {1, 2, 3, 0});
+    }
+
+    @Test
+    public void testUnsafeWrapDoesNotCopy() {
+        byte[] input = new byte[] {0, 1};
+        Bytes wrapped = Bytes.unsafeWrap(input, 0, 2);
+        input[0] = 5;
+        assertThat(wrapped.asNewByteArray()).isEqualTo(new byte[] {5, 1});
+        assertThatThrownBy(() -> Bytes.unsafeWrap(input, 1, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    public void testUnsafeWrapByteBuffer() {
+        ByteBuffer heap = ByteBuffer.wrap(new byte[] {0, 1, 2, 3});
+        heap.position(1);
+        assertThat(Bytes.unsafeWrap(heap).asNewByteArray()).isEqualTo(new byte[] {1, 2, 3});
+        assertThat(Bytes.unsafeWrap(heap.slice()).asNewByteArray()).isEqualTo(new byte[] {1, 2, 3});
+        assertThat(heap.position()).isEqualTo(1);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(2).put(new byte[] {7, 8});
+        direct.flip();
+        assertThat(Bytes.unsafeWrap(direct)).isEqualTo(Bytes.from(new byte[] {7, 8}));
+    }
+
+    @Test
+    public void testSerializeSlice() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] input = "_test_".getBytes(StandardCharsets.UTF_8);
+        assertThat(mapper.writeValueAsString(Bytes.unsafeWrap(input, 1, 4))).isEqualTo("\"dGVzdA==\"");
+    }
+
+    @Test
+    public void testDeserializeLargeValue() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        String serialized = mapper.writeValueAsString(Bytes.from(content));
+
+        assertThat(mapper.readValue(serialized, Bytes.class).asNewByteArray()).isEqualTo(content);
+        assertThat(mapper.readValue(serialized.getBytes(StandardCharsets.UTF_8), Bytes.class).asNewByteArray())
+                .isEqualTo(content);
+    }
+
+    @Test
+    public void testDeserializeEmptyValue() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        assertThat(mapper.readValue("\"\"", Bytes.class).size()).isZero();
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class ConjureCollectionsTests {
+
+    @Test
+    public void testImmutableList() {
+        List<String> source = new ArrayList<>(Arrays.asList("a", null, "c"));
+        List<String> list = ConjureCollections.immutableList(source);
+        source.clear();
+        assertThat(list).containsExactly("a", null, "c").isEqualTo(Arrays.asList("a", null, "c"));
+        assertThat(list).hasSameHashCodeAs(Arrays.asList("a", null, "c"));
+        assertThat(ConjureCollections.immutableList(list)).isSameAs(list);
+        assertThatThrownBy(() -> list.add("d")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> list.set(0, "d")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testImmutableListSmall() {
+        assertThat(ConjureCollections.immutableList(new ArrayList<>())).isSameAs(Collections.emptyList());
+        assertThat(ConjureCollections.immutableList(new ArrayList<>(List.of("a"))))
+                .isEqualTo(Collections.singletonList("a"));
+    }
+
+    @Test
+    public void testImmutableSet() {
+        Set<Integer> source = new LinkedHashSet<>();
+        for (int i = 100; i > 0; i--) {
+            source.add(i);
+        }
+        source.add(null);
+        Set<Integer> set = ConjureCollections.immutableSet(source);
+        assertThat(set).containsExactlyElementsOf(source).isEqualTo(source).hasSameHashCodeAs(source);
+        for (int i = 0; i <= 101; i++) {
+            assertThat(set.contains(i)).isEqualTo(source.contains(i));
+        }
+        assertThat(set).contains((Integer) null).doesNotContain(-1);
+        assertThat(ConjureCollections.immutableSet(set)).isSameAs(set);
+        assertThatThrownBy(() -> set.add(1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> set.remove(1)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testImmutableSetSmall() {
+        assertThat(ConjureCollections.immutableSet(new LinkedHashSet<>())).isSameAs(Collections.emptySet());
+        assertThat(ConjureCollections.immutableSet(new LinkedHashSet<>(Set.of("a"))))
+                .isEqualTo(Collections.singleton("a"));
+    }
+
+    @Test
+    public void testImmutableMap() {
+        Map<String, Integer> source = new LinkedHashMap<>();
+        for (int i = 100; i > 0; i--) {
+            source.put(Integer.toString(i), i);
+        }
+        source.put("null", null);
+        Map<String, Integer> map = ConjureCollections.immutableMap(source);
+        assertThat(map).containsExactlyEntriesOf(source).isEqualTo(source).hasSameHashCodeAs(source);
+        assertThat(map.get("50")).isEqualTo(50);
+        assertThat(map.get("missing")).isNull();
+        assertThat(map).containsKey("null").doesNotContainKey("missing");
+        assertThat(ConjureCollections.immutableMap(map)).isSameAs(map);
+        assertThatThrownBy(() -> map.put("a", 1)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> map.remove("50")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(map::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testImmutableMapSmall() {
+        assertThat(ConjureCollections.immutableMap(new LinkedHashMap<>())).isSameAs(Collections.emptyMap());
+        assertThat(ConjureCollections.immutableMap(new LinkedHashMap<>(Map.of("a", 1))))
+                .isEqualTo(Collections.singletonMap("a", 1));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidNullException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class ConjureDoubleListTests {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testBehavesLikeList() {
+        ConjureDoubleList list = new ConjureDoubleList();
+        for (int i = 0; i < 25; i++) {
+            list.addDouble(i);
+        }
+        list.add(0, -1.0);
+        list.remove(1);
+        list.set(1, 1.5);
+        List<Double> expected = new ArrayList<>(list);
+        assertThat(list).hasSize(25).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(list.getDouble(0)).isEqualTo(-1.0);
+        assertThat(list.toDoubleArray()).hasSize(25).startsWith(-1.0, 1.5, 2.0);
+    }
+
+    @Test
+    public void testAddAll() {
+        ConjureDoubleList list = new ConjureDoubleList();
+        list.addDouble(1);
+        ConjureDoubleList other = new ConjureDoubleList();
+        other.addAll(Arrays.asList(2.0, 3.0));
+        other.addAll(list);
+        assertThat(other).containsExactly(2.0, 3.0, 1.0);
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        ConjureDoubleList list = new ConjureDoubleList();
+        list.addDouble(1);
+        List<Double> unmodifiable = ConjureDoubleList.unmodifiable(list);
+        list.clear();
+        list.addDouble(2);
+        assertThat(unmodifiable).containsExactly(1.0);
+        assertThat(ConjureDoubleList.unmodifiable(unmodifiable)).isSameAs(unmodifiable);
+        assertThatThrownBy(() -> unmodifiable.add(3.0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(unmodifiable::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testNullElementsRejected() {
+        ConjureDoubleList list = new ConjureDoubleList();
+        assertThatThrownBy(() -> list.add(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void testSerde() throws IOException {
+        ConjureDoubleList list = MAPPER.readValue("[1, 2.5, \"NaN\"]", ConjureDoubleList.class);
+        assertThat(list).containsExactly(1.0, 2.5, Double.NaN);
+        assertThat(MAPPER.writeValueAsString(list)).isEqualTo("[1.0,2.5,\"NaN\"]");
+        assertThat(MAPPER.readValue("[]", ConjureDoubleList.class)).isEmpty();
+    }
+
+    @Test
+    public void testDeserializeNullElement() {
+        assertThatThrownBy(() -> MAPPER.readValue("[1, null]", ConjureDoubleList.class))
+                .isInstanceOf(InvalidNullException.class);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class ConjureEnumsTests {
+
+    @Test
+    public void testEqualsIgnoreCase() {
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii("ONE_HUNDRED", "ONE_HUNDRED")).isTrue();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii("one_hundred", "ONE_HUNDRED")).isTrue();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii("One_Hundred", "ONE_HUNDRED")).isTrue();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii("one", "ONE_HUNDRED")).isFalse();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii("one_hundred_", "ONE_HUNDRED")).isFalse();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii("", "ONE")).isFalse();
+    }
+
+    @Test
+    public void testIsAsciiRejectsValuesWhichUpperCaseToAscii() {
+        // These upper-case to ASCII, so must be upper-cased rather than matched character by character
+        for (String value : new String[] {"\u0131", "\u017F", "\uFB00", "stra\u00DFe"}) {
+            assertThat(ConjureEnums.isAscii(value)).as(value).isFalse();
+        }
+        assertThat(ConjureEnums.isAscii("One_Hundred")).isTrue();
+        assertThat(ConjureEnums.isAscii("")).isTrue();
+    }
+
+    @Test
+    public void testIsAscii() {
+        char[] text = "[one_hundred, \u0131]".toCharArray();
+        assertThat(ConjureEnums.isAscii(text, 1, 11)).isTrue();
+        assertThat(ConjureEnums.isAscii(text, 14, 1)).isFalse();
+        assertThat(ConjureEnums.isAscii(text, 1, 0)).isTrue();
+    }
+
+    @Test
+    public void testEqualsIgnoreCaseAscii() {
+        char[] text = "[one_hundred, One]".toCharArray();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii(text, 1, 11, "ONE_HUNDRED")).isTrue();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii(text, 1, 3, "ONE")).isTrue();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii(text, 14, 3, "ONE")).isTrue();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii(text, 1, 3, "ONE_HUNDRED")).isFalse();
+        assertThat(ConjureEnums.equalsIgnoreCaseAscii(text, 1, 0, "ONE")).isFalse();
+    }
+}
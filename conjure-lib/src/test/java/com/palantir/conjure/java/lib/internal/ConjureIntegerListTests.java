@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidNullException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class ConjureIntegerListTests {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    public void testBehavesLikeList() {
+        ConjureIntegerList list = new ConjureIntegerList();
+        for (int i = 0; i < 25; i++) {
+            list.addInt(i);
+        }
+        list.add(0, -1);
+        list.remove(1);
+        list.set(1, 7);
+        List<Integer> expected = new ArrayList<>(list);
+        assertThat(list).hasSize(25).isEqualTo(expected).hasSameHashCodeAs(expected);
+        assertThat(list.getInt(0)).isEqualTo(-1);
+        assertThat(list.toIntArray()).hasSize(25).startsWith(-1, 7, 2);
+    }
+
+    @Test
+    public void testAddAll() {
+        ConjureIntegerList list = new ConjureIntegerList();
+        list.addInt(1);
+        ConjureIntegerList other = new ConjureIntegerList();
+        other.addAll(Arrays.asList(2, 3));
+        other.addAll(list);
+        assertThat(other).containsExactly(2, 3, 1);
+    }
+
+    @Test
+    public void testUnmodifiable() {
+        ConjureIntegerList list = new ConjureIntegerList();
+        list.addInt(1);
+        List<Integer> unmodifiable = ConjureIntegerList.unmodifiable(list);
+        list.clear();
+        list.addInt(2);
+        assertThat(unmodifiable).containsExactly(1);
+        assertThat(ConjureIntegerList.unmodifiable(unmodifiable)).isSameAs(unmodifiable);
+        assertThatThrownBy(() -> unmodifiable.add(3)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(unmodifiable::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testNullElementsRejected() {
+        ConjureIntegerList list = new ConjureIntegerList();
+        assertThatThrownBy(() -> list.add(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void testSerde() throws IOException {
+        ConjureIntegerList list = MAPPER.readValue("[1, 2, -3]", ConjureIntegerList.class);
+        assertThat(list).containsExactly(1, 2, -3);
+        assertThat(MAPPER.writeValueAsString(list)).isEqualTo("[1,2,-3]");
+        assertThat(MAPPER.readValue("[]", ConjureIntegerList.class)).isEmpty();
+    }
+
+    @Test
+    public void testDeserializeNullElement() {
+        assertThatThrownBy(() -> MAPPER.readValue("[1, null]", ConjureIntegerList.class))
+                .isInstanceOf(InvalidNullException.class);
+    }
+}
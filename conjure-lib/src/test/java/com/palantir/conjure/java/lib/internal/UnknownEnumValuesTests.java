@@ -0,0 +1,63 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class UnknownEnumValuesTests {
+
+    @Test
+    public void testInternsValues() {
+        UnknownEnumValues<StringBuilder> values = UnknownEnumValues.create(StringBuilder::new);
+        StringBuilder first = values.get("value");
+        assertThat(values.get("value")).isSameAs(first);
+        assertThat(values.get("other")).isNotSameAs(first);
+    }
+
+    @Test
+    public void testGetIfPresentDoesNotCreateValues() {
+        UnknownEnumValues<StringBuilder> values = UnknownEnumValues.create(StringBuilder::new);
+        assertThat(values.getIfPresent("value")).isNull();
+        StringBuilder first = values.get("value");
+        assertThat(values.getIfPresent("value")).isSameAs(first);
+    }
+
+    @Test
+    public void testStopsRetainingValuesOnceFull() {
+        UnknownEnumValues<StringBuilder> values = UnknownEnumValues.create(StringBuilder::new);
+        for (int i = 0; i < UnknownEnumValues.MAX_SIZE; i++) {
+            values.get(Integer.toString(i));
+        }
+        assertThat(values.get("0")).isSameAs(values.get("0"));
+        assertThat(values.get("overflow")).isNotSameAs(values.get("overflow")).hasToString("overflow");
+    }
+
+    @Test
+    public void testDoesNotRetainLongValues() {
+        UnknownEnumValues<StringBuilder> values = UnknownEnumValues.create(StringBuilder::new);
+        String longest = "a".repeat(UnknownEnumValues.MAX_KEY_LENGTH);
+        assertThat(values.get(longest)).isSameAs(values.get(longest));
+        String tooLong = longest + "a";
+        assertThat(values.get(tooLong)).isNotSameAs(values.get(tooLong)).hasToString(tooLong);
+        assertThat(values.getIfPresent(tooLong)).isNull();
+    }
+}
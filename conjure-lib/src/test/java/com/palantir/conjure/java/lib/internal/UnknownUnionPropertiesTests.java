@@ -0,0 +1,110 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class UnknownUnionPropertiesTests {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new SimpleModule()
+                    .addDeserializer(UnknownUnionProperties.class, new Deserializer())
+                    .addSerializer(UnknownUnionProperties.class, new Serializer()));
+
+    @Test
+    public void testReemitsBufferedPropertiesVerbatim() throws IOException {
+        String json = "{\"other\":{\"b\":1.5,\"a\":[true,null]},\"extra\":\"value\"}";
+        UnknownUnionProperties properties = MAPPER.readValue(
+                "{\"type\":\"other\",\"other\":{\"b\":1.5,\"a\":[true,null]},\"extra\":\"value\"}",
+                UnknownUnionProperties.class);
+        assertThat(MAPPER.writeValueAsString(properties)).isEqualTo(json);
+    }
+
+    @Test
+    public void testDecodesBufferedPropertiesLazily() throws IOException {
+        UnknownUnionProperties properties =
+                MAPPER.readValue("{\"other\":{\"a\":[1,null]},\"type\":\"other\"}", UnknownUnionProperties.class);
+        Map<String, Object> expected = Collections.singletonMap("a", Arrays.asList(1, null));
+        assertThat(properties.asMap()).containsOnlyKeys("other").containsEntry("other", expected);
+        assertThat(properties.asMap()).isSameAs(properties.asMap());
+        assertThat(properties).isEqualTo(UnknownUnionProperties.of(Collections.singletonMap("other", expected)));
+    }
+
+    @Test
+    public void testBuffersFloatsAsBigDecimalsWhenEnabled() throws IOException {
+        ObjectMapper mapper = MAPPER.copy().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        UnknownUnionProperties properties =
+                mapper.readValue("{\"other\":0.10000000000000000001}", UnknownUnionProperties.class);
+        assertThat(properties.asMap()).containsEntry("other", new BigDecimal("0.10000000000000000001"));
+        assertThat(mapper.writeValueAsString(properties)).isEqualTo("{\"other\":0.10000000000000000001}");
+    }
+
+    @Test
+    public void testWritesValues() throws IOException {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("other", Collections.singletonList("a"));
+        values.put("extra", 1);
+        assertThat(MAPPER.writeValueAsString(UnknownUnionProperties.of(values)))
+                .isEqualTo("{\"other\":[\"a\"],\"extra\":1}");
+    }
+
+    private static final class Deserializer extends StdDeserializer<UnknownUnionProperties> {
+        Deserializer() {
+            super(UnknownUnionProperties.class);
+        }
+
+        @Override
+        public UnknownUnionProperties deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+            parser.nextToken();
+            return UnknownUnionProperties.read(parser, ctxt);
+        }
+    }
+
+    private static final class Serializer extends StdSerializer<UnknownUnionProperties> {
+        Serializer() {
+            super(UnknownUnionProperties.class);
+        }
+
+        @Override
+        public void serialize(UnknownUnionProperties value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            value.writeTo(gen, provider);
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.lib.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public final class WeakInternerTests {
+
+    @Test
+    public void testInternsValues() {
+        WeakInterner<StringBuilder> interner = WeakInterner.create(16, StringBuilder::new, StringBuilder::toString);
+        StringBuilder first = interner.intern("value");
+        assertThat(interner.intern(new String("value"))).isSameAs(first);
+        assertThat(interner.intern("other")).isNotSameAs(first).hasToString("other");
+    }
+
+    @Test
+    public void testCollidingValuesReplaceEachOther() {
+        // A single slot holds at most one value
+        WeakInterner<StringBuilder> interner = WeakInterner.create(1, StringBuilder::new, StringBuilder::toString);
+        StringBuilder first = interner.intern("first");
+        StringBuilder second = interner.intern("second");
+        assertThat(interner.intern("second")).isSameAs(second);
+        assertThat(interner.intern("first")).isNotSameAs(first).hasToString("first");
+    }
+
+    @Test
+    public void testDoesNotCacheFailures() {
+        WeakInterner<Integer> interner = WeakInterner.create(16, Integer::valueOf, Object::toString);
+        assertThatThrownBy(() -> interner.intern("nan")).isInstanceOf(NumberFormatException.class);
+        assertThat(interner.intern("1")).isEqualTo(1);
+    }
+
+    @Test
+    public void testReleasesKeysOfCollectedValues() throws InterruptedException {
+        WeakInterner<AtomicReference<String>> interner =
+                WeakInterner.create(16, AtomicReference::new, AtomicReference::get);
+        WeakReference<String> key = internUnreferencedValue(interner);
+        for (int attempt = 0; attempt < 100 && key.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(key.get()).isNull();
+    }
+
+    @Test
+    public void testRejectsInvalidSizes() {
+        assertThatThrownBy(() -> WeakInterner.create(0, StringBuilder::new, StringBuilder::toString))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static WeakReference<String> internUnreferencedValue(WeakInterner<AtomicReference<String>> interner) {
+        String key = new String("value");
+        interner.intern(key);
+        return new WeakReference<>(key);
+    }
+}
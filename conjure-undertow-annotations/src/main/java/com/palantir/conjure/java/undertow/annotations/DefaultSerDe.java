@@ -16,6 +16,7 @@
 
 package com.palantir.conjure.java.undertow.annotations;
 
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BodySerDe;
 import com.palantir.conjure.java.undertow.lib.Deserializer;
@@ -33,6 +34,7 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.util.Optional;
+import java.util.stream.BaseStream;
 import javax.annotation.Nullable;
 
 /** Default serializer and deserializer factory which produces behavior equivalent to conjure. */
@@ -47,7 +49,12 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
         if (INPUT_STREAM.getType().equals(marker.getType())) {
             return (Deserializer<T>) new BinaryDeserializer(runtime.bodySerDe());
         }
-        return runtime.bodySerDe().deserializer(marker, endpoint);
+        Deserializer<T> delegateDeserializer = runtime.bodySerDe().deserializer(marker, endpoint);
+        if (isStream(marker.getType())) {
+            return (Deserializer<T>)
+                    new StreamClosingDeserializer<>((Deserializer<BaseStream<?, ?>>) delegateDeserializer);
+        }
+        return delegateDeserializer;
     }
 
     @Override
@@ -59,6 +66,9 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
             return maybeSpecialSerializer;
         }
         Serializer<T> delegateSerializer = runtime.bodySerDe().serializer(marker, endpoint);
+        if (isStream(type)) {
+            return (Serializer<T>) new StreamClosingSerializer<>((Serializer<BaseStream<?, ?>>) delegateSerializer);
+        }
         return isOptional(marker)
                 ? (Serializer<T>) new OptionalDelegatingSerializer<>((Serializer<Optional<Object>>) delegateSerializer)
                 : delegateSerializer;
@@ -70,6 +80,9 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
         }
         Class<?> clazz = asClass(type);
         if (clazz != null) {
+            if (AsyncBinaryResponseBody.class.isAssignableFrom(clazz)) {
+                return new AsyncBinaryResponseBodySerializer(runtime.bodySerDe());
+            }
             if (BinaryResponseBody.class.isAssignableFrom(clazz)) {
                 return new BinaryResponseBodySerializer(runtime.bodySerDe());
             }
@@ -107,6 +120,11 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
         return null;
     }
 
+    private static boolean isStream(Type type) {
+        Class<?> clazz = asClass(type);
+        return clazz != null && BaseStream.class.isAssignableFrom(clazz);
+    }
+
     private static boolean isOptional(TypeMarker<?> marker) {
         return unwrapOptional(marker.getType()) != null;
     }
@@ -149,6 +167,31 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
         }
     }
 
+    /**
+     * Deserializes request bodies as streams which read the request as they are consumed, closing them once the
+     * exchange completes so the request parser is released even when the endpoint leaves the stream unconsumed.
+     */
+    private static final class StreamClosingDeserializer<T extends BaseStream<?, ?>> implements Deserializer<T> {
+        private final Deserializer<T> delegate;
+
+        StreamClosingDeserializer(Deserializer<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T deserialize(HttpServerExchange exchange) throws IOException {
+            T value = delegate.deserialize(exchange);
+            exchange.addExchangeCompleteListener((_exchange, nextListener) -> {
+                try {
+                    value.close();
+                } finally {
+                    nextListener.proceed();
+                }
+            });
+            return value;
+        }
+    }
+
     private static final class BinaryResponseBodySerializer implements Serializer<BinaryResponseBody> {
         private final BodySerDe bodySerDe;
 
@@ -162,6 +205,19 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
         }
     }
 
+    private static final class AsyncBinaryResponseBodySerializer implements Serializer<AsyncBinaryResponseBody> {
+        private final BodySerDe bodySerDe;
+
+        AsyncBinaryResponseBodySerializer(BodySerDe bodySerDe) {
+            this.bodySerDe = bodySerDe;
+        }
+
+        @Override
+        public void serialize(AsyncBinaryResponseBody value, HttpServerExchange exchange) throws IOException {
+            bodySerDe.serializeAsync(value, exchange);
+        }
+    }
+
     private static final class InputStreamBodySerializer implements Serializer<InputStream> {
         private final BodySerDe bodySerDe;
 
@@ -181,6 +237,22 @@ public enum DefaultSerDe implements SerializerFactory<Object>, DeserializerFacto
         }
     }
 
+    /** Serializes streams as they are consumed, closing them once the response has been written. */
+    private static final class StreamClosingSerializer<T extends BaseStream<?, ?>> implements Serializer<T> {
+        private final Serializer<T> delegate;
+
+        StreamClosingSerializer(Serializer<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void serialize(T value, HttpServerExchange exchange) throws IOException {
+            try (value) {
+                delegate.serialize(value, exchange);
+            }
+        }
+    }
+
     private static final class OptionalDelegatingSerializer<T> implements Serializer<Optional<T>> {
         private final Serializer<Optional<T>> delegate;
 
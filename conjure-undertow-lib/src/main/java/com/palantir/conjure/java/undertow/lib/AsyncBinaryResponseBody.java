@@ -0,0 +1,52 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.lib;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * Binary response data with Content-Type <code>application/octet-stream</code> which is produced as a sequence of
+ * {@link ByteBuffer} chunks rather than written to a blocking stream. The runtime writes each chunk without blocking a
+ * thread and requests the next chunk only once the previous one has been written, so slow clients apply backpressure
+ * to the producer without holding a thread for the duration of the response.
+ */
+public interface AsyncBinaryResponseBody extends Closeable {
+
+    /**
+     * Invoked to request the next chunk of the response, returning a future which completes with the chunk, or with
+     * {@link Optional#empty()} once the response is complete. Not invoked again until the previously returned chunk
+     * has been written, and chunks are not referenced once written, so implementations may reuse buffers across
+     * calls.
+     *
+     * <p>This method may be invoked on a server IO thread, so it must not block. Producers which need to wait for data
+     * should return a future which is completed once it is available.
+     *
+     * <p>A failed future, or an exception thrown by this method, fails the response. If no data has been sent a
+     * {@code 500} status is sent, otherwise the connection is closed resulting in an I/O failure on the client.
+     */
+    ListenableFuture<Optional<ByteBuffer>> nextChunk();
+
+    /**
+     * Invoked exactly once when the response has completed, successfully or otherwise, allowing resources to be
+     * released. Futures returned by {@link #nextChunk()} which are still pending at this point are cancelled.
+     */
+    @Override
+    default void close() {}
+}
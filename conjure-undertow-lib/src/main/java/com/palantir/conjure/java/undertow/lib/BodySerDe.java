@@ -16,9 +16,14 @@
 
 package com.palantir.conjure.java.undertow.lib;
 
+import com.google.common.util.concurrent.Futures;
 import io.undertow.server.HttpServerExchange;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
 
 /** Request and response Deserialization and Serialization functionality used by generated code. */
 public interface BodySerDe {
@@ -46,6 +51,33 @@ public interface BodySerDe {
      */
     void serialize(BinaryResponseBody value, HttpServerExchange exchange) throws IOException;
 
+    /**
+     * Serializes an {@link AsyncBinaryResponseBody} to
+     *
+     * <pre>application/octet-stream</pre>
+     *
+     * , writing each chunk as the connection accepts it without blocking the calling thread.
+     *
+     * <p>The default implementation waits for each chunk in turn and writes it using
+     * {@link #serialize(BinaryResponseBody, HttpServerExchange)}.
+     */
+    default void serializeAsync(AsyncBinaryResponseBody value, HttpServerExchange exchange) throws IOException {
+        serialize(
+                responseBody -> {
+                    try (value) {
+                        WritableByteChannel channel = Channels.newChannel(responseBody);
+                        Optional<ByteBuffer> chunk;
+                        while ((chunk = Futures.getUnchecked(value.nextChunk())).isPresent()) {
+                            ByteBuffer buffer = chunk.get();
+                            while (buffer.hasRemaining()) {
+                                channel.write(buffer);
+                            }
+                        }
+                    }
+                },
+                exchange);
+    }
+
     /**
      * Reads an {@link InputStream} from the {@link HttpServerExchange} request body.
      *
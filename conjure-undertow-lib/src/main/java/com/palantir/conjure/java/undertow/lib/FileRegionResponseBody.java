@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.lib;
+
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.UnsafeArg;
+import com.palantir.logsafe.exceptions.SafeIoException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link BinaryResponseBody} which sends a region of a file. The conjure undertow runtime recognises this type and
+ * transfers the file directly to the connection, allowing the operating system to send it without copying through
+ * the heap, sets an exact Content-Length, and serves single-range {@code Range} requests for GET endpoints.
+ *
+ * <p>Other runtimes fall back to {@link #write(OutputStream)}, which copies the region to the response stream.
+ */
+public final class FileRegionResponseBody implements BinaryResponseBody {
+
+    private final Path file;
+    private final long position;
+    private final long count;
+
+    private FileRegionResponseBody(Path file, long position, long count) {
+        this.file = file;
+        this.position = position;
+        this.count = count;
+    }
+
+    /** Creates a response body which sends the entire {@code file}, the size of which is read immediately. */
+    public static FileRegionResponseBody of(Path file) throws IOException {
+        Preconditions.checkNotNull(file, "file is required");
+        return new FileRegionResponseBody(file, 0, Files.size(file));
+    }
+
+    /** Creates a response body which sends {@code count} bytes of {@code file} starting at {@code position}. */
+    public static FileRegionResponseBody of(Path file, long position, long count) {
+        Preconditions.checkNotNull(file, "file is required");
+        Preconditions.checkArgument(
+                position >= 0 && count >= 0,
+                "position and count must not be negative",
+                UnsafeArg.of("file", file),
+                SafeArg.of("position", position),
+                SafeArg.of("count", count));
+        return new FileRegionResponseBody(file, position, count);
+    }
+
+    /** The file from which the response is read. */
+    public Path file() {
+        return file;
+    }
+
+    /** The offset in {@link #file()} at which the response begins. */
+    public long position() {
+        return position;
+    }
+
+    /** The number of bytes of {@link #file()} which make up the response. */
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void write(OutputStream responseBody) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(responseBody);
+            long written = 0;
+            while (written < count) {
+                long transferred = channel.transferTo(position + written, count - written, target);
+                if (transferred <= 0) {
+                    throw new SafeIoException(
+                            "File ended before the response region",
+                            UnsafeArg.of("file", file),
+                            SafeArg.of("position", position),
+                            SafeArg.of("count", count));
+                }
+                written += transferred;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FileRegionResponseBody{file: " + file + ", position: " + position + ", count: " + count + '}';
+    }
+}
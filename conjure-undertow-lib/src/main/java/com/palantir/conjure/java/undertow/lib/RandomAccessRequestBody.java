@@ -0,0 +1,49 @@
+/*
+ * (c) Copyright 2022 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.conjure.java.undertow.lib;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A binary request body which supports random access. Runtimes may return {@link InputStream} instances implementing
+ * this interface from {@link BodySerDe#deserializeInputStream}, for example when large bodies are spooled to a file,
+ * so endpoints may check for it to {@link #seek seek} within the body or {@link #map map} ranges of it directly rather
+ * than reading it sequentially. Bytes are read through the stream from the current {@link #position()}.
+ *
+ * <p>Buffers returned by {@link #map} must not be used after the body has been closed, which happens at the latest
+ * when the exchange completes. Instances are not thread-safe.
+ */
+public interface RandomAccessRequestBody extends Closeable {
+
+    /** Returns the total size of the request body in bytes. */
+    long size();
+
+    /** Returns the offset in the request body from which the next byte will be read. */
+    long position();
+
+    /** Sets the offset in the request body from which the next byte will be read. */
+    void seek(long newPosition) throws IOException;
+
+    /**
+     * Returns a read-only buffer of {@code length} bytes of the request body starting at {@code offset}. The position
+     * of the stream is not affected.
+     */
+    ByteBuffer map(long offset, int length) throws IOException;
+}
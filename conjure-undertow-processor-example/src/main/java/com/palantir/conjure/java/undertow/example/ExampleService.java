@@ -23,6 +23,7 @@ import com.palantir.conjure.java.undertow.annotations.Handle;
 import com.palantir.conjure.java.undertow.annotations.Handle.Cookie;
 import com.palantir.conjure.java.undertow.annotations.HttpMethod;
 import com.palantir.conjure.java.undertow.annotations.ParamDecoder;
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.RequestContext;
 import com.palantir.logsafe.Preconditions;
@@ -34,6 +35,7 @@ import java.io.Closeable;
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ExampleService {
 
@@ -52,12 +54,18 @@ public interface ExampleService {
     @Handle(method = HttpMethod.GET, path = "/returnPrimitive")
     int returnPrimitive();
 
+    @Handle(method = HttpMethod.GET, path = "/stream")
+    Stream<String> stream();
+
     @Handle(method = HttpMethod.GET, path = "/binary")
     BinaryResponseBody binary();
 
     @Handle(method = HttpMethod.GET, path = "/namedBinary")
     CustomBinaryResponseBody namedBinary();
 
+    @Handle(method = HttpMethod.GET, path = "/asyncBinary")
+    AsyncBinaryResponseBody asyncBinary();
+
     @Handle(method = HttpMethod.GET, path = "/optionalBinary")
     Optional<BinaryResponseBody> optionalBinary();
 
@@ -70,6 +78,12 @@ public interface ExampleService {
     @Handle(method = HttpMethod.POST, path = "/post")
     String post(@Handle.Body String body);
 
+    @Handle(method = HttpMethod.POST, path = "/ingest")
+    long ingest(@Handle.Body Stream<String> records);
+
+    @Handle(method = HttpMethod.POST, path = "/firstRecord")
+    String firstRecord(@Handle.Body Stream<String> records);
+
     @Handle(method = HttpMethod.GET, path = "/queryParam")
     String queryParam(
             @Handle.QueryParam(value = "q", decoder = StringCollectionParameterDecoder.class) String queryParameter);
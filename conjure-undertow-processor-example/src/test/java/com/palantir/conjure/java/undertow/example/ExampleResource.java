@@ -18,6 +18,7 @@ package com.palantir.conjure.java.undertow.example;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.palantir.conjure.java.undertow.lib.AsyncBinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.BinaryResponseBody;
 import com.palantir.conjure.java.undertow.lib.RequestContext;
 import com.palantir.logsafe.Preconditions;
@@ -28,10 +29,18 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 final class ExampleResource implements ExampleService {
+    private final CountDownLatch firstRecordStreamClosed = new CountDownLatch(1);
+
     @Override
     public void simple() {}
 
@@ -55,6 +64,11 @@ final class ExampleResource implements ExampleService {
         return 1;
     }
 
+    @Override
+    public Stream<String> stream() {
+        return Stream.of("a", "b", "c");
+    }
+
     @Override
     public BinaryResponseBody binary() {
         return Binary.INSTANCE;
@@ -65,6 +79,15 @@ final class ExampleResource implements ExampleService {
         return Binary.INSTANCE;
     }
 
+    @Override
+    public AsyncBinaryResponseBody asyncBinary() {
+        Iterator<String> chunks = List.of("bin", "ary").iterator();
+        return () -> Futures.immediateFuture(
+                chunks.hasNext()
+                        ? Optional.of(ByteBuffer.wrap(chunks.next().getBytes(StandardCharsets.UTF_8)))
+                        : Optional.empty());
+    }
+
     @Override
     public Optional<BinaryResponseBody> optionalBinary() {
         return Optional.of(binary());
@@ -85,6 +108,21 @@ final class ExampleResource implements ExampleService {
         return Preconditions.checkNotNull(body, "Body is required");
     }
 
+    @Override
+    public long ingest(Stream<String> records) {
+        return records.filter(record -> !record.isEmpty()).count();
+    }
+
+    @Override
+    public String firstRecord(Stream<String> records) {
+        // Leaves the remaining records unconsumed, relying on the framework to close the stream
+        return records.onClose(firstRecordStreamClosed::countDown).findFirst().orElse("");
+    }
+
+    boolean awaitFirstRecordStreamClosed() throws InterruptedException {
+        return firstRecordStreamClosed.await(10, TimeUnit.SECONDS);
+    }
+
     @Override
     public String queryParam(String queryParameter) {
         return Preconditions.checkNotNull(queryParameter, "Query parameter is required");
@@ -107,6 +107,21 @@ class ExampleServiceTest {
         }
     }
 
+    @Test
+    void testStream() throws IOException {
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/stream").openConnection();
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(connection.getContentType()).startsWith("application/json");
+            assertThat(connection.getInputStream()).hasContent("[\"a\",\"b\",\"c\"]");
+        } finally {
+            server.stop();
+        }
+    }
+
     @Test
     void testBinary() throws IOException {
         Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
@@ -122,6 +137,21 @@ class ExampleServiceTest {
         }
     }
 
+    @Test
+    void testAsyncBinary() throws IOException {
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/asyncBinary").openConnection();
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(connection.getContentType()).startsWith("application/octet-stream");
+            assertThat(connection.getInputStream()).hasBinaryContent("binary".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            server.stop();
+        }
+    }
+
     @Test
     void testNamedBinary() throws IOException {
         Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
@@ -201,6 +231,96 @@ class ExampleServiceTest {
         }
     }
 
+    @Test
+    void testIngestStream() throws IOException {
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/ingest").openConnection();
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.getOutputStream().write("[\"a\",\"\",\"c\"]".getBytes(StandardCharsets.UTF_8));
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(connection.getInputStream()).hasContent("2");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void testUnconsumedStreamIsClosed() throws IOException, InterruptedException {
+        ExampleResource resource = new ExampleResource();
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(resource));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/firstRecord").openConnection();
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.getOutputStream().write("[\"a\",\"b\",\"c\"]".getBytes(StandardCharsets.UTF_8));
+            assertThat(connection.getResponseCode()).isEqualTo(200);
+            assertThat(connection.getInputStream()).hasContent("\"a\"");
+            assertThat(resource.awaitFirstRecordStreamClosed()).isTrue();
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void testIngestStreamRequiresArray() throws IOException {
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/ingest").openConnection();
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.getOutputStream().write("\"a\"".getBytes(StandardCharsets.UTF_8));
+            assertThat(connection.getResponseCode()).isEqualTo(400);
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void testIngestStreamMalformedElement() throws IOException {
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/ingest").openConnection();
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.getOutputStream().write("[\"a\",b,\"c\"]".getBytes(StandardCharsets.UTF_8));
+            assertThat(connection.getResponseCode()).isEqualTo(400);
+            assertThat(connection.getErrorStream())
+                    .asString(StandardCharsets.UTF_8)
+                    .contains("\"errorCode\":\"INVALID_ARGUMENT\"", "\"errorName\":\"Default:InvalidArgument\"");
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void testIngestStreamTruncatedArray() throws IOException {
+        Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));
+        try {
+            int port = TestHelper.getPort(server);
+            HttpURLConnection connection =
+                    (HttpURLConnection) new URL("http://localhost:" + port + "/ingest").openConnection();
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            connection.getOutputStream().write("[\"a\",\"b\"".getBytes(StandardCharsets.UTF_8));
+            assertThat(connection.getResponseCode()).isEqualTo(400);
+            assertThat(connection.getErrorStream())
+                    .asString(StandardCharsets.UTF_8)
+                    .contains("\"errorCode\":\"INVALID_ARGUMENT\"", "\"errorName\":\"Default:InvalidArgument\"");
+        } finally {
+            server.stop();
+        }
+    }
+
     @Test
     void testQueryParam() throws IOException {
         Undertow server = TestHelper.started(ExampleServiceEndpoints.of(new ExampleResource()));